@@ -1,18 +1,37 @@
 package com.loopers.application.brand;
 
 import com.loopers.domain.brand.BrandService;
-import lombok.RequiredArgsConstructor;
+import com.loopers.support.cache.TwoTierCache;
+import com.loopers.support.cache.TwoTierCacheManager;
+import com.loopers.support.cache.TwoTierCacheSpec;
 import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.Duration;
+
 @Component
-@RequiredArgsConstructor
 @Transactional(readOnly = true)
 public class BrandFacade {
 
+    private static final TwoTierCacheSpec BRAND_CACHE_SPEC = new TwoTierCacheSpec(
+            10_000, Duration.ofMinutes(5), Duration.ofHours(1)
+    );
+
     private final BrandService brandService;
+    private final TwoTierCache<BrandInfo> brandCache;
+
+    public BrandFacade(BrandService brandService, TwoTierCacheManager cacheManager) {
+        this.brandService = brandService;
+        this.brandCache = cacheManager.create("brand", BrandInfo.class, BRAND_CACHE_SPEC);
+    }
 
+    @Transactional(propagation = Propagation.SUPPORTS)
     public BrandInfo getBrand(Long id) {
-        return BrandInfo.from(brandService.getBrand(id));
+        return brandCache.get(id, () -> BrandInfo.from(brandService.getBrand(id)));
+    }
+
+    public void evictBrand(Long id) {
+        brandCache.evict(id);
     }
 }
@@ -1,14 +1,29 @@
 package com.loopers.application.like;
 
+import com.loopers.application.product.ProductDetailCache;
+import com.loopers.application.user.LoginUser;
+import com.loopers.domain.like.LikeChangedEvent;
+import com.loopers.domain.like.LikeCursor;
+import com.loopers.domain.like.LikeCursorCondition;
 import com.loopers.domain.like.LikeService;
+import com.loopers.domain.like.LikedProduct;
+import com.loopers.domain.like.PendingLikes;
 import com.loopers.domain.product.Product;
 import com.loopers.domain.product.ProductService;
-import com.loopers.domain.user.User;
 import com.loopers.domain.user.UserService;
+import com.loopers.support.cursor.CursorCodec;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Slice;
 import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
 @Component
 @RequiredArgsConstructor
 @Transactional(readOnly = true)
@@ -17,18 +32,96 @@ public class LikeFacade {
     private final LikeService likeService;
     private final UserService userService;
     private final ProductService productService;
+    private final ProductDetailCache productDetailCache;
+    private final LikeWriteBehindProperties writeBehindProperties;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Transactional
-    public void addLike(String userId, Long productId) {
-        User user = userService.getUserByUserId(userId);
+    public void addLike(LoginUser loginUser, Long productId) {
         Product product = productService.getProduct(productId);
-        likeService.addLike(user, product);
+        boolean changed;
+        if (writeBehindProperties.enabled()) {
+            changed = likeService.bufferLike(loginUser.id(), product.getId());
+        } else {
+            changed = likeService.addLike(userService.getReference(loginUser.id()), product);
+            productDetailCache.evict(productId);
+        }
+        if (changed) {
+            eventPublisher.publishEvent(new LikeChangedEvent(loginUser.id(), productId, product.getBrand().getId(), true));
+        }
     }
 
     @Transactional
-    public void removeLike(String userId, Long productId) {
-        User user = userService.getUserByUserId(userId);
+    public void removeLike(LoginUser loginUser, Long productId) {
         Product product = productService.getProduct(productId);
-        likeService.removeLike(user, product);
+        boolean changed;
+        if (writeBehindProperties.enabled()) {
+            changed = likeService.bufferUnlike(loginUser.id(), product.getId());
+        } else {
+            changed = likeService.removeLike(userService.getReference(loginUser.id()), product);
+            productDetailCache.evict(productId);
+        }
+        if (changed) {
+            eventPublisher.publishEvent(new LikeChangedEvent(loginUser.id(), productId, product.getBrand().getId(), false));
+        }
+    }
+
+    /**
+     * 최근에 좋아요한 순으로 상품을 조회한다. 좋아요 페이지는 인덱스만으로, 상품과 브랜드는 한 번의 IN 쿼리로 가져온다.
+     */
+    public LikedProductListInfo getMyLikes(LoginUser loginUser, LikeGetListCommand command) {
+        LikeCursorCondition condition = new LikeCursorCondition(
+                loginUser.id(),
+                decodeCursor(command.cursor()),
+                command.size()
+        );
+        Slice<LikedProduct> likedProducts = likeService.getLikedProducts(condition);
+
+        List<Long> productIds = likedProducts.getContent().stream()
+                .map(LikedProduct::productId)
+                .toList();
+        Map<Long, Product> productMap = productService.getProductsWithBrand(productIds).stream()
+                .collect(Collectors.toMap(Product::getId, Function.identity()));
+
+        return LikedProductListInfo.of(
+                likedProducts.getContent(),
+                productMap,
+                encodeNextCursor(likedProducts),
+                likedProducts.hasNext()
+        );
+    }
+
+    @Transactional(propagation = Propagation.SUPPORTS)
+    public boolean hasPendingLikes() {
+        return likeService.hasPendingLikes();
+    }
+
+    /**
+     * write-behind 모드에서 쌓인 좋아요 의도를 최대 batchSize 건 반영하고, 좋아요 수가 바뀐 상품의 상세 캐시를 제거한다.
+     *
+     * @return 반영한 의도 수
+     */
+    @Transactional
+    public int flushPendingLikes() {
+        PendingLikes flushed = likeService.flushPendingLikes(writeBehindProperties.batchSize());
+        productDetailCache.evictAll(flushed.productIds());
+        return flushed.size();
+    }
+
+    private LikeCursor decodeCursor(String cursor) {
+        if (cursor == null || cursor.isBlank()) {
+            return null;
+        }
+        List<String> values = CursorCodec.decode(cursor, 2);
+        return new LikeCursor(CursorCodec.parseZonedDateTime(values.get(0)), CursorCodec.parseLong(values.get(1)));
+    }
+
+    private String encodeNextCursor(Slice<LikedProduct> likedProducts) {
+        if (!likedProducts.hasNext()) {
+            return null;
+        }
+        List<LikedProduct> contents = likedProducts.getContent();
+        LikeCursor cursor = LikeCursor.of(contents.get(contents.size() - 1));
+        return CursorCodec.encode(cursor.likedAt().toInstant(), cursor.productId());
     }
 }
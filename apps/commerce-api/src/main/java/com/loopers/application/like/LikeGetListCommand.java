@@ -0,0 +1,7 @@
+package com.loopers.application.like;
+
+public record LikeGetListCommand(
+        String cursor,
+        int size
+) {
+}
@@ -0,0 +1,26 @@
+package com.loopers.application.like;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * @param enabled       true 이면 좋아요 등록/취소를 Redis 에 기록하고 주기적으로 likes 테이블에 일괄 반영한다.
+ * @param flushInterval 반영 주기
+ * @param batchSize     다중 행 INSERT / DELETE 한 번에 담을 최대 행 수
+ */
+@ConfigurationProperties("like.write-behind")
+public record LikeWriteBehindProperties(
+        boolean enabled,
+        Duration flushInterval,
+        int batchSize
+) {
+    public LikeWriteBehindProperties {
+        if (flushInterval == null) {
+            flushInterval = Duration.ofSeconds(1);
+        }
+        if (batchSize <= 0) {
+            batchSize = 1000;
+        }
+    }
+}
@@ -0,0 +1,53 @@
+package com.loopers.application.like;
+
+import com.loopers.domain.like.LikedProduct;
+import com.loopers.domain.product.Product;
+
+import java.time.ZonedDateTime;
+import java.util.List;
+import java.util.Map;
+
+public record LikedProductListInfo(
+        List<LikedProductContent> contents,
+        String nextCursor,
+        boolean hasNext
+) {
+    /**
+     * 좋아요 순서를 유지하며, 그 사이 삭제된 상품은 제외한다.
+     */
+    public static LikedProductListInfo of(
+            List<LikedProduct> likedProducts,
+            Map<Long, Product> productMap,
+            String nextCursor,
+            boolean hasNext
+    ) {
+        List<LikedProductContent> contents = likedProducts.stream()
+                .filter(likedProduct -> productMap.containsKey(likedProduct.productId()))
+                .map(likedProduct -> LikedProductContent.of(productMap.get(likedProduct.productId()), likedProduct.likedAt()))
+                .toList();
+
+        return new LikedProductListInfo(contents, nextCursor, hasNext);
+    }
+
+    public record LikedProductContent(
+            Long productId,
+            String productName,
+            Long price,
+            Long brandId,
+            String brandName,
+            Long likeCount,
+            ZonedDateTime likedAt
+    ) {
+        public static LikedProductContent of(Product product, ZonedDateTime likedAt) {
+            return new LikedProductContent(
+                    product.getId(),
+                    product.getName(),
+                    product.getPriceValue(),
+                    product.getBrand().getId(),
+                    product.getBrand().getName(),
+                    product.getLikeCount(),
+                    likedAt
+            );
+        }
+    }
+}
@@ -0,0 +1,41 @@
+package com.loopers.application.order;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * @param enabled        true 이면 주문을 정산 대기(PENDING)로 접수만 하고, 재고/포인트 정산은 워커가 비동기로 수행한다.
+ * @param workerThreads  정산 워커 스레드 수. 동시에 잡는 행 잠금 수의 상한이 된다.
+ * @param queueCapacity  정산 대기 큐 크기. 가득 차면 스위퍼가 이어서 처리한다.
+ * @param staleAfter     접수 후 이 시간이 지나도 대기 중인 주문은 스위퍼가 다시 정산한다.
+ * @param expireAfter    접수 후 이 시간이 지나도 정산되지 않은 주문은 실패로 확정하고 선점한 재고와 포인트를 되돌린다.
+ * @param sweepBatchSize 스위퍼가 한 번에 다시 넘기는 최대 주문 수
+ */
+@ConfigurationProperties("order.async")
+public record OrderAsyncProperties(
+        boolean enabled,
+        int workerThreads,
+        int queueCapacity,
+        Duration staleAfter,
+        Duration expireAfter,
+        int sweepBatchSize
+) {
+    public OrderAsyncProperties {
+        if (workerThreads <= 0) {
+            workerThreads = 8;
+        }
+        if (queueCapacity <= 0) {
+            queueCapacity = 1000;
+        }
+        if (staleAfter == null) {
+            staleAfter = Duration.ofMinutes(1);
+        }
+        if (expireAfter == null) {
+            expireAfter = Duration.ofMinutes(10);
+        }
+        if (sweepBatchSize <= 0) {
+            sweepBatchSize = 100;
+        }
+    }
+}
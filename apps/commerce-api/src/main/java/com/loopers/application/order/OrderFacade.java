@@ -1,18 +1,33 @@
 package com.loopers.application.order;
 
+import com.loopers.application.product.ProductDetailCache;
+import com.loopers.application.user.LoginUser;
 import com.loopers.domain.order.Order;
+import com.loopers.domain.order.OrderCursor;
+import com.loopers.domain.order.OrderCursorCondition;
+import com.loopers.domain.order.OrderItemSummary;
+import com.loopers.domain.order.OrderLine;
+import com.loopers.domain.order.OrderPlacedEvent;
 import com.loopers.domain.order.OrderService;
+import com.loopers.domain.order.OrderSummary;
 import com.loopers.domain.point.PointService;
 import com.loopers.domain.product.Product;
 import com.loopers.domain.product.ProductService;
+import com.loopers.domain.product.StockReservationService;
 import com.loopers.domain.user.User;
 import com.loopers.domain.user.UserService;
+import com.loopers.support.cursor.CursorCodec;
 import com.loopers.support.error.CoreException;
 import com.loopers.support.error.ErrorType;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Slice;
 import org.springframework.stereotype.Component;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.function.Function;
@@ -26,11 +41,16 @@ public class OrderFacade {
     private final OrderService orderService;
     private final UserService userService;
     private final ProductService productService;
+    private final StockReservationService stockReservationService;
     private final PointService pointService;
+    private final ProductDetailCache productDetailCache;
+    private final ApplicationEventPublisher eventPublisher;
+    private final OrderAsyncProperties orderAsyncProperties;
+    private final OrderFulfillmentWorker orderFulfillmentWorker;
 
     @Transactional
-    public OrderInfo placeOrder(OrderPlaceCommand command) {
-        User user = userService.getUserByUserId(command.userId());
+    public OrderInfo placeOrder(LoginUser loginUser, OrderPlaceCommand command) {
+        User user = userService.getReference(loginUser.id());
 
         List<Long> productIds = command.items().stream()
                 .map(OrderPlaceCommand.OrderItemCommand::productId)
@@ -40,29 +60,68 @@ public class OrderFacade {
         Map<Long, Product> productMap = products.stream()
                 .collect(Collectors.toMap(Product::getId, Function.identity()));
 
-        validateAndDecreaseStock(command.items(), productMap);
-
-        Order order = Order.create(user);
-
-        for (OrderPlaceCommand.OrderItemCommand item : command.items()) {
-            Product product = productMap.get(item.productId());
-            order.addOrderItem(product, item.quantity());
+        if (orderAsyncProperties.enabled()) {
+            return acceptOrder(loginUser, user, command, productMap);
         }
 
-        Long totalAmount = order.getTotalAmountValue();
-        pointService.usePoint(user.getUserIdValue(), totalAmount);
+        Map<Long, Integer> quantities = validateStock(command.items(), productMap);
+        decreaseStock(quantities);
+        productDetailCache.evictAll(productMap.keySet());
 
+        Order order = createOrder(user, command, productMap);
         order.completePayment();
 
         Order savedOrder = orderService.save(order);
 
-        return OrderInfo.from(savedOrder);
+        // 포인트 행 잠금이 커밋 직전까지만 유지되도록 마지막에 차감한다. 잔액이 부족하면 주문 전체가 롤백된다.
+        pointService.usePoint(loginUser.userId(), savedOrder.getTotalAmountValue());
+
+        eventPublisher.publishEvent(OrderPlacedEvent.from(savedOrder));
+
+        return OrderInfo.from(savedOrder, loginUser.userId());
+    }
+
+    /**
+     * 재고와 포인트를 동기 주문과 같은 방식으로 선점한 뒤 정산 대기(PENDING) 주문으로 저장하고 바로 반환한다.
+     * 선점할 수 없으면 접수 단계에서 거절되므로, 접수된 주문은 선점분만큼 정산이 보장된다.
+     * 커밋 후 {@link OrderFulfillmentWorker} 가 선점분으로 정산하며, 정산되지 못하면 선점을 되돌린다.
+     */
+    private OrderInfo acceptOrder(LoginUser loginUser, User user, OrderPlaceCommand command, Map<Long, Product> productMap) {
+        Map<Long, Integer> quantities = validateStock(command.items(), productMap);
+        decreaseStock(quantities);
+        productDetailCache.evictAll(productMap.keySet());
+
+        Order savedOrder = orderService.save(createOrder(user, command, productMap));
+        pointService.usePoint(loginUser.userId(), savedOrder.getTotalAmountValue());
+
+        Long orderId = savedOrder.getId();
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                orderFulfillmentWorker.submit(orderId);
+            }
+        });
+
+        return OrderInfo.from(savedOrder, loginUser.userId());
     }
 
-    private void validateAndDecreaseStock(
+    private Order createOrder(User user, OrderPlaceCommand command, Map<Long, Product> productMap) {
+        Order order = Order.create(user);
+        order.addOrderItems(command.items().stream()
+                .map(item -> new OrderLine(productMap.get(item.productId()), item.quantity()))
+                .toList());
+        return order;
+    }
+
+    /**
+     * 조회한 엔티티로 재고를 먼저 확인해 부족한 상품을 안내하고, 상품별 주문 수량을 합산해 돌려준다.
+     * 엔티티 확인은 동시 주문을 막지 못하므로 최종 판정은 차감 결과를 따른다.
+     */
+    private Map<Long, Integer> validateStock(
             List<OrderPlaceCommand.OrderItemCommand> items,
             Map<Long, Product> productMap
     ) {
+        Map<Long, Integer> quantities = new HashMap<>();
         for (OrderPlaceCommand.OrderItemCommand item : items) {
             Product product = productMap.get(item.productId());
 
@@ -75,23 +134,68 @@ public class OrderFacade {
                         String.format("상품 '%s'의 재고가 부족합니다.", product.getName()));
             }
 
-            product.decreaseStock(item.quantity());
+            quantities.merge(item.productId(), item.quantity(), Integer::sum);
         }
+        return quantities;
     }
 
-    public List<OrderInfo> getMyOrders(String userId) {
-        User user = userService.getUserByUserId(userId);
-        List<Order> orders = orderService.getOrdersByUser(user);
+    /**
+     * 실제 차감은 조건부 UPDATE 로 원자적으로 수행한다.
+     * 재고 선점 대상 상품은 Redis 에서 먼저 차감되며, 이후 결제 실패 등으로 롤백되면 선점이 해제된다.
+     */
+    private void decreaseStock(Map<Long, Integer> quantities) {
+        Map<Long, Integer> remaining = stockReservationService.reserve(quantities);
+        productService.decreaseStocks(remaining);
+    }
 
-        return orders.stream()
-                .map(OrderInfo::from)
+    /**
+     * 최근 주문 순으로 주문 내역을 조회한다. 주문 페이지는 인덱스를 커서 위치부터 읽고, 항목과 상품명은 한 번의 IN 쿼리로 가져온다.
+     * 엔티티를 로딩하지 않고 {@link OrderInfo} 에 필요한 컬럼만 조회한다.
+     */
+    public OrderHistoryInfo getMyOrders(LoginUser loginUser, OrderGetListCommand command) {
+        OrderCursorCondition condition = new OrderCursorCondition(
+                loginUser.id(),
+                decodeCursor(command.cursor()),
+                command.size()
+        );
+        Slice<OrderSummary> summaries = orderService.getOrderSummaries(condition);
+
+        List<Long> orderIds = summaries.getContent().stream()
+                .map(OrderSummary::orderId)
                 .toList();
+        Map<Long, List<OrderItemSummary>> itemsByOrderId = orderService.getItemSummaries(orderIds).stream()
+                .collect(Collectors.groupingBy(OrderItemSummary::orderId));
+
+        return OrderHistoryInfo.of(
+                summaries.getContent(),
+                itemsByOrderId,
+                loginUser.userId(),
+                encodeNextCursor(summaries),
+                summaries.hasNext()
+        );
     }
 
-    public OrderInfo getOrderDetail(Long orderId, String userId) {
-        User user = userService.getUserByUserId(userId);
+    public OrderInfo getOrderDetail(Long orderId, LoginUser loginUser) {
+        User user = userService.getReference(loginUser.id());
         Order order = orderService.getOrderByIdAndUser(orderId, user);
 
-        return OrderInfo.from(order);
+        return OrderInfo.from(order, loginUser.userId());
+    }
+
+    private OrderCursor decodeCursor(String cursor) {
+        if (cursor == null || cursor.isBlank()) {
+            return null;
+        }
+        List<String> values = CursorCodec.decode(cursor, 2);
+        return new OrderCursor(CursorCodec.parseZonedDateTime(values.get(0)), CursorCodec.parseLong(values.get(1)));
+    }
+
+    private String encodeNextCursor(Slice<OrderSummary> summaries) {
+        if (!summaries.hasNext()) {
+            return null;
+        }
+        List<OrderSummary> contents = summaries.getContent();
+        OrderCursor cursor = OrderCursor.of(contents.get(contents.size() - 1));
+        return CursorCodec.encode(cursor.orderedAt().toInstant(), cursor.orderId());
     }
 }
@@ -0,0 +1,62 @@
+package com.loopers.application.order;
+
+import com.loopers.application.product.ProductDetailCache;
+import com.loopers.domain.order.Order;
+import com.loopers.domain.order.OrderFailedEvent;
+import com.loopers.domain.order.OrderItem;
+import com.loopers.domain.order.OrderPlacedEvent;
+import com.loopers.domain.order.OrderService;
+import com.loopers.domain.point.PointService;
+import com.loopers.domain.product.StockReservationService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * 접수 시 선점한 재고와 포인트로 정산 대기(PENDING) 주문을 확정하거나, 실패 처리하며 선점을 되돌린다.
+ * 주문 행을 먼저 잠그므로 같은 주문이 두 번 정산되거나 확정과 실패가 겹치지 않고, 이미 처리된 주문은 건너뛴다.
+ */
+@Component
+@RequiredArgsConstructor
+public class OrderFulfiller {
+
+    private final OrderService orderService;
+    private final StockReservationService stockReservationService;
+    private final PointService pointService;
+    private final ProductDetailCache productDetailCache;
+    private final ApplicationEventPublisher eventPublisher;
+
+    @Transactional
+    public void fulfill(Long orderId) {
+        Order order = orderService.getOrderForUpdate(orderId);
+        if (!order.isPending()) {
+            return;
+        }
+
+        order.completePayment();
+        eventPublisher.publishEvent(OrderPlacedEvent.from(order));
+    }
+
+    @Transactional
+    public void fail(Long orderId, String reason) {
+        Order order = orderService.getOrderForUpdate(orderId);
+        if (!order.isPending()) {
+            return;
+        }
+        order.fail(reason);
+
+        Map<Long, Integer> quantities = new HashMap<>();
+        for (OrderItem item : order.getOrderItems()) {
+            quantities.merge(item.getProduct().getId(), item.getQuantity(), Integer::sum);
+        }
+        stockReservationService.restore(quantities);
+        productDetailCache.evictAll(quantities.keySet());
+        pointService.refundPoint(order.getUser().getUserIdValue(), order.getTotalAmountValue());
+
+        eventPublisher.publishEvent(OrderFailedEvent.from(order));
+    }
+}
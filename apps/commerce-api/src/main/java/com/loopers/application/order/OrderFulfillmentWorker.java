@@ -0,0 +1,106 @@
+package com.loopers.application.order;
+
+import com.loopers.domain.order.OrderService;
+import com.loopers.support.error.CoreException;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Component;
+
+import java.time.ZonedDateTime;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 접수된 주문을 정산 워커 풀에 넘긴다. 요청 스레드는 행 잠금을 기다리지 않고 바로 반환된다.
+ * <p>
+ * 정산이 거절되면 주문을 실패로 확정하며 선점을 되돌리고, 그 외 오류나 큐 포화로 처리되지 못한 주문은 대기 상태로 남아 스위퍼가 다시 넘긴다.
+ * expireAfter 가 지나도록 정산되지 못한 주문은 실패로 확정하여 선점한 재고와 포인트가 묶여 있지 않게 한다.
+ */
+@Slf4j
+@Component
+public class OrderFulfillmentWorker {
+
+    private final OrderFulfiller orderFulfiller;
+    private final OrderService orderService;
+    private final OrderAsyncProperties properties;
+    private final ThreadPoolExecutor executor;
+
+    public OrderFulfillmentWorker(OrderFulfiller orderFulfiller, OrderService orderService, OrderAsyncProperties properties) {
+        this.orderFulfiller = orderFulfiller;
+        this.orderService = orderService;
+        this.properties = properties;
+        this.executor = new ThreadPoolExecutor(
+                properties.workerThreads(),
+                properties.workerThreads(),
+                0L,
+                TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(properties.queueCapacity()),
+                new CustomizableThreadFactory("order-fulfillment-"),
+                new ThreadPoolExecutor.AbortPolicy()
+        );
+    }
+
+    public void submit(Long orderId) {
+        try {
+            executor.execute(() -> process(orderId));
+        } catch (RejectedExecutionException e) {
+            log.warn("정산 대기 큐가 가득 차 스위퍼가 이어서 처리합니다. orderId={}", orderId);
+        }
+    }
+
+    /**
+     * 접수 후 staleAfter 가 지나도록 대기 중인 주문을 다시 워커에 넘긴다.
+     */
+    public int sweep() {
+        List<Long> orderIds = orderService.getPendingOrderIdsCreatedBefore(
+                ZonedDateTime.now().minus(properties.staleAfter()),
+                properties.sweepBatchSize()
+        );
+        orderIds.forEach(this::submit);
+        return orderIds.size();
+    }
+
+    /**
+     * 접수 후 expireAfter 가 지나도록 대기 중인 주문을 실패로 확정하고 선점을 되돌린다.
+     */
+    public int expire() {
+        List<Long> orderIds = orderService.getPendingOrderIdsCreatedBefore(
+                ZonedDateTime.now().minus(properties.expireAfter()),
+                properties.sweepBatchSize()
+        );
+        int expired = 0;
+        for (Long orderId : orderIds) {
+            try {
+                orderFulfiller.fail(orderId, "정산 시간이 초과되었습니다.");
+                expired++;
+            } catch (RuntimeException e) {
+                log.error("정산 만료 주문 처리 실패, 다음 실행에서 다시 시도합니다. orderId={}", orderId, e);
+            }
+        }
+        return expired;
+    }
+
+    void process(Long orderId) {
+        try {
+            try {
+                orderFulfiller.fulfill(orderId);
+            } catch (CoreException e) {
+                orderFulfiller.fail(orderId, e.getMessage());
+            }
+        } catch (RuntimeException e) {
+            log.error("주문 정산 실패, 스위퍼가 다시 시도합니다. orderId={}", orderId, e);
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() throws InterruptedException {
+        executor.shutdown();
+        if (!executor.awaitTermination(10, TimeUnit.SECONDS)) {
+            executor.shutdownNow();
+        }
+    }
+}
@@ -0,0 +1,7 @@
+package com.loopers.application.order;
+
+public record OrderGetListCommand(
+        String cursor,
+        int size
+) {
+}
@@ -0,0 +1,27 @@
+package com.loopers.application.order;
+
+import com.loopers.domain.order.OrderItemSummary;
+import com.loopers.domain.order.OrderSummary;
+
+import java.util.List;
+import java.util.Map;
+
+public record OrderHistoryInfo(
+        List<OrderInfo> contents,
+        String nextCursor,
+        boolean hasNext
+) {
+    public static OrderHistoryInfo of(
+            List<OrderSummary> summaries,
+            Map<Long, List<OrderItemSummary>> itemsByOrderId,
+            String userId,
+            String nextCursor,
+            boolean hasNext
+    ) {
+        List<OrderInfo> contents = summaries.stream()
+                .map(summary -> OrderInfo.of(summary, userId, itemsByOrderId.getOrDefault(summary.orderId(), List.of())))
+                .toList();
+
+        return new OrderHistoryInfo(contents, nextCursor, hasNext);
+    }
+}
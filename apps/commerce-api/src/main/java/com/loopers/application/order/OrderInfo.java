@@ -1,8 +1,10 @@
 package com.loopers.application.order;
 
 import com.loopers.domain.order.Order;
+import com.loopers.domain.order.OrderItemSummary;
 import com.loopers.domain.order.OrderStatus;
 import com.loopers.domain.order.OrderItem;
+import com.loopers.domain.order.OrderSummary;
 
 import java.time.ZonedDateTime;
 import java.util.List;
@@ -13,6 +15,7 @@ public record OrderInfo(
         Long totalAmount,
         OrderStatus status,
         ZonedDateTime paidAt,
+        String failureReason,
         List<OrderItemInfo> items
 ) {
     public record OrderItemInfo(
@@ -31,18 +34,48 @@ public record OrderInfo(
                     item.calculateAmount().getValue()
             );
         }
+
+        public static OrderItemInfo of(OrderItemSummary item) {
+            return new OrderItemInfo(
+                    item.productId(),
+                    item.productName(),
+                    item.quantity(),
+                    item.unitPrice(),
+                    item.totalPrice()
+            );
+        }
     }
 
     public static OrderInfo from(Order order) {
+        return from(order, order.getUser().getUserIdValue());
+    }
+
+    // 요청 사용자가 이미 식별된 경우 user 프록시를 초기화하지 않도록 userId 를 직접 받는다.
+    public static OrderInfo from(Order order, String userId) {
         return new OrderInfo(
                 order.getId(),
-                order.getUser().getUserIdValue(),
+                userId,
                 order.getTotalAmountValue(),
                 order.getStatus(),
                 order.getPaidAt(),
+                order.getFailureReason(),
                 order.getOrderItems().stream()
                         .map(OrderItemInfo::from)
                         .toList()
         );
     }
+
+    public static OrderInfo of(OrderSummary summary, String userId, List<OrderItemSummary> items) {
+        return new OrderInfo(
+                summary.orderId(),
+                userId,
+                summary.totalAmount(),
+                summary.status(),
+                summary.paidAt(),
+                summary.failureReason(),
+                items.stream()
+                        .map(OrderItemInfo::of)
+                        .toList()
+        );
+    }
 }
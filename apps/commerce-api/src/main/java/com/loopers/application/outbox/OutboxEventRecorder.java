@@ -0,0 +1,56 @@
+package com.loopers.application.outbox;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.loopers.domain.like.LikeChangedEvent;
+import com.loopers.domain.order.OrderFailedEvent;
+import com.loopers.domain.order.OrderPlacedEvent;
+import com.loopers.domain.outbox.OutboxEvent;
+import com.loopers.domain.outbox.OutboxEventRepository;
+import com.loopers.domain.point.PointChangedEvent;
+import com.loopers.support.kafka.KafkaTopics;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * 도메인 이벤트를 원본 변경과 같은 트랜잭션에서 outbox 에 기록한다. 기록에 실패하면 원본 변경도 함께 롤백된다.
+ * Kafka 발행은 {@link com.loopers.infrastructure.outbox.OutboxRelay} 가 커밋 이후에 수행한다.
+ */
+@Component
+@RequiredArgsConstructor
+public class OutboxEventRecorder {
+
+    private final OutboxEventRepository outboxEventRepository;
+    private final ObjectMapper objectMapper;
+
+    @TransactionalEventListener(phase = TransactionPhase.BEFORE_COMMIT)
+    public void onLikeChanged(LikeChangedEvent event) {
+        record(KafkaTopics.CATALOG_EVENTS, event.productId(), "LIKE_CHANGED", event);
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.BEFORE_COMMIT)
+    public void onOrderPlaced(OrderPlacedEvent event) {
+        record(KafkaTopics.ORDER_EVENTS, event.orderId(), "ORDER_PLACED", event);
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.BEFORE_COMMIT)
+    public void onOrderFailed(OrderFailedEvent event) {
+        record(KafkaTopics.ORDER_EVENTS, event.orderId(), "ORDER_FAILED", event);
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.BEFORE_COMMIT)
+    public void onPointChanged(PointChangedEvent event) {
+        record(KafkaTopics.POINT_EVENTS, event.userId(), "POINT_" + event.type().name(), event);
+    }
+
+    private void record(String topic, Object aggregateKey, String eventType, Object payload) {
+        try {
+            String json = objectMapper.writeValueAsString(payload);
+            outboxEventRepository.save(OutboxEvent.create(topic, String.valueOf(aggregateKey), eventType, json));
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("outbox 이벤트 직렬화 실패 : " + eventType, e);
+        }
+    }
+}
@@ -1,6 +1,6 @@
 package com.loopers.application.point;
 
-import com.loopers.domain.point.Point;
+import com.loopers.application.user.LoginUser;
 import com.loopers.domain.point.PointService;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Component;
@@ -18,8 +18,8 @@ public class PointFacade {
     }
 
     @Transactional(readOnly = true)
-    public Point getPoint(String userId) {
-        return pointService.getPoint(userId);
+    public Long getBalance(LoginUser loginUser) {
+        return pointService.getBalance(loginUser.userId());
     }
 
     @Transactional
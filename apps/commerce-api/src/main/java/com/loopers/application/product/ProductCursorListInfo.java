@@ -0,0 +1,33 @@
+package com.loopers.application.product;
+
+import com.loopers.domain.product.Product;
+import org.springframework.data.domain.Slice;
+
+import java.util.List;
+import java.util.Set;
+
+public record ProductCursorListInfo(
+        List<ProductListInfo.ProductContent> contents,
+        String nextCursor,
+        boolean hasNext
+) {
+    public static ProductCursorListInfo of(Slice<Product> productSlice, String nextCursor) {
+        List<ProductListInfo.ProductContent> contents = productSlice.getContent().stream()
+                .map(ProductListInfo.ProductContent::from)
+                .toList();
+
+        return new ProductCursorListInfo(
+                contents,
+                nextCursor,
+                productSlice.hasNext()
+        );
+    }
+
+    public ProductCursorListInfo withLikedProductIds(Set<Long> likedProductIds) {
+        return new ProductCursorListInfo(
+                ProductListInfo.ProductContent.withLiked(contents, likedProductIds),
+                nextCursor,
+                hasNext
+        );
+    }
+}
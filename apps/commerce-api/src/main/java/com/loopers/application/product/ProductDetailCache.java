@@ -0,0 +1,247 @@
+package com.loopers.application.product;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.loopers.config.redis.RedisConfig;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
+
+/**
+ * 상품 상세 정보를 Redis 에 read-through 방식으로 캐싱한다.
+ * <p>
+ * 만료 시각이 몰리지 않도록 TTL 에 지터를 더하고, 만료 직전에는 키별 락을 획득한 요청 하나만 DB 에서 다시 적재한다.
+ * 락을 얻지 못한 요청은 기존 값을 그대로 사용하거나(갱신 중), 잠시 대기 후 캐시를 다시 확인한다(미스).
+ * <p>
+ * 제거할 때마다 키별 버전을 올리고, 적재 전에 읽은 버전이 그대로일 때만 값을 저장한다.
+ * 적재 도중 제거가 일어나면 제거 전에 읽은 값이 캐시에 다시 쓰이지 않는다.
+ */
+@Slf4j
+@Component
+public class ProductDetailCache {
+
+    private static final String KEY_PREFIX = "product:detail:v1:";
+    private static final String LOCK_KEY_PREFIX = "product:detail:lock:";
+    private static final String VERSION_KEY_PREFIX = "product:detail:version:";
+
+    private static final Duration TTL = Duration.ofMinutes(10);
+    private static final Duration TTL_JITTER = Duration.ofMinutes(2);
+    private static final Duration REFRESH_AHEAD = Duration.ofMinutes(1); // 만료 1분 전부터 미리 갱신
+    private static final Duration LOCK_TTL = Duration.ofSeconds(3);
+    private static final int LOCK_WAIT_RETRIES = 5;
+    private static final long LOCK_WAIT_MILLIS = 50;
+    private static final Duration VERSION_TTL = Duration.ofHours(1); // 진행 중인 적재보다 충분히 길게 유지
+
+    private static final RedisScript<Long> UNLOCK_SCRIPT = new DefaultRedisScript<>(
+            "if redis.call('get', KEYS[1]) == ARGV[1] then return redis.call('del', KEYS[1]) else return 0 end",
+            Long.class
+    );
+
+    // KEYS = [값 키, 버전 키, ...], ARGV[1] = 버전 키 TTL(ms)
+    private static final RedisScript<Long> EVICT_SCRIPT = new DefaultRedisScript<>(
+            "for i = 1, #KEYS, 2 do " +
+                    "redis.call('del', KEYS[i]) " +
+                    "redis.call('incr', KEYS[i + 1]) " +
+                    "redis.call('pexpire', KEYS[i + 1], ARGV[1]) " +
+                    "end " +
+                    "return #KEYS / 2",
+            Long.class
+    );
+
+    // KEYS = [값 키, 버전 키], ARGV = [적재 전 버전('' 이면 없음), 값, TTL(ms)]
+    private static final RedisScript<Long> WRITE_SCRIPT = new DefaultRedisScript<>(
+            "local version = redis.call('get', KEYS[2]) or '' " +
+                    "if version ~= ARGV[1] then return 0 end " +
+                    "redis.call('set', KEYS[1], ARGV[2], 'PX', ARGV[3]) " +
+                    "return 1",
+            Long.class
+    );
+
+    private final RedisTemplate<String, String> readTemplate;
+    private final RedisTemplate<String, String> writeTemplate;
+    private final ObjectMapper objectMapper;
+
+    public ProductDetailCache(
+            RedisTemplate<String, String> defaultRedisTemplate,
+            @Qualifier(RedisConfig.REDIS_TEMPLATE_MASTER) RedisTemplate<String, String> masterRedisTemplate,
+            ObjectMapper objectMapper
+    ) {
+        this.readTemplate = defaultRedisTemplate;
+        this.writeTemplate = masterRedisTemplate;
+        this.objectMapper = objectMapper;
+    }
+
+    public ProductDetailInfo get(Long productId, Supplier<ProductDetailInfo> loader) {
+        CacheEntry entry = read(productId);
+        if (entry != null) {
+            if (entry.needsRefresh()) {
+                String token = tryLock(productId);
+                if (token != null) {
+                    return reload(productId, token, loader);
+                }
+            }
+            return entry.data();
+        }
+
+        for (int i = 0; i < LOCK_WAIT_RETRIES; i++) {
+            String token = tryLock(productId);
+            if (token != null) {
+                return reload(productId, token, loader);
+            }
+            sleep();
+            entry = read(productId);
+            if (entry != null) {
+                return entry.data();
+            }
+        }
+        return loader.get();
+    }
+
+    /**
+     * 트랜잭션 안에서 호출되면 커밋 이후에 제거하여, 커밋 전 데이터로 캐시가 다시 채워지는 것을 막는다.
+     */
+    public void evict(Long productId) {
+        evictAll(List.of(productId));
+    }
+
+    public void evictAll(Collection<Long> productIds) {
+        List<String> keys = productIds.stream()
+                .flatMap(productId -> Stream.of(key(productId), versionKey(productId)))
+                .toList();
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    delete(keys);
+                }
+            });
+            return;
+        }
+        delete(keys);
+    }
+
+    private ProductDetailInfo reload(Long productId, String token, Supplier<ProductDetailInfo> loader) {
+        try {
+            String version = readVersion(productId);
+            ProductDetailInfo data = loader.get();
+            if (version != null) {
+                write(productId, version, data);
+            }
+            return data;
+        } finally {
+            unlock(productId, token);
+        }
+    }
+
+    private CacheEntry read(Long productId) {
+        try {
+            String value = readTemplate.opsForValue().get(key(productId));
+            return value != null ? objectMapper.readValue(value, CacheEntry.class) : null;
+        } catch (Exception e) {
+            log.warn("상품 상세 캐시 조회 실패 : productId={}", productId, e);
+            return null;
+        }
+    }
+
+    /**
+     * 버전을 읽지 못하면 null 을 반환하고, 이때는 적재한 값을 캐시에 쓰지 않는다.
+     */
+    private String readVersion(Long productId) {
+        try {
+            String version = writeTemplate.opsForValue().get(versionKey(productId));
+            return version != null ? version : "";
+        } catch (Exception e) {
+            log.warn("상품 상세 캐시 버전 조회 실패 : productId={}", productId, e);
+            return null;
+        }
+    }
+
+    private void write(Long productId, String version, ProductDetailInfo data) {
+        long now = System.currentTimeMillis();
+        Duration ttl = TTL.plusMillis(ThreadLocalRandom.current().nextLong(TTL_JITTER.toMillis()));
+        CacheEntry entry = new CacheEntry(data, now + ttl.minus(REFRESH_AHEAD).toMillis());
+        try {
+            writeTemplate.execute(
+                    WRITE_SCRIPT,
+                    List.of(key(productId), versionKey(productId)),
+                    version,
+                    objectMapper.writeValueAsString(entry),
+                    String.valueOf(ttl.toMillis())
+            );
+        } catch (JsonProcessingException e) {
+            log.warn("상품 상세 캐시 직렬화 실패 : productId={}", productId, e);
+        } catch (Exception e) {
+            log.warn("상품 상세 캐시 저장 실패 : productId={}", productId, e);
+        }
+    }
+
+    private void delete(List<String> keys) {
+        try {
+            writeTemplate.execute(EVICT_SCRIPT, keys, String.valueOf(VERSION_TTL.toMillis()));
+        } catch (Exception e) {
+            log.warn("상품 상세 캐시 제거 실패 : keys={}", keys, e);
+        }
+    }
+
+    private String tryLock(Long productId) {
+        String token = UUID.randomUUID().toString();
+        try {
+            Boolean acquired = writeTemplate.opsForValue().setIfAbsent(lockKey(productId), token, LOCK_TTL);
+            return Boolean.TRUE.equals(acquired) ? token : null;
+        } catch (Exception e) {
+            log.warn("상품 상세 캐시 락 획득 실패 : productId={}", productId, e);
+            return null;
+        }
+    }
+
+    private void unlock(Long productId, String token) {
+        try {
+            writeTemplate.execute(UNLOCK_SCRIPT, List.of(lockKey(productId)), token);
+        } catch (Exception e) {
+            log.warn("상품 상세 캐시 락 해제 실패 : productId={}", productId, e);
+        }
+    }
+
+    private void sleep() {
+        try {
+            Thread.sleep(LOCK_WAIT_MILLIS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static String key(Long productId) {
+        return KEY_PREFIX + productId;
+    }
+
+    private static String lockKey(Long productId) {
+        return LOCK_KEY_PREFIX + productId;
+    }
+
+    private static String versionKey(Long productId) {
+        return VERSION_KEY_PREFIX + productId;
+    }
+
+    record CacheEntry(
+            @JsonProperty("d") ProductDetailInfo data,
+            @JsonProperty("r") long refreshAt
+    ) {
+        boolean needsRefresh() {
+            return System.currentTimeMillis() >= refreshAt;
+        }
+    }
+}
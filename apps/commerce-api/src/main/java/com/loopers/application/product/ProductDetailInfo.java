@@ -9,9 +9,10 @@ public record ProductDetailInfo(
         Integer stock,
         Long brandId,
         String brandName,
-        Long likeCount
+        Long likeCount,
+        Boolean isLiked // 사용자 식별 정보가 없으면 null
 ) {
-    public static ProductDetailInfo of(Product product, Long likeCount) {
+    public static ProductDetailInfo from(Product product) {
         return new ProductDetailInfo(
                 product.getId(),
                 product.getName(),
@@ -19,7 +20,12 @@ public record ProductDetailInfo(
                 product.getStockValue(),
                 product.getBrand().getId(),
                 product.getBrand().getName(),
-                likeCount
+                product.getLikeCount(),
+                null
         );
     }
+
+    public ProductDetailInfo withLiked(boolean liked) {
+        return new ProductDetailInfo(productId, productName, price, stock, brandId, brandName, likeCount, liked);
+    }
 }
@@ -1,16 +1,25 @@
 package com.loopers.application.product;
 
-import com.loopers.domain.brand.BrandService;
+import com.loopers.application.user.LoginUser;
 import com.loopers.domain.like.LikeService;
 import com.loopers.domain.product.Product;
+import com.loopers.domain.product.ProductCursor;
+import com.loopers.domain.product.ProductCursorCondition;
 import com.loopers.domain.product.ProductSearchCondition;
 import com.loopers.domain.product.ProductService;
+import com.loopers.domain.product.ProductSortType;
+import com.loopers.support.cursor.CursorCodec;
+import com.loopers.support.error.CoreException;
+import com.loopers.support.error.ErrorType;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Slice;
 import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
-import java.util.Map;
+import java.util.List;
+import java.util.Set;
 
 @Component
 @RequiredArgsConstructor
@@ -18,22 +27,76 @@ import java.util.Map;
 public class ProductFacade {
 
     private final ProductService productService;
+    private final ProductDetailCache productDetailCache;
     private final LikeService likeService;
 
-    public ProductDetailInfo getProductDetail(Long productId) {
-        Product product = productService.getProduct(productId);
-        Long likeCount = likeService.getLikeCount(product);
-        return ProductDetailInfo.of(product, likeCount);
+    // 캐시 히트 시 DB 커넥션을 점유하지 않도록 트랜잭션을 시작하지 않는다. 적재는 ProductService 의 트랜잭션에서 수행된다.
+    // 좋아요 여부는 사용자마다 다르므로 캐시에 담지 않고 조회 후에 채운다.
+    @Transactional(propagation = Propagation.SUPPORTS)
+    public ProductDetailInfo getProductDetail(Long productId, LoginUser loginUser) {
+        ProductDetailInfo info = productDetailCache.get(productId, () ->
+                ProductDetailInfo.from(productService.getProductWithBrand(productId))
+        );
+        if (loginUser == null) {
+            return info;
+        }
+        return info.withLiked(likeService.isLiked(loginUser.id(), productId));
     }
 
-    public ProductListInfo getProducts(ProductGetListCommand command) {
+    public ProductListInfo getProducts(ProductGetListCommand command, LoginUser loginUser) {
         ProductSearchCondition condition = new ProductSearchCondition(
                 command.brandId(),
+                command.sortType(),
                 command.pageable()
         );
 
         Page<Product> productPage = productService.getProducts(condition);
-        Map<Long, Long> likeCountMap = likeService.getLikeCounts(productPage.getContent());
-        return ProductListInfo.of(productPage, likeCountMap);
+        ProductListInfo info = ProductListInfo.of(productPage);
+        if (loginUser == null) {
+            return info;
+        }
+        return info.withLikedProductIds(findLikedProductIds(loginUser, productPage.getContent()));
+    }
+
+    public ProductCursorListInfo getProductsByCursor(ProductGetCursorListCommand command, LoginUser loginUser) {
+        ProductSortType sortType = command.sortType() != null ? command.sortType() : ProductSortType.LATEST;
+        ProductCursorCondition condition = new ProductCursorCondition(
+                command.brandId(),
+                sortType,
+                decodeCursor(command.cursor(), sortType),
+                command.size()
+        );
+
+        Slice<Product> productSlice = productService.getProductsByCursor(condition);
+        ProductCursorListInfo info = ProductCursorListInfo.of(productSlice, encodeNextCursor(productSlice, sortType));
+        if (loginUser == null) {
+            return info;
+        }
+        return info.withLikedProductIds(findLikedProductIds(loginUser, productSlice.getContent()));
+    }
+
+    private Set<Long> findLikedProductIds(LoginUser loginUser, List<Product> products) {
+        List<Long> productIds = products.stream().map(Product::getId).toList();
+        return likeService.findLikedProductIds(loginUser.id(), productIds);
+    }
+
+    private ProductCursor decodeCursor(String cursor, ProductSortType sortType) {
+        if (cursor == null || cursor.isBlank()) {
+            return null;
+        }
+        List<String> values = CursorCodec.decode(cursor, 3);
+        if (!sortType.name().equals(values.get(0))) {
+            throw new CoreException(ErrorType.BAD_REQUEST, "정렬 조건이 커서와 일치하지 않습니다.");
+        }
+        return new ProductCursor(CursorCodec.parseLong(values.get(1)), CursorCodec.parseLong(values.get(2)));
+    }
+
+    private String encodeNextCursor(Slice<Product> productSlice, ProductSortType sortType) {
+        if (!productSlice.hasNext()) {
+            return null;
+        }
+        List<Product> products = productSlice.getContent();
+        ProductCursor cursor = ProductCursor.of(sortType, products.get(products.size() - 1));
+        return CursorCodec.encode(sortType.name(), cursor.sortValue(), cursor.id());
     }
 }
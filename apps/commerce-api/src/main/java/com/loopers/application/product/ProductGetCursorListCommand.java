@@ -0,0 +1,11 @@
+package com.loopers.application.product;
+
+import com.loopers.domain.product.ProductSortType;
+
+public record ProductGetCursorListCommand(
+        Long brandId,
+        ProductSortType sortType,
+        String cursor,
+        int size
+) {
+}
@@ -1,9 +1,11 @@
 package com.loopers.application.product;
 
+import com.loopers.domain.product.ProductSortType;
 import org.springframework.data.domain.Pageable;
 
 public record ProductGetListCommand(
         Long brandId,
+        ProductSortType sortType,
         Pageable pageable
 ) {
 }
@@ -4,7 +4,7 @@ import com.loopers.domain.product.Product;
 import org.springframework.data.domain.Page;
 
 import java.util.List;
-import java.util.Map;
+import java.util.Set;
 
 public record ProductListInfo(
         List<ProductContent> contents,
@@ -13,12 +13,9 @@ public record ProductListInfo(
         long totalElements,
         int totalPages
 ) {
-    public static ProductListInfo of(Page<Product> productPage, Map<Long, Long> likeCountMap) {
+    public static ProductListInfo of(Page<Product> productPage) {
         List<ProductContent> contents = productPage.getContent().stream()
-                .map(product -> ProductContent.of(
-                        product,
-                        likeCountMap.getOrDefault(product.getId(), 0L))
-                )
+                .map(ProductContent::from)
                 .toList();
 
         return new ProductListInfo(
@@ -30,23 +27,49 @@ public record ProductListInfo(
         );
     }
 
+    public ProductListInfo withLikedProductIds(Set<Long> likedProductIds) {
+        return new ProductListInfo(
+                ProductContent.withLiked(contents, likedProductIds),
+                page,
+                size,
+                totalElements,
+                totalPages
+        );
+    }
+
     public record ProductContent(
             Long id,
             String name,
             Long price,
             Long brandId,
             String brandName,
-            Long likeCount
+            Long likeCount,
+            Boolean isLiked // 사용자 식별 정보가 없으면 null
     ) {
-        public static ProductContent of(Product product, Long likeCount) {
+        public static ProductContent from(Product product) {
             return new ProductContent(
                     product.getId(),
                     product.getName(),
                     product.getPriceValue(),
                     product.getBrand().getId(),
                     product.getBrand().getName(),
-                    likeCount
+                    product.getLikeCount(),
+                    null
             );
         }
+
+        static List<ProductContent> withLiked(List<ProductContent> contents, Set<Long> likedProductIds) {
+            return contents.stream()
+                    .map(content -> new ProductContent(
+                            content.id(),
+                            content.name(),
+                            content.price(),
+                            content.brandId(),
+                            content.brandName(),
+                            content.likeCount(),
+                            likedProductIds.contains(content.id())
+                    ))
+                    .toList();
+        }
     }
 }
@@ -0,0 +1,41 @@
+package com.loopers.application.ranking;
+
+import com.loopers.domain.like.LikeChangedEvent;
+import com.loopers.domain.order.OrderPlacedEvent;
+import com.loopers.domain.ranking.RankingService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Instant;
+
+/**
+ * 커밋된 좋아요/주문만 랭킹에 반영한다. 랭킹 반영 실패가 요청 결과에 영향을 주지 않도록 예외는 기록만 하고, 누락분은 재구축 작업이 채운다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class RankingEventListener {
+
+    private final RankingService rankingService;
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onLikeChanged(LikeChangedEvent event) {
+        try {
+            rankingService.recordLike(event, Instant.now());
+        } catch (Exception e) {
+            log.warn("좋아요 랭킹 반영 실패: productId={}", event.productId(), e);
+        }
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onOrderPlaced(OrderPlacedEvent event) {
+        try {
+            rankingService.recordOrder(event, Instant.now());
+        } catch (Exception e) {
+            log.warn("주문 랭킹 반영 실패: orderId={}", event.orderId(), e);
+        }
+    }
+}
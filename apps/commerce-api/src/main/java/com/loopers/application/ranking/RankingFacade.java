@@ -0,0 +1,38 @@
+package com.loopers.application.ranking;
+
+import com.loopers.domain.product.Product;
+import com.loopers.domain.product.ProductService;
+import com.loopers.domain.ranking.RankedProduct;
+import com.loopers.domain.ranking.RankingService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+@Component
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class RankingFacade {
+
+    private final RankingService rankingService;
+    private final ProductService productService;
+
+    /**
+     * @param brandId null 이면 전체 랭킹
+     */
+    public RankingInfo getTrendingProducts(Long brandId, int size) {
+        List<RankedProduct> rankedProducts = rankingService.getTopProducts(brandId, size);
+        if (rankedProducts.isEmpty()) {
+            return new RankingInfo(List.of());
+        }
+
+        List<Long> productIds = rankedProducts.stream().map(RankedProduct::productId).toList();
+        Map<Long, Product> productMap = productService.getProductsWithBrand(productIds).stream()
+                .collect(Collectors.toMap(Product::getId, Function.identity()));
+        return RankingInfo.of(rankedProducts, productMap);
+    }
+}
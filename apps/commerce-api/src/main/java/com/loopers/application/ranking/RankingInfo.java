@@ -0,0 +1,44 @@
+package com.loopers.application.ranking;
+
+import com.loopers.domain.product.Product;
+import com.loopers.domain.ranking.RankedProduct;
+
+import java.util.List;
+import java.util.Map;
+
+public record RankingInfo(
+        List<RankingContent> contents
+) {
+    /**
+     * 랭킹 순서를 유지하며, 그 사이 삭제된 상품은 제외한다.
+     */
+    public static RankingInfo of(List<RankedProduct> rankedProducts, Map<Long, Product> productMap) {
+        List<RankingContent> contents = rankedProducts.stream()
+                .filter(rankedProduct -> productMap.containsKey(rankedProduct.productId()))
+                .map(rankedProduct -> RankingContent.of(productMap.get(rankedProduct.productId()), rankedProduct.score()))
+                .toList();
+        return new RankingInfo(contents);
+    }
+
+    public record RankingContent(
+            Long productId,
+            String productName,
+            Long price,
+            Long brandId,
+            String brandName,
+            Long likeCount,
+            double score
+    ) {
+        public static RankingContent of(Product product, double score) {
+            return new RankingContent(
+                    product.getId(),
+                    product.getName(),
+                    product.getPriceValue(),
+                    product.getBrand().getId(),
+                    product.getBrand().getName(),
+                    product.getLikeCount(),
+                    score
+            );
+        }
+    }
+}
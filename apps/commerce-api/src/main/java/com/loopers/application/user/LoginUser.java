@@ -0,0 +1,25 @@
+package com.loopers.application.user;
+
+import com.loopers.domain.user.Gender;
+import com.loopers.domain.user.User;
+
+/**
+ * X-USER-ID 헤더로 식별된 요청 사용자. 가입 후 변하지 않는 정보만 담아 요청 간에 캐싱할 수 있다.
+ */
+public record LoginUser(
+        Long id,
+        String userId,
+        String email,
+        String birthDate,
+        Gender gender
+) {
+    public static LoginUser from(User user) {
+        return new LoginUser(
+                user.getId(),
+                user.getUserIdValue(),
+                user.getEmailValue(),
+                user.getBirthDateValue(),
+                user.getGender()
+        );
+    }
+}
@@ -0,0 +1,33 @@
+package com.loopers.application.user;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.loopers.domain.user.UserService;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+/**
+ * userId 로 요청 사용자를 식별한다. 식별 결과는 노드 로컬 캐시에 보관하여 인증이 필요한 요청마다 users 를 조회하지 않도록 한다.
+ * 존재하지 않는 사용자는 캐싱하지 않으므로 가입 직후에도 바로 식별된다.
+ */
+@Component
+public class LoginUserResolver {
+
+    private static final long MAXIMUM_SIZE = 100_000;
+    private static final Duration TTL = Duration.ofMinutes(10);
+
+    private final UserService userService;
+    private final Cache<String, LoginUser> cache = Caffeine.newBuilder()
+            .maximumSize(MAXIMUM_SIZE)
+            .expireAfterWrite(TTL)
+            .build();
+
+    public LoginUserResolver(UserService userService) {
+        this.userService = userService;
+    }
+
+    public LoginUser resolve(String userId) {
+        return cache.get(userId, key -> LoginUser.from(userService.getUserByUserId(key)));
+    }
+}
@@ -28,8 +28,7 @@ public class UserFacade {
         return UserInfo.from(user);
     }
 
-    public UserInfo getUserInfo(String userId) {
-        User user = userService.getUserByUserId(userId);
-        return UserInfo.from(user);
+    public UserInfo getUserInfo(LoginUser loginUser) {
+        return UserInfo.from(loginUser);
     }
 }
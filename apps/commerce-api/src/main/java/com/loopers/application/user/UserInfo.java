@@ -10,6 +10,15 @@ public record UserInfo(
         String birthDate,
         Gender gender
 ) {
+    public static UserInfo from(LoginUser loginUser) {
+        return new UserInfo(
+                loginUser.userId(),
+                loginUser.email(),
+                loginUser.birthDate(),
+                loginUser.gender()
+        );
+    }
+
     public static UserInfo from(User user) {
         return new UserInfo(
                 user.getUserIdValue(),
@@ -10,7 +10,11 @@ import lombok.NoArgsConstructor;
 
 @Entity
 @Getter
-@Table(name = "likes")
+@Table(name = "likes", uniqueConstraints = {
+        @UniqueConstraint(name = "uk_likes_user_product", columnNames = {"user_id", "product_id"})
+}, indexes = {
+        @Index(name = "idx_likes_user_created_product", columnList = "user_id, created_at, product_id")
+})
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 public class Like extends BaseEntity {
 
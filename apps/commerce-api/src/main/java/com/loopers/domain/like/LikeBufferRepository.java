@@ -0,0 +1,23 @@
+package com.loopers.domain.like;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * write-behind 모드에서 좋아요 등록/취소 의도를 모아두는 저장소.
+ * 같은 사용자 × 상품에 대해서는 마지막 의도만 남는다.
+ */
+public interface LikeBufferRepository {
+    Optional<Boolean> add(LikeKey key); // 기록 전에 대기 중이던 의도를 반환한다. empty 면 대기 없음
+    Optional<Boolean> remove(LikeKey key);
+    Optional<Boolean> findPendingState(LikeKey key); // true: 등록 대기, false: 취소 대기, empty: 대기 없음
+    Map<LikeKey, Boolean> findPendingStates(List<LikeKey> keys); // 대기 중인 의도가 있는 키만 담는다
+
+    boolean tryLockFlush(Duration ttl);
+    void unlockFlush();
+    boolean hasPending(); // 대기 중이거나 반영 중인 의도가 있는지 여부
+    PendingLikes drain(int limit); // 대기 중인 의도를 최대 limit 건 반영 중 영역으로 옮겨 반환, 이전 반영분이 남아 있으면 그것을 반환
+    void completeDrain();
+}
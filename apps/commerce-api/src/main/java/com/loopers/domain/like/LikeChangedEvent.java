@@ -0,0 +1,12 @@
+package com.loopers.domain.like;
+
+/**
+ * 좋아요 상태가 실제로 바뀌었을 때 발행된다.
+ */
+public record LikeChangedEvent(
+        Long userId,
+        Long productId,
+        Long brandId,
+        boolean liked
+) {
+}
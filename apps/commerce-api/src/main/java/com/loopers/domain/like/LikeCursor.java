@@ -0,0 +1,15 @@
+package com.loopers.domain.like;
+
+import java.time.ZonedDateTime;
+
+/**
+ * 이전 페이지 마지막 좋아요의 (좋아요 시각, 상품 id).
+ */
+public record LikeCursor(
+        ZonedDateTime likedAt,
+        Long productId
+) {
+    public static LikeCursor of(LikedProduct likedProduct) {
+        return new LikeCursor(likedProduct.likedAt(), likedProduct.productId());
+    }
+}
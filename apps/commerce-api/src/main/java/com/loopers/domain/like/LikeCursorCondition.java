@@ -0,0 +1,18 @@
+package com.loopers.domain.like;
+
+import com.loopers.support.error.CoreException;
+import com.loopers.support.error.ErrorType;
+
+public record LikeCursorCondition(
+        Long userId,
+        LikeCursor cursor,
+        int size
+) {
+    private static final int MAX_SIZE = 100;
+
+    public LikeCursorCondition {
+        if (size <= 0 || size > MAX_SIZE) {
+            throw new CoreException(ErrorType.BAD_REQUEST, "페이지 크기는 1 이상 " + MAX_SIZE + " 이하여야 합니다.");
+        }
+    }
+}
@@ -0,0 +1,18 @@
+package com.loopers.domain.like;
+
+/**
+ * 사용자 × 상품 좋아요 식별자.
+ */
+public record LikeKey(
+        Long userId,
+        Long productId
+) {
+    public static LikeKey parse(String value) {
+        int separator = value.indexOf(':');
+        return new LikeKey(Long.valueOf(value.substring(0, separator)), Long.valueOf(value.substring(separator + 1)));
+    }
+
+    public String serialize() {
+        return userId + ":" + productId;
+    }
+}
@@ -3,15 +3,23 @@ package com.loopers.domain.like;
 import com.loopers.domain.product.Product;
 import com.loopers.domain.user.User;
 
+import org.springframework.data.domain.Slice;
+
+import java.util.Collection;
 import java.util.List;
 import java.util.Map;
-import java.util.Optional;
+import java.util.Set;
 
 public interface LikeRepository {
     Like save(Like like);
-    void delete(Like like);
-    Optional<Like> findByUserAndProduct(User user, Product product);
+    boolean insertIgnore(Long userId, Long productId); // 새로 저장된 경우에만 true
+    boolean delete(Long userId, Long productId); // 실제로 삭제된 경우에만 true
     boolean existsByUserAndProduct(User user, Product product);
     Long countByProduct(Product product);
     Map<Long, Long> findLikeCounts(List<Product> products);
+    boolean existsByUserIdAndProductId(Long userId, Long productId);
+    Set<Long> findLikedProductIds(Long userId, Collection<Long> productIds);
+    Slice<LikedProduct> findLikedProducts(LikeCursorCondition condition); // 최근 좋아요 순, count 쿼리 없이 커서 이후 조회
+    int insertIgnoreAll(Collection<LikeKey> keys); // 이미 존재하는 좋아요는 건너뛴다
+    int deleteAll(Collection<LikeKey> keys);
 }
@@ -1,34 +1,55 @@
 package com.loopers.domain.like;
 
 import com.loopers.domain.product.Product;
+import com.loopers.domain.product.ProductRepository;
 import com.loopers.domain.user.User;
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Slice;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
+import java.time.Duration;
+import java.util.Collection;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 
 @Service
 @RequiredArgsConstructor
 @Transactional(readOnly = true)
 public class LikeService {
 
+    private static final Duration FLUSH_LOCK_TTL = Duration.ofSeconds(30);
+
     private final LikeRepository likeRepository;
+    private final LikeBufferRepository likeBufferRepository;
+    private final ProductRepository productRepository;
 
+    /**
+     * 좋아요 상태가 실제로 바뀐 경우에만 좋아요 수를 조정하여, 동시에 들어온 중복 요청이 수를 부풀리지 않게 한다.
+     *
+     * @return 좋아요 상태가 바뀌었는지 여부
+     */
     @Transactional
-    public void addLike(User user, Product product) {
-        if (likeRepository.existsByUserAndProduct(user, product)) {
-            return;
+    public boolean addLike(User user, Product product) {
+        if (!likeRepository.insertIgnore(user.getId(), product.getId())) {
+            return false;
         }
-        Like like = Like.create(user, product);
-        likeRepository.save(like);
+        productRepository.increaseLikeCount(product.getId());
+        return true;
     }
 
     @Transactional
-    public void removeLike(User user, Product product) {
-        likeRepository.findByUserAndProduct(user, product)
-                .ifPresent(likeRepository::delete);
+    public boolean removeLike(User user, Product product) {
+        if (!likeRepository.delete(user.getId(), product.getId())) {
+            return false;
+        }
+        productRepository.decreaseLikeCount(product.getId());
+        return true;
     }
 
     public Long getLikeCount(Product product) {
@@ -38,4 +59,103 @@ public class LikeService {
     public Map<Long, Long> getLikeCounts(List<Product> products) {
         return likeRepository.findLikeCounts(products);
     }
+
+    public Slice<LikedProduct> getLikedProducts(LikeCursorCondition condition) {
+        return likeRepository.findLikedProducts(condition);
+    }
+
+    /**
+     * write-behind 모드의 좋아요 등록. 의도만 기록하고 likes 반영은 {@link #flushPendingLikes(int)} 에서 일괄 처리한다.
+     * 기록 전의 대기 의도가 없으면 likes 를 확인하여, 이미 반영된 좋아요를 다시 누른 경우를 변경으로 보지 않는다.
+     *
+     * @return 대기 의도와 저장된 좋아요를 합친 실제 상태가 바뀌었는지 여부
+     */
+    public boolean bufferLike(Long userId, Long productId) {
+        return likeBufferRepository.add(new LikeKey(userId, productId))
+                .map(pendingLiked -> !pendingLiked)
+                .orElseGet(() -> !likeRepository.existsByUserIdAndProductId(userId, productId));
+    }
+
+    public boolean bufferUnlike(Long userId, Long productId) {
+        return likeBufferRepository.remove(new LikeKey(userId, productId))
+                .orElseGet(() -> likeRepository.existsByUserIdAndProductId(userId, productId));
+    }
+
+    /**
+     * 반영 대기 중인 의도가 있으면 그것을 우선하여, 사용자가 자신의 동작을 즉시 확인할 수 있게 한다.
+     */
+    public boolean isLiked(Long userId, Long productId) {
+        return likeBufferRepository.findPendingState(new LikeKey(userId, productId))
+                .orElseGet(() -> likeRepository.existsByUserIdAndProductId(userId, productId));
+    }
+
+    /**
+     * 목록 조회용 다건 isLiked. 대기 중인 의도를 한 번에 확인하고, 의도가 없는 상품만 한 번의 IN 쿼리로 조회한다.
+     */
+    public Set<Long> findLikedProductIds(Long userId, Collection<Long> productIds) {
+        List<LikeKey> keys = productIds.stream()
+                .distinct()
+                .map(productId -> new LikeKey(userId, productId))
+                .toList();
+        Map<LikeKey, Boolean> pendingStates = likeBufferRepository.findPendingStates(keys);
+
+        List<Long> unresolved = keys.stream()
+                .filter(key -> !pendingStates.containsKey(key))
+                .map(LikeKey::productId)
+                .toList();
+        Set<Long> likedProductIds = new HashSet<>(likeRepository.findLikedProductIds(userId, unresolved));
+        pendingStates.forEach((key, liked) -> {
+            if (liked) {
+                likedProductIds.add(key.productId());
+            }
+        });
+        return likedProductIds;
+    }
+
+    /**
+     * 대기 분이 없으면 트랜잭션을 열지 않도록, 반영 전에 Redis 만 확인한다.
+     */
+    @Transactional(propagation = Propagation.SUPPORTS)
+    public boolean hasPendingLikes() {
+        return likeBufferRepository.hasPending();
+    }
+
+    /**
+     * 대기 중인 좋아요 의도를 최대 batchSize 건 꺼내 다중 행 INSERT IGNORE / DELETE 로 반영하고, 영향받은 상품의 좋아요 수를 재집계한다.
+     * 반영은 멱등하므로 커밋 후 대기분 정리 전에 실패하더라도 다음 실행에서 같은 의도를 다시 반영하면 된다.
+     *
+     * @return 이번에 반영한 의도. 다른 인스턴스가 반영 중이면 비어 있다.
+     */
+    @Transactional
+    public PendingLikes flushPendingLikes(int batchSize) {
+        if (!likeBufferRepository.tryLockFlush(FLUSH_LOCK_TTL)) {
+            return new PendingLikes(Set.of(), Set.of());
+        }
+        PendingLikes pending;
+        try {
+            pending = likeBufferRepository.drain(batchSize);
+            if (!pending.added().isEmpty()) {
+                likeRepository.insertIgnoreAll(pending.added());
+            }
+            if (!pending.removed().isEmpty()) {
+                likeRepository.deleteAll(pending.removed());
+            }
+            if (!pending.isEmpty()) {
+                productRepository.syncLikeCounts(pending.productIds());
+            }
+        } catch (RuntimeException e) {
+            likeBufferRepository.unlockFlush();
+            throw e;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                if (status == STATUS_COMMITTED) {
+                    likeBufferRepository.completeDrain();
+                }
+                likeBufferRepository.unlockFlush();
+            }
+        });
+        return pending;
+    }
 }
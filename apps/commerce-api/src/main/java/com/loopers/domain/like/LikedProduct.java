@@ -0,0 +1,12 @@
+package com.loopers.domain.like;
+
+import java.time.ZonedDateTime;
+
+/**
+ * 내가 좋아요한 상품 목록 조회용 프로젝션. likes 엔티티와 연관 엔티티를 로딩하지 않는다.
+ */
+public record LikedProduct(
+        Long productId,
+        ZonedDateTime likedAt
+) {
+}
@@ -0,0 +1,27 @@
+package com.loopers.domain.like;
+
+import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * 아직 likes 테이블에 반영되지 않은 좋아요 등록/취소 의도.
+ */
+public record PendingLikes(
+        Set<LikeKey> added,
+        Set<LikeKey> removed
+) {
+    public boolean isEmpty() {
+        return added.isEmpty() && removed.isEmpty();
+    }
+
+    public int size() {
+        return added.size() + removed.size();
+    }
+
+    public Set<Long> productIds() {
+        return Stream.concat(added.stream(), removed.stream())
+                .map(LikeKey::productId)
+                .collect(Collectors.toSet());
+    }
+}
@@ -16,7 +16,13 @@ import java.util.List;
 
 @Entity
 @Getter
-@Table(name = "orders")
+@Table(
+        name = "orders",
+        indexes = {
+                @Index(name = "idx_orders_user_created_id", columnList = "user_id, created_at desc, id desc"), // 주문 내역 keyset 조회
+                @Index(name = "idx_orders_status_created", columnList = "status, created_at") // 정산 대기 주문 스윕
+        }
+)
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 public class Order extends BaseEntity {
 
@@ -34,6 +40,9 @@ public class Order extends BaseEntity {
     @Column(name = "paid_at")
     private ZonedDateTime paidAt;
 
+    @Column(name = "failure_reason")
+    private String failureReason;
+
     @OneToMany(mappedBy = "order", cascade = CascadeType.ALL, orphanRemoval = true)
     private List<OrderItem> orderItems = new ArrayList<>();
 
@@ -48,19 +57,35 @@ public class Order extends BaseEntity {
         return new Order(user);
     }
 
+    /**
+     * 항목을 추가하고 총액에 그 항목의 금액만 더한다.
+     */
     public void addOrderItem(Product product, Integer quantity) {
-        if (product == null) {
-            throw new CoreException(ErrorType.BAD_REQUEST, "상품은 필수입니다.");
-        }
-        if (quantity == null || quantity <= 0) {
-            throw new CoreException(ErrorType.BAD_REQUEST, "수량은 1 이상이어야 합니다.");
+        OrderItem orderItem = createOrderItem(product, quantity);
+        long totalAmount = addAmount(this.totalAmount.getValue(), orderItem.amountValue());
+
+        appendOrderItem(orderItem);
+        this.totalAmount = OrderTotalAmount.of(totalAmount);
+    }
+
+    /**
+     * 여러 항목을 한 번에 추가한다. 모든 항목을 먼저 검증하고 총액을 합산하므로, 하나라도 잘못되면 아무 항목도 추가되지 않는다.
+     */
+    public void addOrderItems(List<OrderLine> lines) {
+        if (lines == null || lines.isEmpty()) {
+            throw new CoreException(ErrorType.BAD_REQUEST, "주문 항목은 1개 이상이어야 합니다.");
         }
 
-        OrderItem orderItem = OrderItem.create(product, quantity);
-        this.orderItems.add(orderItem);
-        orderItem.assignOrder(this);
+        List<OrderItem> newItems = new ArrayList<>(lines.size());
+        long totalAmount = this.totalAmount.getValue();
+        for (OrderLine line : lines) {
+            OrderItem orderItem = createOrderItem(line.product(), line.quantity());
+            totalAmount = addAmount(totalAmount, orderItem.amountValue());
+            newItems.add(orderItem);
+        }
 
-        recalculateTotalAmount();
+        newItems.forEach(this::appendOrderItem);
+        this.totalAmount = OrderTotalAmount.of(totalAmount);
     }
 
     public void completePayment() {
@@ -69,10 +94,42 @@ public class Order extends BaseEntity {
         this.paidAt = ZonedDateTime.now();
     }
 
-    private void recalculateTotalAmount() {
-        this.totalAmount = this.orderItems.stream()
-                .map(OrderItem::calculateAmount)
-                .reduce(OrderTotalAmount.zero(), OrderTotalAmount::add);
+    /**
+     * 비동기 주문의 정산이 거절되면 실패로 확정한다. 정산 대기 중인 주문만 실패 처리할 수 있다.
+     */
+    public void fail(String reason) {
+        if (!isPending()) {
+            throw new CoreException(ErrorType.CONFLICT, "정산 대기 중인 주문만 실패 처리할 수 있습니다.");
+        }
+        this.status = OrderStatus.FAILED;
+        this.failureReason = reason;
+    }
+
+    public boolean isPending() {
+        return this.status == OrderStatus.PENDING;
+    }
+
+    private OrderItem createOrderItem(Product product, Integer quantity) {
+        if (product == null) {
+            throw new CoreException(ErrorType.BAD_REQUEST, "상품은 필수입니다.");
+        }
+        if (quantity == null || quantity <= 0) {
+            throw new CoreException(ErrorType.BAD_REQUEST, "수량은 1 이상이어야 합니다.");
+        }
+        return OrderItem.create(product, quantity);
+    }
+
+    private void appendOrderItem(OrderItem orderItem) {
+        this.orderItems.add(orderItem);
+        orderItem.assignOrder(this);
+    }
+
+    private long addAmount(long totalAmount, long amount) {
+        try {
+            return Math.addExact(totalAmount, amount);
+        } catch (ArithmeticException e) {
+            throw new CoreException(ErrorType.BAD_REQUEST, "주문 총액이 허용 범위를 초과했습니다.");
+        }
     }
 
     private void validateBeforePayment() {
@@ -0,0 +1,15 @@
+package com.loopers.domain.order;
+
+import java.time.ZonedDateTime;
+
+/**
+ * 이전 페이지 마지막 주문의 (주문 시각, 주문 id).
+ */
+public record OrderCursor(
+        ZonedDateTime orderedAt,
+        Long orderId
+) {
+    public static OrderCursor of(OrderSummary summary) {
+        return new OrderCursor(summary.orderedAt(), summary.orderId());
+    }
+}
@@ -0,0 +1,14 @@
+package com.loopers.domain.order;
+
+/**
+ * 비동기 주문의 정산이 거절되어 주문이 실패로 확정되었을 때 발행된다.
+ */
+public record OrderFailedEvent(
+        Long orderId,
+        Long userId,
+        String reason
+) {
+    public static OrderFailedEvent from(Order order) {
+        return new OrderFailedEvent(order.getId(), order.getUser().getId(), order.getFailureReason());
+    }
+}
@@ -44,7 +44,22 @@ public class OrderItem extends BaseEntity {
     }
 
     public OrderTotalAmount calculateAmount() {
-        return OrderTotalAmount.of(this.orderItemPrice.getValue() * this.quantity);
+        return OrderTotalAmount.of(amountValue());
+    }
+
+    /**
+     * 단가 * 수량. 값 객체를 만들지 않고 계산하며, long 범위를 넘으면 BAD_REQUEST 예외가 발생한다.
+     */
+    long amountValue() {
+        return amountOf(this.orderItemPrice.getValue(), this.quantity);
+    }
+
+    static long amountOf(long unitPrice, int quantity) {
+        try {
+            return Math.multiplyExact(unitPrice, (long) quantity);
+        } catch (ArithmeticException e) {
+            throw new CoreException(ErrorType.BAD_REQUEST, "주문 금액이 허용 범위를 초과했습니다.");
+        }
     }
 
     public Long getUnitPriceValue() {
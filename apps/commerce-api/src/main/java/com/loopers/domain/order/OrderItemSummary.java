@@ -0,0 +1,16 @@
+package com.loopers.domain.order;
+
+/**
+ * 주문 내역 조회용 주문 항목 프로젝션. 상품은 이름만 함께 조회한다.
+ */
+public record OrderItemSummary(
+        Long orderId,
+        Long productId,
+        String productName,
+        Integer quantity,
+        Long unitPrice
+) {
+    public long totalPrice() {
+        return OrderItem.amountOf(unitPrice, quantity);
+    }
+}
@@ -0,0 +1,9 @@
+package com.loopers.domain.order;
+
+import com.loopers.domain.product.Product;
+
+/**
+ * 주문에 담을 상품과 수량. {@link Order#addOrderItems} 로 여러 항목을 한 번에 추가할 때 사용한다.
+ */
+public record OrderLine(Product product, Integer quantity) {
+}
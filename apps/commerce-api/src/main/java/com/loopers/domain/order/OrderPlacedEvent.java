@@ -0,0 +1,30 @@
+package com.loopers.domain.order;
+
+import java.util.List;
+
+/**
+ * 주문이 결제까지 완료되어 저장되었을 때 발행된다.
+ */
+public record OrderPlacedEvent(
+        Long orderId,
+        Long userId,
+        List<OrderedProduct> items
+) {
+    public static OrderPlacedEvent from(Order order) {
+        List<OrderedProduct> items = order.getOrderItems().stream()
+                .map(item -> new OrderedProduct(
+                        item.getProduct().getId(),
+                        item.getProduct().getBrand().getId(),
+                        item.getQuantity()
+                ))
+                .toList();
+        return new OrderPlacedEvent(order.getId(), order.getUser().getId(), items);
+    }
+
+    public record OrderedProduct(
+            Long productId,
+            Long brandId,
+            int quantity
+    ) {
+    }
+}
@@ -1,7 +1,10 @@
 package com.loopers.domain.order;
 
 import com.loopers.domain.user.User;
+import org.springframework.data.domain.Slice;
 
+import java.time.ZonedDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -9,4 +12,8 @@ public interface OrderRepository {
     Order save(Order order);
     Optional<Order> findByIdAndUser(Long orderId, User user);
     List<Order> findAllByUser(User user);
+    Optional<Order> findByIdForUpdate(Long orderId);
+    List<Long> findPendingIdsCreatedBefore(ZonedDateTime before, int limit);
+    Slice<OrderSummary> findOrderSummaries(OrderCursorCondition condition);
+    List<OrderItemSummary> findItemSummaries(Collection<Long> orderIds);
 }
@@ -4,9 +4,12 @@ import com.loopers.domain.user.User;
 import com.loopers.support.error.CoreException;
 import com.loopers.support.error.ErrorType;
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Slice;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.ZonedDateTime;
+import java.util.Collection;
 import java.util.List;
 
 @Service
@@ -28,4 +31,30 @@ public class OrderService {
         return orderRepository.findByIdAndUser(orderId, user)
                 .orElseThrow(() -> new CoreException(ErrorType.NOT_FOUND, "주문을 찾을 수 없습니다."));
     }
+
+    /**
+     * 주문 행을 잠그고 조회한다. 같은 주문을 워커와 스위퍼가 동시에 정산하지 않도록 정산 트랜잭션 안에서 호출한다.
+     */
+    public Order getOrderForUpdate(Long orderId) {
+        return orderRepository.findByIdForUpdate(orderId)
+                .orElseThrow(() -> new CoreException(ErrorType.NOT_FOUND, "주문을 찾을 수 없습니다."));
+    }
+
+    /**
+     * 주문 내역을 최근 순으로 조회한다. (user_id, created_at, id) 인덱스를 커서 위치부터 읽으므로 앞 페이지 수와 무관하게 일정한 비용이 든다.
+     */
+    public Slice<OrderSummary> getOrderSummaries(OrderCursorCondition condition) {
+        return orderRepository.findOrderSummaries(condition);
+    }
+
+    public List<OrderItemSummary> getItemSummaries(Collection<Long> orderIds) {
+        if (orderIds.isEmpty()) {
+            return List.of();
+        }
+        return orderRepository.findItemSummaries(orderIds);
+    }
+
+    public List<Long> getPendingOrderIdsCreatedBefore(ZonedDateTime before, int limit) {
+        return orderRepository.findPendingIdsCreatedBefore(before, limit);
+    }
 }
@@ -3,4 +3,5 @@ package com.loopers.domain.order;
 public enum OrderStatus {
     PENDING,
     PAID,
+    FAILED, // 비동기 주문의 재고/포인트 정산이 거절된 경우
 }
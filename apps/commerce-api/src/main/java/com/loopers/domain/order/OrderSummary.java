@@ -0,0 +1,16 @@
+package com.loopers.domain.order;
+
+import java.time.ZonedDateTime;
+
+/**
+ * 주문 내역 조회용 프로젝션. 주문 엔티티와 연관 엔티티를 로딩하지 않는다.
+ */
+public record OrderSummary(
+        Long orderId,
+        Long totalAmount,
+        OrderStatus status,
+        ZonedDateTime paidAt,
+        String failureReason,
+        ZonedDateTime orderedAt
+) {
+}
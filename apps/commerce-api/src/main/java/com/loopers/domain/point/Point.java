@@ -21,10 +21,15 @@ public class Point extends BaseEntity {
     @Embedded
     private PointBalance balance;
 
+    // 잔액 스냅샷에 반영된 마지막 포인트 이력 id. 이보다 뒤의 충전 이력이 미반영 충전이다.
+    @Column(name = "applied_transaction_id", nullable = false)
+    private Long appliedTransactionId;
+
     private Point(String userId, PointBalance balance) {
         validateUserId(userId);
         this.userId = userId;
         this.balance = balance;
+        this.appliedTransactionId = 0L;
     }
 
     public static Point create(String userId) {
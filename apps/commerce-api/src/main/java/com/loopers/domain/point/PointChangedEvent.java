@@ -0,0 +1,11 @@
+package com.loopers.domain.point;
+
+/**
+ * 포인트 충전/사용 이력이 기록되었을 때 발행된다.
+ */
+public record PointChangedEvent(
+        String userId,
+        PointTransactionType type,
+        Long amount
+) {
+}
@@ -6,4 +6,7 @@ public interface PointRepository {
     Point save(Point point);
     Optional<Point> findByUserId(String userId);
     boolean existsByUserId(String userId);
+    void applyPendingCharges(String userId, Long lastId); // lastId 이하의 미반영 충전 이력을 잔액 스냅샷에 합산하고 반영 위치를 옮김
+    boolean use(String userId, Long amount); // 스냅샷 잔액이 충분할 때만 차감, 차감되지 않으면 false
+    boolean refund(String userId, Long amount); // 사용한 포인트를 스냅샷에 되돌린다
 }
@@ -3,22 +3,31 @@ package com.loopers.domain.point;
 import com.loopers.support.error.CoreException;
 import com.loopers.support.error.ErrorType;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.List;
+
+/**
+ * 포인트 잔액은 points.balance 스냅샷과 아직 스냅샷에 반영되지 않은 충전 이력의 합으로 계산한다.
+ * 충전은 이력 삽입만 하므로 같은 사용자에 대한 충전끼리 행 경합이 생기지 않는다.
+ */
 @Service
 @RequiredArgsConstructor
 @Transactional(readOnly = true)
 public class PointService {
 
     private final PointRepository pointRepository;
+    private final PointTransactionRepository pointTransactionRepository;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Transactional
     public Point createPoint(String userId) {
         if (pointRepository.existsByUserId(userId)) {
             throw new CoreException(ErrorType.CONFLICT, "이미 포인트가 존재하는 사용자입니다.");
         }
-        Point point = Point.create(userId, null);
+        Point point = Point.create(userId);
         return pointRepository.save(point);
     }
 
@@ -27,17 +36,60 @@ public class PointService {
                 .orElseThrow(() -> new CoreException(ErrorType.NOT_FOUND, "포인트를 찾을 수 없습니다."));
     }
 
+    public Long getBalance(String userId) {
+        Point point = getPoint(userId);
+        return point.getBalanceValue() + pointTransactionRepository.sumPendingCharges(userId);
+    }
+
     @Transactional
     public void chargePoint(String userId, Long amount) {
-        Point point = getPoint(userId);
-        point.charge(amount);
-        pointRepository.save(point);
+        PointTransaction transaction = PointTransaction.charge(userId, amount);
+        if (!pointRepository.existsByUserId(userId)) {
+            throw new CoreException(ErrorType.NOT_FOUND, "포인트를 찾을 수 없습니다.");
+        }
+        pointTransactionRepository.save(transaction);
+        eventPublisher.publishEvent(new PointChangedEvent(userId, PointTransactionType.CHARGE, amount));
     }
 
+    /**
+     * 스냅샷에서 먼저 차감을 시도하고, 부족하면 미반영 충전을 스냅샷에 합산한 뒤 한 번 더 시도한다.
+     */
     @Transactional
     public void usePoint(String userId, Long amount) {
-        Point point = getPoint(userId);
-        point.use(amount);
-        pointRepository.save(point);
+        PointTransaction transaction = PointTransaction.use(userId, amount);
+        if (!pointRepository.use(userId, amount)) {
+            applyPendingCharges(userId);
+            if (!pointRepository.use(userId, amount)) {
+                if (!pointRepository.existsByUserId(userId)) {
+                    throw new CoreException(ErrorType.NOT_FOUND, "포인트를 찾을 수 없습니다.");
+                }
+                throw new CoreException(ErrorType.BAD_REQUEST, "보유 포인트가 부족합니다.");
+            }
+        }
+        pointTransactionRepository.save(transaction);
+        eventPublisher.publishEvent(new PointChangedEvent(userId, PointTransactionType.USE, amount));
+    }
+
+    /**
+     * 사용한 포인트를 스냅샷에 바로 되돌리고 환불 이력을 남긴다. 정산되지 못한 주문의 포인트 선점을 해제할 때 사용한다.
+     */
+    @Transactional
+    public void refundPoint(String userId, Long amount) {
+        PointTransaction transaction = PointTransaction.refund(userId, amount);
+        if (!pointRepository.refund(userId, amount)) {
+            throw new CoreException(ErrorType.NOT_FOUND, "포인트를 찾을 수 없습니다.");
+        }
+        pointTransactionRepository.save(transaction);
+        eventPublisher.publishEvent(new PointChangedEvent(userId, PointTransactionType.REFUND, amount));
+    }
+
+    @Transactional
+    public void applyPendingCharges(String userId) {
+        pointTransactionRepository.findLastPendingId(userId)
+                .ifPresent(lastId -> pointRepository.applyPendingCharges(userId, lastId));
+    }
+
+    public List<String> getUserIdsWithPendingCharges(int size) {
+        return pointTransactionRepository.findUserIdsWithPendingCharges(size);
     }
 }
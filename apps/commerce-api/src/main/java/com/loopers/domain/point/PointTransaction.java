@@ -0,0 +1,55 @@
+package com.loopers.domain.point;
+
+import com.loopers.domain.BaseEntity;
+import com.loopers.support.error.CoreException;
+import com.loopers.support.error.ErrorType;
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 포인트 잔액 변경 이력. 삽입만 하고 기록 후에는 수정하지 않는다.
+ * <p>
+ * 충전은 이력 삽입만으로 끝나고, 스냅샷 반영 시 points.balance 에 합산되며 반영 위치(points.applied_transaction_id)가 그 id 로 옮겨진다.
+ * 사용과 환불은 스냅샷에 바로 반영하므로 미반영 합계에 포함하지 않는다. 현재 잔액은 스냅샷 + 반영 위치 이후 충전 합계다.
+ */
+@Entity
+@Getter
+@Table(name = "point_transactions", indexes = {
+        @Index(name = "idx_point_transactions_user_type", columnList = "user_id, type, id")
+})
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class PointTransaction extends BaseEntity {
+
+    @Column(name = "user_id", nullable = false, length = 10)
+    private String userId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "type", nullable = false, length = 10)
+    private PointTransactionType type;
+
+    @Column(name = "amount", nullable = false)
+    private Long amount;
+
+    private PointTransaction(String userId, PointTransactionType type, Long amount) {
+        if (amount == null || amount <= 0) {
+            throw new CoreException(ErrorType.BAD_REQUEST, "거래 금액은 0보다 커야 합니다.");
+        }
+        this.userId = userId;
+        this.type = type;
+        this.amount = amount;
+    }
+
+    public static PointTransaction charge(String userId, Long amount) {
+        return new PointTransaction(userId, PointTransactionType.CHARGE, amount);
+    }
+
+    public static PointTransaction use(String userId, Long amount) {
+        return new PointTransaction(userId, PointTransactionType.USE, amount);
+    }
+
+    public static PointTransaction refund(String userId, Long amount) {
+        return new PointTransaction(userId, PointTransactionType.REFUND, amount);
+    }
+}
@@ -0,0 +1,12 @@
+package com.loopers.domain.point;
+
+import java.util.List;
+import java.util.Optional;
+
+public interface PointTransactionRepository {
+    PointTransaction save(PointTransaction transaction);
+    List<PointTransaction> findAllByUserId(String userId);
+    long sumPendingCharges(String userId); // 스냅샷 반영 위치 이후의 충전 합계
+    Optional<Long> findLastPendingId(String userId);
+    List<String> findUserIdsWithPendingCharges(int size);
+}
@@ -0,0 +1,7 @@
+package com.loopers.domain.point;
+
+public enum PointTransactionType {
+    CHARGE,
+    USE,
+    REFUND,
+}
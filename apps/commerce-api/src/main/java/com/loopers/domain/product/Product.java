@@ -9,13 +9,19 @@ import com.loopers.support.error.ErrorType;
 import jakarta.persistence.*;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.DynamicUpdate;
 
 import java.util.ArrayList;
 import java.util.List;
 
 @Entity
 @Getter
-@Table(name = "products")
+@DynamicUpdate
+@Table(name = "products", indexes = {
+        @Index(name = "idx_products_brand_like_count", columnList = "brand_id, like_count, id"),
+        @Index(name = "idx_products_like_count", columnList = "like_count, id"),
+        @Index(name = "idx_products_brand_price", columnList = "brand_id, price, id")
+})
 @NoArgsConstructor(access = lombok.AccessLevel.PROTECTED)
 public class Product extends BaseEntity {
 
@@ -28,6 +34,10 @@ public class Product extends BaseEntity {
     @Embedded
     private Stock stock;
 
+    // likes 테이블 집계 대신 사용하는 비정규화 컬럼. 증감은 ProductRepository 의 원자적 UPDATE 로만 수행한다.
+    @Column(name = "like_count", nullable = false)
+    private Long likeCount;
+
     @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "brand_id", nullable = false)
     private Brand brand;
@@ -43,6 +53,7 @@ public class Product extends BaseEntity {
         this.name = name;
         this.price = price;
         this.stock = Stock.of(stock);
+        this.likeCount = 0L;
         this.brand = brand;
     }
 
@@ -0,0 +1,18 @@
+package com.loopers.domain.product;
+
+/**
+ * 이전 페이지 마지막 상품의 (정렬 값, id). 정렬 값은 정렬 조건에 따라 id, 가격, 좋아요 수 중 하나이다.
+ */
+public record ProductCursor(
+        Long sortValue,
+        Long id
+) {
+    public static ProductCursor of(ProductSortType sortType, Product product) {
+        Long sortValue = switch (sortType) {
+            case LATEST -> product.getId();
+            case PRICE_ASC -> product.getPriceValue();
+            case LIKES_DESC -> product.getLikeCount();
+        };
+        return new ProductCursor(sortValue, product.getId());
+    }
+}
@@ -2,14 +2,26 @@ package com.loopers.domain.product;
 
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 
 import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.SortedMap;
 
 public interface ProductRepository {
     Product save(Product product);
     Optional<Product> findById(Long id);
+    Optional<Product> findByIdWithBrand(Long id);
     List<Product> findAllByIds(Collection<Long> ids); // OrderService에서 사용
+    List<Product> findAllByIdsWithBrand(Collection<Long> ids);
+    int decreaseStocks(SortedMap<Long, Integer> quantities); // 재고가 충분한 상품만 차감, 영향받은 행 수 반환
+    void applyReservedStock(Long productId, int quantity); // Redis 에서 선점된 재고 차감분 반영
+    void restoreStock(Long productId, int quantity); // 차감했던 재고를 되돌린다
     Page<Product> findProducts(Pageable pageable, Long brandId); // 정렬 조건
+    Slice<Product> findProductsByCursor(ProductCursorCondition condition); // count 쿼리 없이 커서 이후 상품 조회
+    void increaseLikeCount(Long productId);
+    void decreaseLikeCount(Long productId);
+    List<Long> findIdsAfter(Long lastId, int size); // 좋아요 수 보정 배치에서 사용
+    int syncLikeCounts(Collection<Long> ids); // 좋아요 수가 실제로 바뀐 상품 수를 반환
 }
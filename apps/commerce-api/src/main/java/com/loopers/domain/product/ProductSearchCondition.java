@@ -2,16 +2,23 @@ package com.loopers.domain.product;
 
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
 
 public record ProductSearchCondition(
         Long brandId,
+        ProductSortType sortType,
         Pageable pageable
 ) {
+    public ProductSearchCondition(Long brandId, Pageable pageable) {
+        this(brandId, null, pageable);
+    }
+
     public PageRequest toPageRequest() {
+        Sort sort = sortType != null ? sortType.getSort() : pageable.getSort();
         return PageRequest.of(
                 pageable.getPageNumber(),
                 pageable.getPageSize(),
-                pageable.getSort()
+                sort
         );
     }
 }
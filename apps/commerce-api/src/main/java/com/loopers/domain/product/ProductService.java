@@ -4,11 +4,15 @@ import com.loopers.support.error.CoreException;
 import com.loopers.support.error.ErrorType;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Slice;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.Collection;
 import java.util.List;
+import java.util.Map;
+import java.util.SortedMap;
+import java.util.TreeMap;
 
 @Service
 @RequiredArgsConstructor
@@ -22,6 +26,11 @@ public class ProductService {
                 .orElseThrow(() -> new CoreException(ErrorType.NOT_FOUND, "상품을 찾을 수 없습니다."));
     }
 
+    public Product getProductWithBrand(Long id) {
+        return productRepository.findByIdWithBrand(id)
+                .orElseThrow(() -> new CoreException(ErrorType.NOT_FOUND, "상품을 찾을 수 없습니다."));
+    }
+
     public List<Product> getProductsByIds(Collection<Long> ids) {
         List<Product> products = productRepository.findAllByIds(ids);
         if (products.size() != ids.size()) {
@@ -30,7 +39,47 @@ public class ProductService {
         return products;
     }
 
+    /**
+     * 상품과 브랜드를 한 번의 쿼리로 조회한다. 존재하지 않는 상품은 결과에서 빠진다.
+     */
+    public List<Product> getProductsWithBrand(Collection<Long> ids) {
+        return productRepository.findAllByIdsWithBrand(ids);
+    }
+
+    /**
+     * 여러 상품의 재고를 한 번의 조건부 UPDATE 로 차감한다. 하나라도 재고가 부족하면 예외를 던져 트랜잭션 전체를 되돌린다.
+     * 같은 상품이 여러 번 포함되면 수량을 합산한다.
+     */
+    @Transactional
+    public void decreaseStocks(Map<Long, Integer> quantities) {
+        SortedMap<Long, Integer> merged = new TreeMap<>();
+        quantities.forEach((productId, quantity) -> {
+            if (quantity == null || quantity <= 0) {
+                throw new CoreException(ErrorType.BAD_REQUEST, "차감 수량은 0보다 커야 합니다.");
+            }
+            merged.merge(productId, quantity, Integer::sum);
+        });
+
+        int updated = productRepository.decreaseStocks(merged);
+        if (updated != merged.size()) {
+            throw new CoreException(ErrorType.BAD_REQUEST, "재고가 부족합니다.");
+        }
+    }
+
     public Page<Product> getProducts(ProductSearchCondition condition) {
-        return productRepository.findProducts(condition.pageable(), condition.brandId());
+        return productRepository.findProducts(condition.toPageRequest(), condition.brandId());
+    }
+
+    public Slice<Product> getProductsByCursor(ProductCursorCondition condition) {
+        return productRepository.findProductsByCursor(condition);
+    }
+
+    public List<Long> getProductIdsAfter(Long lastId, int size) {
+        return productRepository.findIdsAfter(lastId, size);
+    }
+
+    @Transactional
+    public int syncLikeCounts(List<Long> productIds) {
+        return productRepository.syncLikeCounts(productIds);
     }
 }
@@ -0,0 +1,31 @@
+package com.loopers.domain.product;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Sort;
+
+import java.util.Arrays;
+
+@Getter
+@RequiredArgsConstructor
+public enum ProductSortType {
+    // id 는 IDENTITY 전략으로 발급되므로, id 역순은 등록 역순(createdAt desc)과 같다.
+    LATEST(Sort.by(Sort.Direction.DESC, "id")),
+    PRICE_ASC(Sort.by(Sort.Direction.ASC, "price.value").and(Sort.by(Sort.Direction.ASC, "id"))),
+    LIKES_DESC(Sort.by(Sort.Direction.DESC, "likeCount").and(Sort.by(Sort.Direction.DESC, "id")));
+
+    private final Sort sort;
+
+    /**
+     * 지원하지 않는 정렬 조건이거나 값이 없으면 기본 정렬(latest)을 적용한다.
+     */
+    public static ProductSortType from(String value) {
+        if (value == null || value.isBlank()) {
+            return LATEST;
+        }
+        return Arrays.stream(values())
+                .filter(type -> type.name().equalsIgnoreCase(value))
+                .findFirst()
+                .orElse(LATEST);
+    }
+}
@@ -0,0 +1,34 @@
+package com.loopers.domain.product;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.SortedMap;
+
+/**
+ * 한정 판매 상품의 재고를 DB 대신 보관하는 저장소.
+ * 등록된 상품의 재고는 이곳에서 먼저 차감되고, 커밋된 차감량은 write-back 으로 products.stock 에 반영된다.
+ */
+public interface StockReservationRepository {
+    boolean enroll(Long productId, int stock); // 이미 등록된 상품이면 false
+    void withdraw(Long productId);
+    Set<Long> findEnrolledProductIds();
+    Optional<Integer> findStock(Long productId);
+
+    /**
+     * 등록된 상품만 골라 모두 차감하거나 아무것도 차감하지 않는다.
+     * @return 차감된 상품별 수량. 등록된 상품 중 하나라도 재고가 부족하면 empty
+     */
+    Optional<Map<Long, Integer>> reserve(SortedMap<Long, Integer> quantities);
+    void release(Map<Long, Integer> quantities);
+    void clampStock(Long productId, int maxStock); // 보관 재고가 maxStock 보다 크면 maxStock 으로 낮춘다
+
+    void addWriteBack(Map<Long, Integer> quantities);
+    Map<Long, Integer> drainWriteBack(); // 반영 대기분을 처리 중 영역으로 옮겨 반환, 이전 처리분이 남아 있으면 그것을 반환
+    void completeWriteBack();
+    Map<Long, Integer> findPendingWriteBack(); // 반영 대기 + 처리 중 합계
+
+    boolean tryLockWriteBack(Duration ttl);
+    void unlockWriteBack();
+}
@@ -0,0 +1,181 @@
+package com.loopers.domain.product;
+
+import com.loopers.support.error.CoreException;
+import com.loopers.support.error.ErrorType;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.SortedMap;
+import java.util.TreeMap;
+import java.util.function.Consumer;
+
+/**
+ * 한정 판매 상품의 재고를 Redis 에서 선점한다.
+ * <p>
+ * 등록된 상품은 주문 시 Redis 재고만 차감하고, 트랜잭션이 롤백되면 선점분을 되돌린다.
+ * 커밋된 차감분은 write-back 으로 products.stock 에 비동기 반영하며, 보정 작업은 Redis 재고가 DB 기준보다 많아지지 않도록 맞춘다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class StockReservationService {
+
+    private static final Duration WRITE_BACK_LOCK_TTL = Duration.ofSeconds(30);
+
+    private final StockReservationRepository stockReservationRepository;
+    private final ProductRepository productRepository;
+
+    @Transactional(readOnly = true)
+    public void enroll(Long productId) {
+        Product product = productRepository.findById(productId)
+                .orElseThrow(() -> new CoreException(ErrorType.NOT_FOUND, "상품을 찾을 수 없습니다."));
+        if (!stockReservationRepository.enroll(productId, product.getStockValue())) {
+            throw new CoreException(ErrorType.CONFLICT, "이미 재고 선점 대상으로 등록된 상품입니다.");
+        }
+    }
+
+    /**
+     * 등록 해제 전 남은 write-back 을 반영한다. 해제 이후의 주문은 DB 재고로 처리된다.
+     * write-back 은 커밋 시점에 처리 완료 표시와 락 해제를 하므로 같은 트랜잭션 안에서 실행한다.
+     */
+    @Transactional
+    public void withdraw(Long productId) {
+        writeBack();
+        stockReservationRepository.withdraw(productId);
+    }
+
+    /**
+     * 등록된 상품의 재고를 선점하고, 선점 대상이 아닌 상품의 수량만 돌려준다.
+     * 트랜잭션 안에서 호출되면 커밋 시 write-back 대상으로 기록하고, 롤백 시 선점을 해제한다.
+     */
+    public Map<Long, Integer> reserve(Map<Long, Integer> quantities) {
+        SortedMap<Long, Integer> merged = new TreeMap<>();
+        quantities.forEach((productId, quantity) -> {
+            if (quantity == null || quantity <= 0) {
+                throw new CoreException(ErrorType.BAD_REQUEST, "차감 수량은 0보다 커야 합니다.");
+            }
+            merged.merge(productId, quantity, Integer::sum);
+        });
+
+        Map<Long, Integer> reserved = stockReservationRepository.reserve(merged)
+                .orElseThrow(() -> new CoreException(ErrorType.BAD_REQUEST, "재고가 부족합니다."));
+        if (!reserved.isEmpty()) {
+            registerCompletion(reserved);
+        }
+
+        Map<Long, Integer> remaining = new HashMap<>(merged);
+        reserved.keySet().forEach(remaining::remove);
+        return remaining;
+    }
+
+    /**
+     * {@link #reserve} 와 DB 차감으로 가져간 재고를 되돌린다.
+     * DB 재고는 바로 늘리고, 선점 대상 상품은 커밋 후 Redis 재고도 늘린다.
+     * 선점 당시의 등록 여부와 무관하게 양쪽을 같은 양만큼 늘리므로 Redis 재고 = DB 재고 - 반영 대기분 관계가 유지된다.
+     */
+    @Transactional
+    public void restore(Map<Long, Integer> quantities) {
+        SortedMap<Long, Integer> merged = new TreeMap<>(quantities);
+        merged.forEach(productRepository::restoreStock);
+        runAfterCompletion(committed -> {
+            if (committed) {
+                stockReservationRepository.release(merged);
+            }
+        });
+    }
+
+    /**
+     * 커밋된 선점분을 products.stock 에 반영한다. 여러 노드가 동시에 실행하지 않도록 락을 잡는다.
+     * DB 반영 후 처리 완료 표시 전에 장애가 나면 같은 차감분이 다시 반영될 수 있으나, 보정 작업이 Redis 재고를 DB 이하로 맞추므로 초과 판매로 이어지지는 않는다.
+     */
+    @Transactional
+    public int writeBack() {
+        if (!stockReservationRepository.tryLockWriteBack(WRITE_BACK_LOCK_TTL)) {
+            return 0;
+        }
+        boolean handedOff = false;
+        try {
+            Map<Long, Integer> drained = stockReservationRepository.drainWriteBack();
+            drained.forEach(productRepository::applyReservedStock);
+            runAfterCompletion(committed -> {
+                if (committed) {
+                    stockReservationRepository.completeWriteBack();
+                }
+                stockReservationRepository.unlockWriteBack();
+            });
+            handedOff = true;
+            return drained.size();
+        } finally {
+            // 완료 콜백을 등록하지 못했다면 락이 TTL 까지 남지 않도록 바로 해제한다.
+            if (!handedOff) {
+                stockReservationRepository.unlockWriteBack();
+            }
+        }
+    }
+
+    /**
+     * Redis 재고가 (DB 재고 - 반영 대기분) 보다 많으면 그 값으로 낮춘다.
+     * 반대로 적은 경우는 진행 중인 주문의 선점분일 수 있으므로 로그만 남긴다.
+     */
+    @Transactional(readOnly = true)
+    public void reconcile() {
+        // write-back 도중에는 DB 재고와 반영 대기분이 어긋나 보이므로 같은 락으로 배타 실행한다.
+        if (!stockReservationRepository.tryLockWriteBack(WRITE_BACK_LOCK_TTL)) {
+            return;
+        }
+        try {
+            Map<Long, Integer> pending = stockReservationRepository.findPendingWriteBack();
+            for (Long productId : stockReservationRepository.findEnrolledProductIds()) {
+                reconcile(productId, pending.getOrDefault(productId, 0));
+            }
+        } finally {
+            stockReservationRepository.unlockWriteBack();
+        }
+    }
+
+    private void reconcile(Long productId, int pending) {
+        Optional<Product> product = productRepository.findById(productId);
+        Optional<Integer> reservedStock = stockReservationRepository.findStock(productId);
+        if (product.isEmpty() || reservedStock.isEmpty()) {
+            return;
+        }
+        int expected = Math.max(product.get().getStockValue() - pending, 0);
+        if (reservedStock.get() > expected) {
+            log.warn("선점 재고 보정 : productId={}, redis={}, expected={}", productId, reservedStock.get(), expected);
+            stockReservationRepository.clampStock(productId, expected);
+        } else if (reservedStock.get() < expected) {
+            log.info("선점 재고 차이 감지 : productId={}, redis={}, expected={}", productId, reservedStock.get(), expected);
+        }
+    }
+
+    private void registerCompletion(Map<Long, Integer> reserved) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            stockReservationRepository.addWriteBack(reserved);
+            return;
+        }
+        runAfterCompletion(committed -> {
+            if (committed) {
+                stockReservationRepository.addWriteBack(reserved);
+            } else {
+                stockReservationRepository.release(reserved);
+            }
+        });
+    }
+
+    private static void runAfterCompletion(Consumer<Boolean> action) {
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                action.accept(status == STATUS_COMMITTED);
+            }
+        });
+    }
+}
@@ -0,0 +1,11 @@
+package com.loopers.domain.ranking;
+
+/**
+ * 시간 버킷에 더하거나 기록할 상품 점수. 브랜드별 랭킹에도 반영하기 위해 브랜드를 함께 담는다.
+ */
+public record ProductScore(
+        Long productId,
+        Long brandId,
+        double score
+) {
+}
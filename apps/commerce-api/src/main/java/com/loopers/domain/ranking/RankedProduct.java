@@ -0,0 +1,7 @@
+package com.loopers.domain.ranking;
+
+public record RankedProduct(
+        Long productId,
+        double score
+) {
+}
@@ -0,0 +1,14 @@
+package com.loopers.domain.ranking;
+
+import java.time.Instant;
+
+/**
+ * MySQL 에서 시간 단위로 집계한 상품별 활동 수. 랭킹 재구축에 사용한다.
+ */
+public record RankingActivity(
+        Instant hour,
+        Long productId,
+        Long brandId,
+        long count
+) {
+}
@@ -0,0 +1,15 @@
+package com.loopers.domain.ranking;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 시간 단위 버킷에 상품 점수를 누적하고, 버킷을 가중 합산한 트렌딩 랭킹을 제공하는 저장소.
+ */
+public interface RankingRepository {
+    void increaseScores(Instant hour, List<ProductScore> scores);
+    void replaceScores(Instant hour, List<ProductScore> scores); // 재구축 시 해당 시간 버킷을 덮어쓴다
+    void aggregate(Map<Instant, Double> hourWeights); // 버킷별 가중치로 합산해 전체/브랜드별 트렌딩 랭킹을 갱신
+    List<RankedProduct> findTop(Long brandId, int size); // brandId 가 null 이면 전체 랭킹
+}
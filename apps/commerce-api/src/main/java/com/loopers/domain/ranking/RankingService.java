@@ -0,0 +1,104 @@
+package com.loopers.domain.ranking;
+
+import com.loopers.domain.like.LikeChangedEvent;
+import com.loopers.domain.order.OrderPlacedEvent;
+import com.loopers.support.error.CoreException;
+import com.loopers.support.error.ErrorType;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 좋아요/주문 이벤트로 상품 점수를 시간 단위 버킷에 누적하고, 최근 버킷일수록 높은 가중치로 합산해 트렌딩 랭킹을 만든다.
+ * <p>
+ * 이벤트 반영은 원본 트랜잭션 커밋 후에 수행되어 유실될 수 있으므로, 재구축 작업이 MySQL 기준으로 버킷을 다시 채운다.
+ */
+@Service
+@RequiredArgsConstructor
+public class RankingService {
+
+    static final int WINDOW_HOURS = 24;
+    static final double HOURLY_DECAY = 0.9;
+    static final double LIKE_WEIGHT = 1.0;
+    static final double ORDER_WEIGHT = 3.0; // 주문 수량 1개당
+
+    private static final int MAX_SIZE = 100;
+
+    private final RankingRepository rankingRepository;
+    private final RankingSourceRepository rankingSourceRepository;
+
+    public void recordLike(LikeChangedEvent event, Instant occurredAt) {
+        double score = event.liked() ? LIKE_WEIGHT : -LIKE_WEIGHT;
+        rankingRepository.increaseScores(
+                hourOf(occurredAt),
+                List.of(new ProductScore(event.productId(), event.brandId(), score))
+        );
+    }
+
+    public void recordOrder(OrderPlacedEvent event, Instant occurredAt) {
+        List<ProductScore> scores = event.items().stream()
+                .map(item -> new ProductScore(item.productId(), item.brandId(), ORDER_WEIGHT * item.quantity()))
+                .toList();
+        rankingRepository.increaseScores(hourOf(occurredAt), scores);
+    }
+
+    /**
+     * 최근 WINDOW_HOURS 시간의 버킷을 HOURLY_DECAY^경과시간 가중치로 합산한다.
+     */
+    public void refresh(Instant now) {
+        Instant currentHour = hourOf(now);
+        Map<Instant, Double> hourWeights = new LinkedHashMap<>();
+        for (int age = 0; age < WINDOW_HOURS; age++) {
+            hourWeights.put(currentHour.minus(age, ChronoUnit.HOURS), Math.pow(HOURLY_DECAY, age));
+        }
+        rankingRepository.aggregate(hourWeights);
+    }
+
+    /**
+     * 윈도우 내 모든 시간 버킷을 MySQL 집계 결과로 덮어쓰고 랭킹을 다시 합산한다.
+     * 좋아요는 현재 남아 있는 좋아요만 집계되므로, 취소된 좋아요의 점수는 재구축 시 사라진다.
+     */
+    public void rebuild(Instant now) {
+        Instant currentHour = hourOf(now);
+        Instant from = currentHour.minus(WINDOW_HOURS - 1, ChronoUnit.HOURS);
+
+        Map<Instant, Map<Long, ProductScore>> scoresByHour = new HashMap<>();
+        rankingSourceRepository.findLikeActivities(from)
+                .forEach(activity -> accumulate(scoresByHour, activity, LIKE_WEIGHT));
+        rankingSourceRepository.findOrderActivities(from)
+                .forEach(activity -> accumulate(scoresByHour, activity, ORDER_WEIGHT));
+
+        for (int age = 0; age < WINDOW_HOURS; age++) {
+            Instant hour = currentHour.minus(age, ChronoUnit.HOURS);
+            Map<Long, ProductScore> scores = scoresByHour.getOrDefault(hour, Map.of());
+            rankingRepository.replaceScores(hour, List.copyOf(scores.values()));
+        }
+        refresh(now);
+    }
+
+    public List<RankedProduct> getTopProducts(Long brandId, int size) {
+        if (size <= 0 || size > MAX_SIZE) {
+            throw new CoreException(ErrorType.BAD_REQUEST, "조회 개수는 1 이상 " + MAX_SIZE + " 이하여야 합니다.");
+        }
+        return rankingRepository.findTop(brandId, size);
+    }
+
+    private void accumulate(Map<Instant, Map<Long, ProductScore>> scoresByHour, RankingActivity activity, double weight) {
+        scoresByHour.computeIfAbsent(activity.hour(), hour -> new HashMap<>())
+                .merge(
+                        activity.productId(),
+                        new ProductScore(activity.productId(), activity.brandId(), weight * activity.count()),
+                        (a, b) -> new ProductScore(a.productId(), a.brandId(), a.score() + b.score())
+                );
+    }
+
+    private Instant hourOf(Instant instant) {
+        return instant.truncatedTo(ChronoUnit.HOURS);
+    }
+}
@@ -0,0 +1,12 @@
+package com.loopers.domain.ranking;
+
+import java.time.Instant;
+import java.util.List;
+
+/**
+ * 랭킹 재구축을 위해 원본 데이터(likes, order_items)를 시간 단위로 집계한다.
+ */
+public interface RankingSourceRepository {
+    List<RankingActivity> findLikeActivities(Instant from);
+    List<RankingActivity> findOrderActivities(Instant from); // 주문 수량 합계
+}
@@ -6,4 +6,5 @@ public interface UserRepository {
     User save(User user);
     Optional<User> findByUserId(String userId);
     boolean existsByUserId(String userId);
+    User getReference(Long id); // 조회 없이 연관관계 설정용 프록시 반환
 }
@@ -27,4 +27,11 @@ public class UserService {
         return userRepository.findByUserId(userId)
                 .orElseThrow(() -> new CoreException(ErrorType.NOT_FOUND, "사용자를 찾을 수 없습니다."));
     }
+
+    /**
+     * 이미 식별된 사용자를 연관관계에 연결할 때 사용한다. SELECT 없이 식별자만 가진 프록시를 반환한다.
+     */
+    public User getReference(Long id) {
+        return userRepository.getReference(id);
+    }
 }
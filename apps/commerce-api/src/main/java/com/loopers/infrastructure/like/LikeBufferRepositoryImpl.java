@@ -0,0 +1,217 @@
+package com.loopers.infrastructure.like;
+
+import com.loopers.config.redis.RedisConfig;
+import com.loopers.domain.like.LikeBufferRepository;
+import com.loopers.domain.like.LikeKey;
+import com.loopers.domain.like.PendingLikes;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Repository;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.stream.Collectors;
+
+/**
+ * 사용자가 자신의 동작을 즉시 확인할 수 있어야 하므로 조회도 master 로 보낸다.
+ */
+@Repository
+public class LikeBufferRepositoryImpl implements LikeBufferRepository {
+
+    private static final String PENDING_ADD_KEY = "like:pending:add";
+    private static final String PENDING_REMOVE_KEY = "like:pending:remove";
+    private static final String FLUSHING_ADD_KEY = "like:flushing:add";
+    private static final String FLUSHING_REMOVE_KEY = "like:flushing:remove";
+    private static final String FLUSH_LOCK_KEY = "like:flush:lock";
+
+    // 기록 전의 대기 의도(1: 등록, 0: 취소, -1: 없음)를 확인한 뒤, ARGV[2] 가 '1' 이면 등록 의도를, 아니면 취소 의도를 남긴다.
+    // 대기 영역이 반영 중 영역보다 최신 의도이므로 KEYS 순서대로 확인한다.
+    private static final RedisScript<Long> RECORD_SCRIPT = new DefaultRedisScript<>("""
+            local states = {1, 0, 1, 0}
+            local previous = -1
+            for i, key in ipairs(KEYS) do
+              if redis.call('SISMEMBER', key, ARGV[1]) == 1 then
+                previous = states[i]
+                break
+              end
+            end
+            if ARGV[2] == '1' then
+              redis.call('SREM', KEYS[2], ARGV[1])
+              redis.call('SADD', KEYS[1], ARGV[1])
+            else
+              redis.call('SREM', KEYS[1], ARGV[1])
+              redis.call('SADD', KEYS[2], ARGV[1])
+            end
+            return previous
+            """, Long.class);
+
+    // 이전 반영분이 남아 있으면 그대로 두고, 없으면 대기 중인 의도를 최대 ARGV[1] 건만 반영 중 영역으로 옮긴다.
+    private static final RedisScript<Long> DRAIN_SCRIPT = new DefaultRedisScript<>("""
+            if redis.call('EXISTS', KEYS[3]) == 1 or redis.call('EXISTS', KEYS[4]) == 1 then
+              return 1
+            end
+            local remaining = tonumber(ARGV[1])
+            for i = 1, 2 do
+              if remaining > 0 then
+                local members = redis.call('SPOP', KEYS[i], remaining)
+                for _, member in ipairs(members) do
+                  redis.call('SADD', KEYS[i + 2], member)
+                end
+                remaining = remaining - #members
+              end
+            end
+            return 1
+            """, Long.class);
+
+    // 대기 영역이 반영 중 영역보다 최신 의도이므로 KEYS 순서대로 확인한다. 1: 등록, 0: 취소, -1: 없음
+    private static final RedisScript<Long> PENDING_STATE_SCRIPT = new DefaultRedisScript<>("""
+            local states = {1, 0, 1, 0}
+            for i, key in ipairs(KEYS) do
+              if redis.call('SISMEMBER', key, ARGV[1]) == 1 then
+                return states[i]
+              end
+            end
+            return -1
+            """, Long.class);
+
+    // PENDING_STATE_SCRIPT 의 다건 버전. ARGV 순서대로 상태를 반환한다.
+    @SuppressWarnings("rawtypes")
+    private static final RedisScript<List> PENDING_STATES_SCRIPT = new DefaultRedisScript<>("""
+            local states = {1, 0, 1, 0}
+            local result = {}
+            for j = 1, #ARGV do
+              result[j] = -1
+            end
+            for i, key in ipairs(KEYS) do
+              local members = redis.call('SMISMEMBER', key, unpack(ARGV))
+              for j = 1, #ARGV do
+                if result[j] == -1 and members[j] == 1 then
+                  result[j] = states[i]
+                end
+              end
+            end
+            return result
+            """, List.class);
+
+    private static final RedisScript<Long> UNLOCK_SCRIPT = new DefaultRedisScript<>(
+            "if redis.call('get', KEYS[1]) == ARGV[1] then return redis.call('del', KEYS[1]) else return 0 end",
+            Long.class
+    );
+
+    private final RedisTemplate<String, String> redisTemplate;
+    private final String lockToken = UUID.randomUUID().toString();
+
+    public LikeBufferRepositoryImpl(
+            @Qualifier(RedisConfig.REDIS_TEMPLATE_MASTER) RedisTemplate<String, String> redisTemplate
+    ) {
+        this.redisTemplate = redisTemplate;
+    }
+
+    @Override
+    public Optional<Boolean> add(LikeKey key) {
+        return record(key, true);
+    }
+
+    @Override
+    public Optional<Boolean> remove(LikeKey key) {
+        return record(key, false);
+    }
+
+    @Override
+    public Optional<Boolean> findPendingState(LikeKey key) {
+        Long state = redisTemplate.execute(
+                PENDING_STATE_SCRIPT,
+                List.of(PENDING_ADD_KEY, PENDING_REMOVE_KEY, FLUSHING_ADD_KEY, FLUSHING_REMOVE_KEY),
+                key.serialize()
+        );
+        if (state == null || state < 0) {
+            return Optional.empty();
+        }
+        return Optional.of(state == 1);
+    }
+
+    @Override
+    public Map<LikeKey, Boolean> findPendingStates(List<LikeKey> keys) {
+        if (keys.isEmpty()) {
+            return Map.of();
+        }
+        List<?> states = redisTemplate.execute(
+                PENDING_STATES_SCRIPT,
+                List.of(PENDING_ADD_KEY, PENDING_REMOVE_KEY, FLUSHING_ADD_KEY, FLUSHING_REMOVE_KEY),
+                keys.stream().map(LikeKey::serialize).toArray()
+        );
+        if (states == null) {
+            return Map.of();
+        }
+        Map<LikeKey, Boolean> result = new HashMap<>();
+        for (int i = 0; i < keys.size(); i++) {
+            long state = ((Number) states.get(i)).longValue();
+            if (state >= 0) {
+                result.put(keys.get(i), state == 1);
+            }
+        }
+        return result;
+    }
+
+    @Override
+    public boolean tryLockFlush(Duration ttl) {
+        return Boolean.TRUE.equals(redisTemplate.opsForValue().setIfAbsent(FLUSH_LOCK_KEY, lockToken, ttl));
+    }
+
+    @Override
+    public void unlockFlush() {
+        redisTemplate.execute(UNLOCK_SCRIPT, List.of(FLUSH_LOCK_KEY), lockToken);
+    }
+
+    @Override
+    public boolean hasPending() {
+        Long count = redisTemplate.countExistingKeys(
+                List.of(PENDING_ADD_KEY, PENDING_REMOVE_KEY, FLUSHING_ADD_KEY, FLUSHING_REMOVE_KEY)
+        );
+        return count != null && count > 0;
+    }
+
+    @Override
+    public PendingLikes drain(int limit) {
+        redisTemplate.execute(
+                DRAIN_SCRIPT,
+                List.of(PENDING_ADD_KEY, PENDING_REMOVE_KEY, FLUSHING_ADD_KEY, FLUSHING_REMOVE_KEY),
+                String.valueOf(limit)
+        );
+        return new PendingLikes(members(FLUSHING_ADD_KEY), members(FLUSHING_REMOVE_KEY));
+    }
+
+    @Override
+    public void completeDrain() {
+        redisTemplate.delete(List.of(FLUSHING_ADD_KEY, FLUSHING_REMOVE_KEY));
+    }
+
+    private Optional<Boolean> record(LikeKey key, boolean liked) {
+        Long previous = redisTemplate.execute(
+                RECORD_SCRIPT,
+                List.of(PENDING_ADD_KEY, PENDING_REMOVE_KEY, FLUSHING_ADD_KEY, FLUSHING_REMOVE_KEY),
+                key.serialize(),
+                liked ? "1" : "0"
+        );
+        if (previous == null || previous < 0) {
+            return Optional.empty();
+        }
+        return Optional.of(previous == 1);
+    }
+
+    // 반영 중 영역은 drain 한 번에 옮긴 만큼만 담기므로 전체를 읽어도 크기가 제한된다.
+    private Set<LikeKey> members(String key) {
+        Set<String> members = redisTemplate.opsForSet().members(key);
+        if (members == null) {
+            return Set.of();
+        }
+        return members.stream().map(LikeKey::parse).collect(Collectors.toSet());
+    }
+}
@@ -4,20 +4,34 @@ import com.loopers.domain.like.Like;
 import com.loopers.domain.product.Product;
 import com.loopers.domain.user.User;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Map;
-import java.util.Optional;
 
 public interface LikeJpaRepository extends JpaRepository<Like, Long> {
 
-    Optional<Like> findByUserAndProduct(User user, Product product);
     boolean existsByUserAndProduct(User user, Product product);
+    boolean existsByUserIdAndProductId(Long userId, Long productId);
+
+    // uk_likes_user_product (user_id, product_id) 인덱스만으로 처리된다.
+    @Query("SELECT l.product.id FROM Like l WHERE l.user.id = :userId AND l.product.id IN :productIds")
+    List<Long> findLikedProductIds(@Param("userId") Long userId, @Param("productIds") Collection<Long> productIds);
     Long countByProduct(Product product);
 
     @Query("SELECT l.product.id as productId, COUNT(l) as likeCount " +
             "FROM Like l WHERE l.product IN :products GROUP BY l.product.id")
     List<Map<String, Object>> findLikeCountsByProducts(@Param("products") List<Product> products);
+
+    @Modifying
+    @Query(value = "INSERT IGNORE INTO likes (user_id, product_id, created_at, updated_at) " +
+            "VALUES (:userId, :productId, UTC_TIMESTAMP(6), UTC_TIMESTAMP(6))", nativeQuery = true)
+    int insertIgnore(@Param("userId") Long userId, @Param("productId") Long productId);
+
+    @Modifying
+    @Query(value = "DELETE FROM likes WHERE user_id = :userId AND product_id = :productId", nativeQuery = true)
+    int deleteByUserIdAndProductId(@Param("userId") Long userId, @Param("productId") Long productId);
 }
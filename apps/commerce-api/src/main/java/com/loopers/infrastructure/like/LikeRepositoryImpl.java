@@ -1,37 +1,60 @@
 package com.loopers.infrastructure.like;
 
 import com.loopers.domain.like.Like;
+import com.loopers.domain.like.LikeCursor;
+import com.loopers.domain.like.LikeCursorCondition;
+import com.loopers.domain.like.LikeKey;
 import com.loopers.domain.like.LikeRepository;
+import com.loopers.domain.like.LikedProduct;
+import com.loopers.domain.like.QLike;
 import com.loopers.domain.product.Product;
 import com.loopers.domain.user.User;
+import com.querydsl.core.types.Projections;
+import com.querydsl.core.types.dsl.BooleanExpression;
+import com.querydsl.jpa.impl.JPAQueryFactory;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.Query;
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
 import org.springframework.stereotype.Repository;
 
+import java.util.ArrayList;
+import java.util.Collection;
 import java.util.Collections;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
-import java.util.Optional;
+import java.util.Set;
 import java.util.stream.Collectors;
 
 @Repository
 @RequiredArgsConstructor
 public class LikeRepositoryImpl implements LikeRepository {
 
+    private static final QLike like = QLike.like;
+
     private final LikeJpaRepository jpaRepository;
+    private final JPAQueryFactory queryFactory;
+    private final EntityManager entityManager;
 
     @Override
     public Like save(Like like) {
         return jpaRepository.save(like);
     }
 
+    /**
+     * (user_id, product_id) 유니크 제약에 걸리면 INSERT IGNORE 가 0 행을 반환하므로, 조회 없이 한 번의 쿼리로 중복을 거른다.
+     */
     @Override
-    public void delete(Like like) {
-        jpaRepository.delete(like);
+    public boolean insertIgnore(Long userId, Long productId) {
+        return jpaRepository.insertIgnore(userId, productId) > 0;
     }
 
     @Override
-    public Optional<Like> findByUserAndProduct(User user, Product product) {
-        return jpaRepository.findByUserAndProduct(user, product);
+    public boolean delete(Long userId, Long productId) {
+        return jpaRepository.deleteByUserIdAndProductId(userId, productId) > 0;
     }
 
     @Override
@@ -56,4 +79,85 @@ public class LikeRepositoryImpl implements LikeRepository {
                         map -> (Long) map.get("likeCount")
                 ));
     }
+
+    @Override
+    public boolean existsByUserIdAndProductId(Long userId, Long productId) {
+        return jpaRepository.existsByUserIdAndProductId(userId, productId);
+    }
+
+    @Override
+    public Set<Long> findLikedProductIds(Long userId, Collection<Long> productIds) {
+        if (productIds.isEmpty()) {
+            return Set.of();
+        }
+        return new HashSet<>(jpaRepository.findLikedProductIds(userId, productIds));
+    }
+
+    /**
+     * (user_id, created_at, product_id) 인덱스만 읽고 끝나도록 프로젝션으로 조회하며, 상품 조인은 하지 않는다.
+     */
+    @Override
+    public Slice<LikedProduct> findLikedProducts(LikeCursorCondition condition) {
+        List<LikedProduct> likedProducts = new ArrayList<>(queryFactory
+                .select(Projections.constructor(LikedProduct.class, like.product.id, like.createdAt))
+                .from(like)
+                .where(
+                        like.user.id.eq(condition.userId()),
+                        afterCursor(condition.cursor())
+                )
+                .orderBy(like.createdAt.desc(), like.product.id.desc())
+                .limit(condition.size() + 1L)
+                .fetch());
+
+        boolean hasNext = likedProducts.size() > condition.size();
+        if (hasNext) {
+            likedProducts.remove(likedProducts.size() - 1);
+        }
+        return new SliceImpl<>(likedProducts, PageRequest.ofSize(condition.size()), hasNext);
+    }
+
+    /**
+     * (user_id, product_id) 유니크 제약에 걸리는 행은 INSERT IGNORE 로 건너뛰어, 한 번의 다중 행 INSERT 로 처리한다.
+     */
+    @Override
+    public int insertIgnoreAll(Collection<LikeKey> keys) {
+        if (keys.isEmpty()) {
+            return 0;
+        }
+        String values = String.join(", ", Collections.nCopies(keys.size(), "(?, ?, UTC_TIMESTAMP(6), UTC_TIMESTAMP(6))"));
+        Query query = entityManager.createNativeQuery(
+                "INSERT IGNORE INTO likes (user_id, product_id, created_at, updated_at) VALUES " + values
+        );
+        bindKeys(query, keys);
+        return query.executeUpdate();
+    }
+
+    @Override
+    public int deleteAll(Collection<LikeKey> keys) {
+        if (keys.isEmpty()) {
+            return 0;
+        }
+        String tuples = String.join(", ", Collections.nCopies(keys.size(), "(?, ?)"));
+        Query query = entityManager.createNativeQuery(
+                "DELETE FROM likes WHERE (user_id, product_id) IN (" + tuples + ")"
+        );
+        bindKeys(query, keys);
+        return query.executeUpdate();
+    }
+
+    private BooleanExpression afterCursor(LikeCursor cursor) {
+        if (cursor == null) {
+            return null;
+        }
+        return like.createdAt.lt(cursor.likedAt())
+                .or(like.createdAt.eq(cursor.likedAt()).and(like.product.id.lt(cursor.productId())));
+    }
+
+    private void bindKeys(Query query, Collection<LikeKey> keys) {
+        int position = 1;
+        for (LikeKey key : keys) {
+            query.setParameter(position++, key.userId());
+            query.setParameter(position++, key.productId());
+        }
+    }
 }
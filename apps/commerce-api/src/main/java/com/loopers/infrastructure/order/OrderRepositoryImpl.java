@@ -1,11 +1,28 @@
 package com.loopers.infrastructure.order;
 
 import com.loopers.domain.order.Order;
+import com.loopers.domain.order.OrderCursor;
+import com.loopers.domain.order.OrderCursorCondition;
+import com.loopers.domain.order.OrderItemSummary;
 import com.loopers.domain.order.OrderRepository;
+import com.loopers.domain.order.OrderStatus;
+import com.loopers.domain.order.OrderSummary;
+import com.loopers.domain.order.QOrder;
+import com.loopers.domain.order.QOrderItem;
+import com.loopers.domain.product.QProduct;
 import com.loopers.domain.user.User;
+import com.querydsl.core.types.Projections;
+import com.querydsl.core.types.dsl.BooleanExpression;
+import com.querydsl.jpa.impl.JPAQueryFactory;
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
 import org.springframework.stereotype.Repository;
 
+import java.time.ZonedDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -13,7 +30,12 @@ import java.util.Optional;
 @RequiredArgsConstructor
 public class OrderRepositoryImpl implements OrderRepository {
 
+    private static final QOrder order = QOrder.order;
+    private static final QOrderItem orderItem = QOrderItem.orderItem;
+    private static final QProduct product = QProduct.product;
+
     private final OrderJpaRepository jpaRepository;
+    private final JPAQueryFactory queryFactory;
 
     @Override
     public Order save(Order order) {
@@ -29,4 +51,66 @@ public class OrderRepositoryImpl implements OrderRepository {
     public List<Order> findAllByUser(User user) {
         return jpaRepository.findAllByUser(user);
     }
+
+    @Override
+    public Optional<Order> findByIdForUpdate(Long orderId) {
+        return jpaRepository.findByIdForUpdate(orderId);
+    }
+
+    @Override
+    public List<Long> findPendingIdsCreatedBefore(ZonedDateTime before, int limit) {
+        return jpaRepository.findIdsByStatusCreatedBefore(OrderStatus.PENDING, before, PageRequest.of(0, limit));
+    }
+
+    @Override
+    public Slice<OrderSummary> findOrderSummaries(OrderCursorCondition condition) {
+        List<OrderSummary> summaries = new ArrayList<>(queryFactory
+                .select(Projections.constructor(OrderSummary.class,
+                        order.id,
+                        order.totalAmount.value,
+                        order.status,
+                        order.paidAt,
+                        order.failureReason,
+                        order.createdAt
+                ))
+                .from(order)
+                .where(
+                        order.user.id.eq(condition.userId()),
+                        beforeCursor(condition.cursor())
+                )
+                .orderBy(order.createdAt.desc(), order.id.desc())
+                .limit(condition.size() + 1L)
+                .fetch());
+
+        boolean hasNext = summaries.size() > condition.size();
+        if (hasNext) {
+            summaries.remove(summaries.size() - 1);
+        }
+        return new SliceImpl<>(summaries, PageRequest.ofSize(condition.size()), hasNext);
+    }
+
+    @Override
+    public List<OrderItemSummary> findItemSummaries(Collection<Long> orderIds) {
+        return queryFactory
+                .select(Projections.constructor(OrderItemSummary.class,
+                        orderItem.order.id,
+                        product.id,
+                        product.name,
+                        orderItem.quantity,
+                        orderItem.orderItemPrice.value
+                ))
+                .from(orderItem)
+                .join(orderItem.product, product)
+                .where(orderItem.order.id.in(orderIds))
+                .orderBy(orderItem.order.id.asc(), orderItem.id.asc())
+                .fetch();
+    }
+
+    private BooleanExpression beforeCursor(OrderCursor cursor) {
+        if (cursor == null) {
+            return null;
+        }
+        return order.createdAt.lt(cursor.orderedAt())
+                .or(order.createdAt.eq(cursor.orderedAt()).and(order.id.lt(cursor.orderId())));
+    }
 }
@@ -0,0 +1,159 @@
+package com.loopers.infrastructure.outbox;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.loopers.domain.outbox.OutboxEvent;
+import com.loopers.domain.outbox.OutboxEventRepository;
+import com.loopers.support.kafka.EventEnvelope;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.ZonedDateTime;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * outbox 에 쌓인 이벤트를 id 순서대로 한 배치씩 Kafka 에 발행한다.
+ * <p>
+ * 배치는 짧은 트랜잭션에서 점유(claim)한 뒤 커밋하고 발행하므로, Kafka 응답을 기다리는 동안 outbox 에 행 잠금을 들고 있지 않는다.
+ * 같은 키의 이벤트는 앞선 이벤트의 발행이 확인된 뒤에 보내고, 실패하면 그 키의 나머지는 보내지 않고 점유를 풀어 다음 실행에서 다시 보낸다.
+ * 발행은 점유 만료 전에 끝나도록 배치 마감 시간(batchDeadline)까지만 진행하며, 마감에 걸린 이벤트는 실패와 같이 다음 실행으로 넘긴다.
+ * 발행은 최소 한 번(at-least-once)이며, 점유가 만료된 뒤 다른 릴레이가 다시 보낼 수도 있으므로 소비자는 eventId 로 중복을 걸러야 한다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class OutboxRelay {
+
+    private static final Duration SEND_TIMEOUT = Duration.ofSeconds(10);
+
+    private final OutboxEventRepository outboxEventRepository;
+    private final KafkaTemplate<Object, Object> kafkaTemplate;
+    private final ObjectMapper objectMapper;
+    private final TransactionTemplate transactionTemplate;
+    private final OutboxRelayProperties properties;
+    private final String relayId = UUID.randomUUID().toString();
+
+    public int relay(int batchSize) {
+        List<OutboxEvent> events = transactionTemplate.execute(status -> claim(batchSize));
+        if (events == null || events.isEmpty()) {
+            return 0;
+        }
+
+        Set<Long> publishedIds = publishInKeyOrder(events);
+        List<Long> unpublishedIds = events.stream()
+                .map(OutboxEvent::getId)
+                .filter(id -> !publishedIds.contains(id))
+                .toList();
+        transactionTemplate.executeWithoutResult(status -> {
+            outboxEventRepository.markPublished(publishedIds);
+            outboxEventRepository.releaseClaim(unpublishedIds, relayId);
+        });
+        return publishedIds.size();
+    }
+
+    @Transactional
+    public int purge(ZonedDateTime publishedBefore, int limit) {
+        return outboxEventRepository.deletePublishedBefore(publishedBefore, limit);
+    }
+
+    /**
+     * 발행 대기 이벤트를 id 순으로 읽어 점유한다. 다른 릴레이가 점유 중인 이벤트가 있으면 같은 키의 이후 이벤트는 가져가지 않는다.
+     */
+    private List<OutboxEvent> claim(int batchSize) {
+        ZonedDateTime now = ZonedDateTime.now();
+        Set<String> blockedKeys = new HashSet<>();
+        List<OutboxEvent> claimed = new ArrayList<>();
+        for (OutboxEvent event : outboxEventRepository.findUnpublishedForUpdate(batchSize)) {
+            String key = orderingKey(event);
+            if (event.isClaimedAt(now) || blockedKeys.contains(key)) {
+                blockedKeys.add(key);
+                continue;
+            }
+            claimed.add(event);
+        }
+        outboxEventRepository.claim(claimed.stream().map(OutboxEvent::getId).toList(), relayId, now.plus(properties.claimTtl()));
+        return claimed;
+    }
+
+    /**
+     * 키마다 맨 앞 이벤트 하나씩을 동시에 보내고 결과를 확인하는 것을 반복한다. 실패한 키는 그 뒤의 이벤트를 보내지 않는다.
+     * 마감 시간이 지나면 새 라운드를 시작하지 않고, 결과를 기다리는 시간도 마감까지로 줄인다.
+     */
+    private Set<Long> publishInKeyOrder(List<OutboxEvent> events) {
+        Map<String, Deque<OutboxEvent>> queues = new LinkedHashMap<>();
+        events.forEach(event -> queues.computeIfAbsent(orderingKey(event), key -> new ArrayDeque<>()).add(event));
+
+        long deadline = System.nanoTime() + properties.batchDeadline().toNanos();
+        Set<Long> publishedIds = new HashSet<>();
+        while (!queues.isEmpty() && System.nanoTime() < deadline) {
+            List<CompletableFuture<?>> results = queues.values().stream()
+                    .<CompletableFuture<?>>map(queue -> send(queue.peekFirst()))
+                    .toList();
+
+            Iterator<Deque<OutboxEvent>> iterator = queues.values().iterator();
+            for (CompletableFuture<?> result : results) {
+                Deque<OutboxEvent> queue = iterator.next();
+                OutboxEvent event = queue.pollFirst();
+                if (!await(result, event, deadline)) {
+                    iterator.remove();
+                    continue;
+                }
+                publishedIds.add(event.getId());
+                if (queue.isEmpty()) {
+                    iterator.remove();
+                }
+            }
+        }
+        return publishedIds;
+    }
+
+    private CompletableFuture<?> send(OutboxEvent event) {
+        try {
+            EventEnvelope envelope = new EventEnvelope(
+                    event.getEventId(),
+                    event.getEventType(),
+                    event.getAggregateKey(),
+                    event.getCreatedAt(),
+                    objectMapper.readTree(event.getPayload())
+            );
+            return kafkaTemplate.send(event.getTopic(), event.getAggregateKey(), envelope);
+        } catch (Exception e) {
+            return CompletableFuture.failedFuture(e);
+        }
+    }
+
+    private boolean await(CompletableFuture<?> result, OutboxEvent event, long deadline) {
+        long timeout = Math.min(SEND_TIMEOUT.toNanos(), Math.max(deadline - System.nanoTime(), 0));
+        try {
+            result.get(timeout, TimeUnit.NANOSECONDS);
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        } catch (ExecutionException | TimeoutException e) {
+            log.warn("outbox 이벤트 발행 실패 : eventId={}, topic={}", event.getEventId(), event.getTopic(), e);
+            return false;
+        }
+    }
+
+    private static String orderingKey(OutboxEvent event) {
+        return event.getTopic() + ":" + event.getAggregateKey();
+    }
+}
@@ -0,0 +1,27 @@
+package com.loopers.infrastructure.outbox;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * @param claimTtl      릴레이가 점유한 이벤트를 다른 릴레이가 가져가지 못하는 시간
+ * @param batchDeadline 한 배치의 발행에 쓰는 최대 시간. 점유가 만료되기 전에 발행 결과를 기록하도록 claimTtl 보다 짧아야 한다.
+ */
+@ConfigurationProperties("outbox.relay")
+public record OutboxRelayProperties(
+        Duration claimTtl,
+        Duration batchDeadline
+) {
+    public OutboxRelayProperties {
+        if (claimTtl == null) {
+            claimTtl = Duration.ofMinutes(1);
+        }
+        if (batchDeadline == null) {
+            batchDeadline = Duration.ofSeconds(40);
+        }
+        if (batchDeadline.compareTo(claimTtl) >= 0) {
+            throw new IllegalArgumentException("outbox.relay.batch-deadline 은 claim-ttl 보다 짧아야 합니다.");
+        }
+    }
+}
@@ -1,11 +1,39 @@
 package com.loopers.infrastructure.point;
 
 import com.loopers.domain.point.Point;
+import com.loopers.domain.point.PointTransactionType;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 import java.util.Optional;
 
 public interface PointJpaRepository extends JpaRepository<Point, Long> {
     Optional<Point> findByUserId(String userId);
     boolean existsByUserId(String userId);
+
+    @Modifying
+    @Query("UPDATE Point p SET p.balance.value = p.balance.value - :amount " +
+            "WHERE p.userId = :userId AND p.balance.value >= :amount")
+    int use(@Param("userId") String userId, @Param("amount") Long amount);
+
+    @Modifying
+    @Query("UPDATE Point p SET p.balance.value = p.balance.value + :amount WHERE p.userId = :userId")
+    int refund(@Param("userId") String userId, @Param("amount") Long amount);
+
+    // MySQL 은 SET 절을 왼쪽부터 평가하므로, 잔액 합산에는 옮기기 전의 반영 위치가 쓰인다.
+    // 같은 사용자의 스냅샷 반영이 겹치면 points 행 잠금 순서대로 직렬화되고, 뒤의 반영은 옮겨진 반영 위치 이후만 합산한다.
+    // 서브쿼리는 잠금 읽기로 수행되므로 커밋되지 않은 충전은 커밋될 때까지 기다렸다가 합산한다.
+    @Modifying
+    @Query("UPDATE Point p SET p.balance.value = p.balance.value + " +
+            "(SELECT COALESCE(SUM(t.amount), 0) FROM PointTransaction t " +
+            "WHERE t.userId = p.userId AND t.type = :type AND t.id > p.appliedTransactionId AND t.id <= :lastId), " +
+            "p.appliedTransactionId = :lastId " +
+            "WHERE p.userId = :userId AND p.appliedTransactionId < :lastId")
+    int applyPendingCharges(
+            @Param("userId") String userId,
+            @Param("lastId") Long lastId,
+            @Param("type") PointTransactionType type
+    );
 }
@@ -2,6 +2,7 @@ package com.loopers.infrastructure.point;
 
 import com.loopers.domain.point.Point;
 import com.loopers.domain.point.PointRepository;
+import com.loopers.domain.point.PointTransactionType;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Repository;
 
@@ -27,4 +28,19 @@ public class PointRepositoryImpl implements PointRepository {
     public boolean existsByUserId(String userId) {
         return pointJpaRepository.existsByUserId(userId);
     }
+
+    @Override
+    public boolean use(String userId, Long amount) {
+        return pointJpaRepository.use(userId, amount) > 0;
+    }
+
+    @Override
+    public boolean refund(String userId, Long amount) {
+        return pointJpaRepository.refund(userId, amount) > 0;
+    }
+
+    @Override
+    public void applyPendingCharges(String userId, Long lastId) {
+        pointJpaRepository.applyPendingCharges(userId, lastId, PointTransactionType.CHARGE);
+    }
 }
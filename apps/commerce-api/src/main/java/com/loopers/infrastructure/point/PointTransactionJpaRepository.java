@@ -0,0 +1,26 @@
+package com.loopers.infrastructure.point;
+
+import com.loopers.domain.point.PointTransaction;
+import com.loopers.domain.point.PointTransactionType;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.List;
+
+public interface PointTransactionJpaRepository extends JpaRepository<PointTransaction, Long> {
+    List<PointTransaction> findAllByUserIdOrderByIdAsc(String userId);
+
+    @Query("SELECT COALESCE(SUM(t.amount), 0) FROM PointTransaction t, Point p " +
+            "WHERE p.userId = :userId AND t.userId = p.userId AND t.type = :type AND t.id > p.appliedTransactionId")
+    long sumPendingCharges(@Param("userId") String userId, @Param("type") PointTransactionType type);
+
+    @Query("SELECT MAX(t.id) FROM PointTransaction t, Point p " +
+            "WHERE p.userId = :userId AND t.userId = p.userId AND t.type = :type AND t.id > p.appliedTransactionId")
+    Long findLastPendingId(@Param("userId") String userId, @Param("type") PointTransactionType type);
+
+    @Query("SELECT p.userId FROM Point p WHERE EXISTS (SELECT t.id FROM PointTransaction t " +
+            "WHERE t.userId = p.userId AND t.type = :type AND t.id > p.appliedTransactionId)")
+    List<String> findUserIdsWithPendingCharges(@Param("type") PointTransactionType type, Pageable pageable);
+}
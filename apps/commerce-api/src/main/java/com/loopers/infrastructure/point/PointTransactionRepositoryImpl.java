@@ -0,0 +1,43 @@
+package com.loopers.infrastructure.point;
+
+import com.loopers.domain.point.PointTransaction;
+import com.loopers.domain.point.PointTransactionRepository;
+import com.loopers.domain.point.PointTransactionType;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+import java.util.Optional;
+
+@Repository
+@RequiredArgsConstructor
+public class PointTransactionRepositoryImpl implements PointTransactionRepository {
+
+    private final PointTransactionJpaRepository pointTransactionJpaRepository;
+
+    @Override
+    public PointTransaction save(PointTransaction transaction) {
+        return pointTransactionJpaRepository.save(transaction);
+    }
+
+    @Override
+    public List<PointTransaction> findAllByUserId(String userId) {
+        return pointTransactionJpaRepository.findAllByUserIdOrderByIdAsc(userId);
+    }
+
+    @Override
+    public long sumPendingCharges(String userId) {
+        return pointTransactionJpaRepository.sumPendingCharges(userId, PointTransactionType.CHARGE);
+    }
+
+    @Override
+    public Optional<Long> findLastPendingId(String userId) {
+        return Optional.ofNullable(pointTransactionJpaRepository.findLastPendingId(userId, PointTransactionType.CHARGE));
+    }
+
+    @Override
+    public List<String> findUserIdsWithPendingCharges(int size) {
+        return pointTransactionJpaRepository.findUserIdsWithPendingCharges(PointTransactionType.CHARGE, PageRequest.ofSize(size));
+    }
+}
@@ -5,17 +5,57 @@ import org.springframework.data.repository.query.Param;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 
 import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
 
 public interface ProductJpaRepository extends JpaRepository<Product, Long> {
 
+    @Query("SELECT p FROM Product p JOIN FETCH p.brand WHERE p.id = :id")
+    Optional<Product> findByIdWithBrand(@Param("id") Long id);
+
     @Query("SELECT p FROM Product p WHERE p.id IN :ids")
     List<Product> findAllByIds(@Param("ids") Collection<Long> ids);
 
-    @Query("SELECT p FROM Product p JOIN FETCH p.brand b " +
-            "WHERE (:brandId IS NULL OR b.id = :brandId)")
-    Page<Product> findProducts(@Param("brandId") Long brandId, Pageable pageable);
+    @Query("SELECT p FROM Product p JOIN FETCH p.brand WHERE p.id IN :ids")
+    List<Product> findAllByIdsWithBrand(@Param("ids") Collection<Long> ids);
+
+    @Query(value = "SELECT p FROM Product p JOIN FETCH p.brand",
+            countQuery = "SELECT COUNT(p) FROM Product p")
+    Page<Product> findProducts(Pageable pageable);
+
+    // brand_id 조건을 OR 로 묶으면 (brand_id, like_count, id) 인덱스를 타지 못하므로 쿼리를 분리한다.
+    @Query(value = "SELECT p FROM Product p JOIN FETCH p.brand b WHERE b.id = :brandId",
+            countQuery = "SELECT COUNT(p) FROM Product p WHERE p.brand.id = :brandId")
+    Page<Product> findProductsByBrandId(@Param("brandId") Long brandId, Pageable pageable);
+
+    @Modifying
+    @Query("UPDATE Product p SET p.likeCount = p.likeCount + 1 WHERE p.id = :productId")
+    int increaseLikeCount(@Param("productId") Long productId);
+
+    @Modifying
+    @Query("UPDATE Product p SET p.likeCount = p.likeCount - 1 WHERE p.id = :productId AND p.likeCount > 0")
+    int decreaseLikeCount(@Param("productId") Long productId);
+
+    @Query("SELECT p.id FROM Product p WHERE p.id > :lastId ORDER BY p.id ASC")
+    List<Long> findIdsAfter(@Param("lastId") Long lastId, Pageable pageable);
+
+    // 값이 다른 행만 갱신하여, 반환값이 실제로 재집계된 상품 수가 되게 한다.
+    @Modifying
+    @Query("UPDATE Product p SET p.likeCount = (SELECT COUNT(l) FROM Like l WHERE l.product.id = p.id) " +
+            "WHERE p.id IN :ids " +
+            "AND p.likeCount <> (SELECT COUNT(l2) FROM Like l2 WHERE l2.product.id = p.id)")
+    int syncLikeCounts(@Param("ids") Collection<Long> ids);
+
+    // 선점 재고의 write-back 은 이미 Redis 에서 판정이 끝난 차감이므로 조건 없이 반영하되 음수만 막는다.
+    @Modifying
+    @Query(value = "UPDATE products SET stock = GREATEST(stock - :quantity, 0) WHERE id = :productId", nativeQuery = true)
+    int applyReservedStock(@Param("productId") Long productId, @Param("quantity") int quantity);
+
+    @Modifying
+    @Query(value = "UPDATE products SET stock = stock + :quantity WHERE id = :productId", nativeQuery = true)
+    int restoreStock(@Param("productId") Long productId, @Param("quantity") int quantity);
 }
@@ -1,21 +1,42 @@
 package com.loopers.infrastructure.product;
 
+import com.loopers.domain.brand.QBrand;
 import com.loopers.domain.product.Product;
+import com.loopers.domain.product.ProductCursor;
+import com.loopers.domain.product.ProductCursorCondition;
 import com.loopers.domain.product.ProductRepository;
+import com.loopers.domain.product.ProductSortType;
+import com.loopers.domain.product.QProduct;
+import com.querydsl.core.types.OrderSpecifier;
+import com.querydsl.core.types.dsl.BooleanExpression;
+import com.querydsl.jpa.impl.JPAQueryFactory;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.Query;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
 import org.springframework.stereotype.Repository;
 
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.SortedMap;
 
 @Repository
 @RequiredArgsConstructor
 public class ProductRepositoryImpl implements ProductRepository {
 
+    private static final QProduct product = QProduct.product;
+    private static final QBrand brand = QBrand.brand;
+
     private final ProductJpaRepository jpaRepository;
+    private final JPAQueryFactory queryFactory;
+    private final EntityManager entityManager;
 
     @Override
     public Product save(Product product) {
@@ -27,13 +48,138 @@ public class ProductRepositoryImpl implements ProductRepository {
         return jpaRepository.findById(id);
     }
 
+    @Override
+    public Optional<Product> findByIdWithBrand(Long id) {
+        return jpaRepository.findByIdWithBrand(id);
+    }
+
+    /**
+     * 재고가 충분한 행만 차감하는 단일 UPDATE 를 실행하고 영향받은 행 수를 반환한다.
+     * 기본키 IN 조건은 기본키 순서대로 행 잠금을 잡으므로, 여러 상품을 주문하는 트랜잭션끼리도 교착이 생기지 않는다.
+     */
+    @Override
+    public int decreaseStocks(SortedMap<Long, Integer> quantities) {
+        if (quantities.isEmpty()) {
+            return 0;
+        }
+        StringBuilder cases = new StringBuilder("CASE id");
+        StringBuilder ids = new StringBuilder();
+        int index = 0;
+        for (Long productId : quantities.keySet()) {
+            cases.append(" WHEN ?").append(index * 2 + 1).append(" THEN ?").append(index * 2 + 2);
+            ids.append(index == 0 ? "" : ", ").append('?').append(index * 2 + 1);
+            index++;
+        }
+        cases.append(" END");
+
+        Query query = entityManager.createNativeQuery(
+                "UPDATE products SET stock = stock - " + cases
+                        + " WHERE id IN (" + ids + ") AND stock >= " + cases
+        );
+        index = 0;
+        for (Map.Entry<Long, Integer> entry : quantities.entrySet()) {
+            query.setParameter(index * 2 + 1, entry.getKey());
+            query.setParameter(index * 2 + 2, entry.getValue());
+            index++;
+        }
+        return query.executeUpdate();
+    }
+
+    @Override
+    public void applyReservedStock(Long productId, int quantity) {
+        jpaRepository.applyReservedStock(productId, quantity);
+    }
+
+    @Override
+    public void restoreStock(Long productId, int quantity) {
+        jpaRepository.restoreStock(productId, quantity);
+    }
+
     @Override
     public List<Product> findAllByIds(Collection<Long> ids) {
         return jpaRepository.findAllByIds(ids);
     }
 
+    @Override
+    public List<Product> findAllByIdsWithBrand(Collection<Long> ids) {
+        if (ids.isEmpty()) {
+            return List.of();
+        }
+        return jpaRepository.findAllByIdsWithBrand(ids);
+    }
+
     @Override
     public Page<Product> findProducts(Pageable pageable, Long brandId) {
-        return jpaRepository.findProducts(brandId, pageable);
+        if (brandId == null) {
+            return jpaRepository.findProducts(pageable);
+        }
+        return jpaRepository.findProductsByBrandId(brandId, pageable);
+    }
+
+    @Override
+    public Slice<Product> findProductsByCursor(ProductCursorCondition condition) {
+        List<Product> products = new ArrayList<>(queryFactory.selectFrom(product)
+                .join(product.brand, brand).fetchJoin()
+                .where(
+                        brandIdEq(condition.brandId()),
+                        afterCursor(condition.sortType(), condition.cursor())
+                )
+                .orderBy(orderBy(condition.sortType()))
+                .limit(condition.size() + 1L)
+                .fetch());
+
+        boolean hasNext = products.size() > condition.size();
+        if (hasNext) {
+            products.remove(products.size() - 1);
+        }
+        return new SliceImpl<>(products, PageRequest.ofSize(condition.size()), hasNext);
+    }
+
+    @Override
+    public void increaseLikeCount(Long productId) {
+        jpaRepository.increaseLikeCount(productId);
+    }
+
+    @Override
+    public void decreaseLikeCount(Long productId) {
+        jpaRepository.decreaseLikeCount(productId);
+    }
+
+    @Override
+    public List<Long> findIdsAfter(Long lastId, int size) {
+        return jpaRepository.findIdsAfter(lastId, PageRequest.ofSize(size));
+    }
+
+    @Override
+    public int syncLikeCounts(Collection<Long> ids) {
+        if (ids == null || ids.isEmpty()) {
+            return 0;
+        }
+        return jpaRepository.syncLikeCounts(ids);
+    }
+
+    private BooleanExpression brandIdEq(Long brandId) {
+        return brandId != null ? product.brand.id.eq(brandId) : null;
+    }
+
+    private BooleanExpression afterCursor(ProductSortType sortType, ProductCursor cursor) {
+        if (cursor == null) {
+            return null;
+        }
+        return switch (sortType) {
+            case LATEST -> product.id.lt(cursor.id());
+            case PRICE_ASC -> product.price.value.gt(cursor.sortValue())
+                    .or(product.price.value.eq(cursor.sortValue()).and(product.id.gt(cursor.id())));
+            case LIKES_DESC -> product.likeCount.lt(cursor.sortValue())
+                    .or(product.likeCount.eq(cursor.sortValue()).and(product.id.lt(cursor.id())));
+        };
+    }
+
+    private OrderSpecifier<?>[] orderBy(ProductSortType sortType) {
+        return switch (sortType) {
+            case LATEST -> new OrderSpecifier<?>[]{product.id.desc()};
+            case PRICE_ASC -> new OrderSpecifier<?>[]{product.price.value.asc(), product.id.asc()};
+            case LIKES_DESC -> new OrderSpecifier<?>[]{product.likeCount.desc(), product.id.desc()};
+        };
     }
 }
@@ -0,0 +1,207 @@
+package com.loopers.infrastructure.product;
+
+import com.loopers.config.redis.RedisConfig;
+import com.loopers.domain.product.StockReservationRepository;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Repository;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.SortedMap;
+import java.util.UUID;
+import java.util.stream.Collectors;
+
+/**
+ * 재고 선점은 복제 지연의 영향을 받으면 안 되므로 모든 명령을 master 로 보낸다.
+ */
+@Repository
+public class StockReservationRepositoryImpl implements StockReservationRepository {
+
+    private static final String STOCK_KEY_PREFIX = "stock:reserved:";
+    private static final String ENROLLED_KEY = "stock:enrolled";
+    private static final String WRITE_BACK_KEY = "stock:writeback";
+    private static final String WRITE_BACK_PROCESSING_KEY = "stock:writeback:processing";
+    private static final String WRITE_BACK_LOCK_KEY = "stock:writeback:lock";
+
+    // 존재하는 키(등록 상품)만 검사 후 일괄 차감한다. 반환값 첫 원소는 성공 여부(1/0), 이후는 차감된 KEYS 인덱스.
+    private static final RedisScript<List> RESERVE_SCRIPT = new DefaultRedisScript<>("""
+            local reserved = {1}
+            for i, key in ipairs(KEYS) do
+              local stock = redis.call('GET', key)
+              if stock and tonumber(stock) < tonumber(ARGV[i]) then
+                return {0}
+              end
+            end
+            for i, key in ipairs(KEYS) do
+              if redis.call('EXISTS', key) == 1 then
+                redis.call('DECRBY', key, ARGV[i])
+                table.insert(reserved, i)
+              end
+            end
+            return reserved
+            """, List.class);
+
+    private static final RedisScript<Long> RELEASE_SCRIPT = new DefaultRedisScript<>("""
+            for i, key in ipairs(KEYS) do
+              if redis.call('EXISTS', key) == 1 then
+                redis.call('INCRBY', key, ARGV[i])
+              end
+            end
+            return 1
+            """, Long.class);
+
+    private static final RedisScript<Long> CLAMP_SCRIPT = new DefaultRedisScript<>("""
+            local stock = redis.call('GET', KEYS[1])
+            if stock and tonumber(stock) > tonumber(ARGV[1]) then
+              redis.call('SET', KEYS[1], ARGV[1])
+              return 1
+            end
+            return 0
+            """, Long.class);
+
+    private static final RedisScript<Long> DRAIN_SCRIPT = new DefaultRedisScript<>("""
+            if redis.call('EXISTS', KEYS[2]) == 1 then
+              return 1
+            end
+            if redis.call('EXISTS', KEYS[1]) == 1 then
+              redis.call('RENAME', KEYS[1], KEYS[2])
+              return 1
+            end
+            return 0
+            """, Long.class);
+
+    private static final RedisScript<Long> UNLOCK_SCRIPT = new DefaultRedisScript<>(
+            "if redis.call('get', KEYS[1]) == ARGV[1] then return redis.call('del', KEYS[1]) else return 0 end",
+            Long.class
+    );
+
+    private final RedisTemplate<String, String> redisTemplate;
+    private final String lockToken = UUID.randomUUID().toString();
+
+    public StockReservationRepositoryImpl(
+            @Qualifier(RedisConfig.REDIS_TEMPLATE_MASTER) RedisTemplate<String, String> redisTemplate
+    ) {
+        this.redisTemplate = redisTemplate;
+    }
+
+    @Override
+    public boolean enroll(Long productId, int stock) {
+        Boolean created = redisTemplate.opsForValue().setIfAbsent(stockKey(productId), String.valueOf(stock));
+        redisTemplate.opsForSet().add(ENROLLED_KEY, String.valueOf(productId));
+        return Boolean.TRUE.equals(created);
+    }
+
+    @Override
+    public void withdraw(Long productId) {
+        redisTemplate.delete(stockKey(productId));
+        redisTemplate.opsForSet().remove(ENROLLED_KEY, String.valueOf(productId));
+    }
+
+    @Override
+    public Set<Long> findEnrolledProductIds() {
+        Set<String> members = redisTemplate.opsForSet().members(ENROLLED_KEY);
+        if (members == null) {
+            return Set.of();
+        }
+        return members.stream().map(Long::valueOf).collect(Collectors.toSet());
+    }
+
+    @Override
+    public Optional<Integer> findStock(Long productId) {
+        return Optional.ofNullable(redisTemplate.opsForValue().get(stockKey(productId))).map(Integer::valueOf);
+    }
+
+    @Override
+    public Optional<Map<Long, Integer>> reserve(SortedMap<Long, Integer> quantities) {
+        List<Long> productIds = new ArrayList<>(quantities.keySet());
+        List<String> keys = productIds.stream().map(StockReservationRepositoryImpl::stockKey).toList();
+        Object[] args = quantities.values().stream().map(String::valueOf).toArray();
+
+        List<?> result = redisTemplate.execute(RESERVE_SCRIPT, keys, args);
+        if (result == null || result.isEmpty() || ((Number) result.get(0)).longValue() == 0) {
+            return Optional.empty();
+        }
+        Map<Long, Integer> reserved = new HashMap<>();
+        for (Object index : result.subList(1, result.size())) {
+            Long productId = productIds.get(((Number) index).intValue() - 1);
+            reserved.put(productId, quantities.get(productId));
+        }
+        return Optional.of(reserved);
+    }
+
+    @Override
+    public void release(Map<Long, Integer> quantities) {
+        if (quantities.isEmpty()) {
+            return;
+        }
+        List<String> keys = new ArrayList<>();
+        List<String> args = new ArrayList<>();
+        quantities.forEach((productId, quantity) -> {
+            keys.add(stockKey(productId));
+            args.add(String.valueOf(quantity));
+        });
+        redisTemplate.execute(RELEASE_SCRIPT, keys, args.toArray());
+    }
+
+    @Override
+    public void clampStock(Long productId, int maxStock) {
+        redisTemplate.execute(CLAMP_SCRIPT, List.of(stockKey(productId)), String.valueOf(maxStock));
+    }
+
+    @Override
+    public void addWriteBack(Map<Long, Integer> quantities) {
+        quantities.forEach((productId, quantity) ->
+                redisTemplate.opsForHash().increment(WRITE_BACK_KEY, String.valueOf(productId), quantity)
+        );
+    }
+
+    @Override
+    public Map<Long, Integer> drainWriteBack() {
+        Long drained = redisTemplate.execute(DRAIN_SCRIPT, List.of(WRITE_BACK_KEY, WRITE_BACK_PROCESSING_KEY));
+        if (drained == null || drained == 0) {
+            return Map.of();
+        }
+        return readHash(WRITE_BACK_PROCESSING_KEY);
+    }
+
+    @Override
+    public void completeWriteBack() {
+        redisTemplate.delete(WRITE_BACK_PROCESSING_KEY);
+    }
+
+    @Override
+    public Map<Long, Integer> findPendingWriteBack() {
+        Map<Long, Integer> pending = new HashMap<>(readHash(WRITE_BACK_KEY));
+        readHash(WRITE_BACK_PROCESSING_KEY).forEach((productId, quantity) -> pending.merge(productId, quantity, Integer::sum));
+        return pending;
+    }
+
+    @Override
+    public boolean tryLockWriteBack(Duration ttl) {
+        return Boolean.TRUE.equals(redisTemplate.opsForValue().setIfAbsent(WRITE_BACK_LOCK_KEY, lockToken, ttl));
+    }
+
+    @Override
+    public void unlockWriteBack() {
+        redisTemplate.execute(UNLOCK_SCRIPT, List.of(WRITE_BACK_LOCK_KEY), lockToken);
+    }
+
+    private Map<Long, Integer> readHash(String key) {
+        Map<Long, Integer> result = new HashMap<>();
+        redisTemplate.<String, String>opsForHash().entries(key)
+                .forEach((productId, quantity) -> result.put(Long.valueOf(productId), Integer.valueOf(quantity)));
+        return result;
+    }
+
+    private static String stockKey(Long productId) {
+        return STOCK_KEY_PREFIX + productId;
+    }
+}
@@ -0,0 +1,162 @@
+package com.loopers.infrastructure.ranking;
+
+import com.loopers.config.redis.RedisConfig;
+import com.loopers.domain.ranking.ProductScore;
+import com.loopers.domain.ranking.RankedProduct;
+import com.loopers.domain.ranking.RankingRepository;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.data.redis.connection.zset.Aggregate;
+import org.springframework.data.redis.connection.zset.Weights;
+import org.springframework.data.redis.core.RedisOperations;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.SessionCallback;
+import org.springframework.data.redis.core.ZSetOperations;
+import org.springframework.stereotype.Repository;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+
+/**
+ * 키 구성
+ * <ul>
+ *     <li>ranking:hourly:{yyyyMMddHH} - 시간 버킷별 전체 상품 점수</li>
+ *     <li>ranking:hourly:{yyyyMMddHH}:brand:{brandId} - 시간 버킷별 브랜드 상품 점수</li>
+ *     <li>ranking:hourly:{yyyyMMddHH}:brands - 해당 시간 버킷에 점수가 있는 브랜드 목록</li>
+ *     <li>ranking:trending, ranking:trending:brand:{brandId} - 버킷을 가중 합산한 랭킹</li>
+ * </ul>
+ * 조회는 ZREVRANGE 한 번으로 끝나며, 합산은 ZUNIONSTORE 로 대상 키를 원자적으로 교체한다.
+ */
+@Repository
+public class RankingRepositoryImpl implements RankingRepository {
+
+    private static final String HOURLY_KEY_PREFIX = "ranking:hourly:";
+    private static final String TRENDING_KEY = "ranking:trending";
+    private static final DateTimeFormatter HOUR_FORMATTER = DateTimeFormatter.ofPattern("yyyyMMddHH").withZone(ZoneOffset.UTC);
+    private static final Duration BUCKET_TTL = Duration.ofHours(25); // 윈도우(24시간) + 진행 중인 1시간
+    private static final Duration TRENDING_TTL = Duration.ofHours(24); // 활동이 끊긴 브랜드 랭킹 정리용
+
+    private final RedisTemplate<String, String> readTemplate;
+    private final RedisTemplate<String, String> writeTemplate;
+
+    public RankingRepositoryImpl(
+            RedisTemplate<String, String> defaultRedisTemplate,
+            @Qualifier(RedisConfig.REDIS_TEMPLATE_MASTER) RedisTemplate<String, String> masterRedisTemplate
+    ) {
+        this.readTemplate = defaultRedisTemplate;
+        this.writeTemplate = masterRedisTemplate;
+    }
+
+    @Override
+    public void increaseScores(Instant hour, List<ProductScore> scores) {
+        if (scores.isEmpty()) {
+            return;
+        }
+        String hourKey = hourlyKey(hour);
+        writeTemplate.executePipelined(sessionCallback(operations -> {
+            for (ProductScore score : scores) {
+                String member = String.valueOf(score.productId());
+                String brandKey = hourlyBrandKey(hour, score.brandId());
+                operations.opsForZSet().incrementScore(hourKey, member, score.score());
+                operations.opsForZSet().incrementScore(brandKey, member, score.score());
+                operations.opsForSet().add(hourlyBrandsKey(hour), String.valueOf(score.brandId()));
+                operations.expire(brandKey, BUCKET_TTL);
+            }
+            operations.expire(hourKey, BUCKET_TTL);
+            operations.expire(hourlyBrandsKey(hour), BUCKET_TTL);
+            return null;
+        }));
+    }
+
+    @Override
+    public void replaceScores(Instant hour, List<ProductScore> scores) {
+        String hourKey = hourlyKey(hour);
+        String brandsKey = hourlyBrandsKey(hour);
+        Set<String> previousBrandIds = writeTemplate.opsForSet().members(brandsKey);
+
+        writeTemplate.execute(sessionCallback(operations -> {
+            operations.multi();
+            operations.delete(hourKey);
+            operations.delete(brandsKey);
+            if (previousBrandIds != null) {
+                previousBrandIds.forEach(brandId -> operations.delete(hourlyBrandKey(hour, brandId)));
+            }
+            for (ProductScore score : scores) {
+                String member = String.valueOf(score.productId());
+                String brandKey = hourlyBrandKey(hour, score.brandId());
+                operations.opsForZSet().add(hourKey, member, score.score());
+                operations.opsForZSet().add(brandKey, member, score.score());
+                operations.opsForSet().add(brandsKey, String.valueOf(score.brandId()));
+                operations.expire(brandKey, BUCKET_TTL);
+            }
+            operations.expire(hourKey, BUCKET_TTL);
+            operations.expire(brandsKey, BUCKET_TTL);
+            return operations.exec();
+        }));
+    }
+
+    @Override
+    public void aggregate(Map<Instant, Double> hourWeights) {
+        List<Instant> hours = new ArrayList<>(hourWeights.keySet());
+        Weights weights = Weights.of(hours.stream().mapToDouble(hourWeights::get).toArray());
+
+        unionAndStore(hours.stream().map(this::hourlyKey).toList(), weights, TRENDING_KEY);
+
+        Set<String> brandIds = writeTemplate.opsForSet().union(hours.stream().map(this::hourlyBrandsKey).toList());
+        if (brandIds == null) {
+            return;
+        }
+        for (String brandId : brandIds) {
+            List<String> brandKeys = hours.stream()
+                    .map(hour -> hourlyBrandKey(hour, brandId))
+                    .toList();
+            unionAndStore(brandKeys, weights, TRENDING_KEY + ":brand:" + brandId);
+        }
+    }
+
+    @Override
+    public List<RankedProduct> findTop(Long brandId, int size) {
+        String key = brandId == null ? TRENDING_KEY : TRENDING_KEY + ":brand:" + brandId;
+        Set<ZSetOperations.TypedTuple<String>> tuples = readTemplate.opsForZSet().reverseRangeWithScores(key, 0, size - 1);
+        if (tuples == null) {
+            return List.of();
+        }
+        return tuples.stream()
+                .filter(tuple -> tuple.getValue() != null && tuple.getScore() != null && tuple.getScore() > 0)
+                .map(tuple -> new RankedProduct(Long.valueOf(tuple.getValue()), tuple.getScore()))
+                .toList();
+    }
+
+    private void unionAndStore(List<String> keys, Weights weights, String destKey) {
+        writeTemplate.opsForZSet().unionAndStore(keys.get(0), keys.subList(1, keys.size()), destKey, Aggregate.SUM, weights);
+        writeTemplate.expire(destKey, TRENDING_TTL);
+    }
+
+    private String hourlyKey(Instant hour) {
+        return HOURLY_KEY_PREFIX + HOUR_FORMATTER.format(hour);
+    }
+
+    private String hourlyBrandKey(Instant hour, Object brandId) {
+        return hourlyKey(hour) + ":brand:" + brandId;
+    }
+
+    private String hourlyBrandsKey(Instant hour) {
+        return hourlyKey(hour) + ":brands";
+    }
+
+    private SessionCallback<Object> sessionCallback(Function<RedisOperations<String, String>, Object> callback) {
+        return new SessionCallback<>() {
+            @Override
+            @SuppressWarnings("unchecked")
+            public <K, V> Object execute(RedisOperations<K, V> operations) {
+                return callback.apply((RedisOperations<String, String>) operations);
+            }
+        };
+    }
+}
@@ -0,0 +1,68 @@
+package com.loopers.infrastructure.ranking;
+
+import com.loopers.domain.ranking.RankingActivity;
+import com.loopers.domain.ranking.RankingSourceRepository;
+import jakarta.persistence.EntityManager;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Repository;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeFormatterBuilder;
+import java.time.temporal.ChronoField;
+import java.util.List;
+
+/**
+ * created_at 은 UTC 로 저장되므로 DATE_FORMAT 으로 자른 시간이 곧 UTC 기준 시간 버킷이다.
+ */
+@Repository
+@RequiredArgsConstructor
+public class RankingSourceRepositoryImpl implements RankingSourceRepository {
+
+    private static final DateTimeFormatter HOUR_FORMATTER = new DateTimeFormatterBuilder()
+            .appendPattern("yyyy-MM-dd HH")
+            .parseDefaulting(ChronoField.MINUTE_OF_HOUR, 0)
+            .toFormatter();
+
+    private final EntityManager entityManager;
+
+    @Override
+    public List<RankingActivity> findLikeActivities(Instant from) {
+        return query("""
+                SELECT DATE_FORMAT(l.created_at, '%Y-%m-%d %H') AS hour, l.product_id, p.brand_id, COUNT(*)
+                FROM likes l
+                JOIN products p ON p.id = l.product_id
+                WHERE l.created_at >= ?1
+                GROUP BY hour, l.product_id, p.brand_id
+                """, from);
+    }
+
+    @Override
+    public List<RankingActivity> findOrderActivities(Instant from) {
+        return query("""
+                SELECT DATE_FORMAT(o.created_at, '%Y-%m-%d %H') AS hour, oi.product_id, p.brand_id, SUM(oi.quantity)
+                FROM orders o
+                JOIN order_items oi ON oi.order_id = o.id
+                JOIN products p ON p.id = oi.product_id
+                WHERE o.created_at >= ?1 AND o.status = 'PAID'
+                GROUP BY hour, oi.product_id, p.brand_id
+                """, from);
+    }
+
+    @SuppressWarnings("unchecked")
+    private List<RankingActivity> query(String sql, Instant from) {
+        List<Object[]> rows = entityManager.createNativeQuery(sql)
+                .setParameter(1, LocalDateTime.ofInstant(from, ZoneOffset.UTC))
+                .getResultList();
+        return rows.stream()
+                .map(row -> new RankingActivity(
+                        LocalDateTime.parse((String) row[0], HOUR_FORMATTER).toInstant(ZoneOffset.UTC),
+                        ((Number) row[1]).longValue(),
+                        ((Number) row[2]).longValue(),
+                        ((Number) row[3]).longValue()
+                ))
+                .toList();
+    }
+}
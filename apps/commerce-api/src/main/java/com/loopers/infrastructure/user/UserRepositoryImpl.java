@@ -27,5 +27,9 @@ public class UserRepositoryImpl implements UserRepository {
     public boolean existsByUserId(String userId) {
         return jpaRepository.existsByUserId(userId);
     }
-}
 
+    @Override
+    public User getReference(Long id) {
+        return jpaRepository.getReferenceById(id);
+    }
+}
@@ -0,0 +1,53 @@
+package com.loopers.interfaces.api.auth;
+
+import com.loopers.application.user.LoginUser;
+import com.loopers.application.user.LoginUserResolver;
+import com.loopers.support.error.CoreException;
+import com.loopers.support.error.ErrorType;
+import lombok.RequiredArgsConstructor;
+import org.springframework.core.MethodParameter;
+import org.springframework.stereotype.Component;
+import org.springframework.web.bind.support.WebDataBinderFactory;
+import org.springframework.web.context.request.NativeWebRequest;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.method.support.HandlerMethodArgumentResolver;
+import org.springframework.web.method.support.ModelAndViewContainer;
+
+/**
+ * 컨트롤러의 {@link LoginUser} 파라미터를 X-USER-ID 헤더로 채운다. 한 요청 안에서는 한 번만 식별한다.
+ */
+@Component
+@RequiredArgsConstructor
+public class LoginUserArgumentResolver implements HandlerMethodArgumentResolver {
+
+    public static final String USER_ID_HEADER = "X-USER-ID";
+    private static final String LOGIN_USER_ATTRIBUTE = LoginUserArgumentResolver.class.getName() + ".LOGIN_USER";
+
+    private final LoginUserResolver loginUserResolver;
+
+    @Override
+    public boolean supportsParameter(MethodParameter parameter) {
+        return LoginUser.class.equals(parameter.getParameterType());
+    }
+
+    @Override
+    public LoginUser resolveArgument(
+            MethodParameter parameter,
+            ModelAndViewContainer mavContainer,
+            NativeWebRequest webRequest,
+            WebDataBinderFactory binderFactory
+    ) {
+        if (webRequest.getAttribute(LOGIN_USER_ATTRIBUTE, RequestAttributes.SCOPE_REQUEST) instanceof LoginUser loginUser) {
+            return loginUser;
+        }
+
+        String userId = webRequest.getHeader(USER_ID_HEADER);
+        if (userId == null || userId.isBlank()) {
+            throw new CoreException(ErrorType.BAD_REQUEST, "X-USER-ID 헤더는 필수입니다.");
+        }
+
+        LoginUser loginUser = loginUserResolver.resolve(userId);
+        webRequest.setAttribute(LOGIN_USER_ATTRIBUTE, loginUser, RequestAttributes.SCOPE_REQUEST);
+        return loginUser;
+    }
+}
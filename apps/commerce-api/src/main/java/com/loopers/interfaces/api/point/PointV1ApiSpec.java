@@ -1,14 +1,15 @@
 package com.loopers.interfaces.api.point;
 
+import com.loopers.application.user.LoginUser;
 import com.loopers.interfaces.api.ApiResponse;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.enums.ParameterIn;
 import io.swagger.v3.oas.annotations.media.Content;
 import io.swagger.v3.oas.annotations.media.Schema;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import org.springframework.web.bind.annotation.RequestBody;
-import org.springframework.web.bind.annotation.RequestHeader;
 
 @Tag(name = "Point API", description = "포인트 관리 API")
 public interface PointV1ApiSpec {
@@ -34,9 +35,9 @@ public interface PointV1ApiSpec {
                     content = @Content(schema = @Schema(implementation = ApiResponse.class))
             )
     })
+    @Parameter(name = "X-USER-ID", in = ParameterIn.HEADER, description = "사용자 ID", required = true)
     ApiResponse<PointV1Dto.PointResponse> getPoint(
-            @Parameter(description = "사용자 ID", required = true)
-            @RequestHeader(value = "X-USER-ID", required = false) String userId
+            @Parameter(hidden = true) LoginUser loginUser
     );
 
     @Operation(
@@ -60,9 +61,9 @@ public interface PointV1ApiSpec {
                     content = @Content(schema = @Schema(implementation = ApiResponse.class))
             )
     })
+    @Parameter(name = "X-USER-ID", in = ParameterIn.HEADER, description = "사용자 ID", required = true)
     ApiResponse<PointV1Dto.PointResponse> chargePoint(
-            @Parameter(description = "사용자 ID", required = true)
-            @RequestHeader(value = "X-USER-ID", required = false) String userId,
+            @Parameter(hidden = true) LoginUser loginUser,
             @Parameter(description = "충전 요청 정보", required = true)
             @RequestBody PointV1Dto.ChargeRequest request
     );
@@ -2,10 +2,8 @@ package com.loopers.interfaces.api.point;
 
 import com.loopers.application.point.PointCommand;
 import com.loopers.application.point.PointFacade;
-import com.loopers.domain.point.Point;
+import com.loopers.application.user.LoginUser;
 import com.loopers.interfaces.api.ApiResponse;
-import com.loopers.support.error.CoreException;
-import com.loopers.support.error.ErrorType;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.springframework.web.bind.annotation.*;
@@ -19,32 +17,22 @@ public class PointV1Controller implements PointV1ApiSpec {
 
     @GetMapping
     @Override
-    public ApiResponse<PointV1Dto.PointResponse> getPoint(
-            @RequestHeader(value = "X-USER-ID", required = false) String userId
-    ) {
-        if (userId == null || userId.isBlank()) {
-            throw new CoreException(ErrorType.BAD_REQUEST, "X-USER-ID 헤더는 필수입니다.");
-        }
-
-        Point point = pointFacade.getPoint(userId);
-        return ApiResponse.success(PointV1Dto.PointResponse.of(userId, point.getBalanceValue()));
+    public ApiResponse<PointV1Dto.PointResponse> getPoint(LoginUser loginUser) {
+        Long balance = pointFacade.getBalance(loginUser);
+        return ApiResponse.success(PointV1Dto.PointResponse.of(loginUser.userId(), balance));
     }
 
     @PostMapping("/charge")
     @Override
     public ApiResponse<PointV1Dto.PointResponse> chargePoint(
-            @RequestHeader(value = "X-USER-ID", required = false) String userId,
+            LoginUser loginUser,
             @RequestBody @Valid PointV1Dto.ChargeRequest request
     ) {
-        if (userId == null || userId.isBlank()) {
-            throw new CoreException(ErrorType.BAD_REQUEST, "X-USER-ID 헤더는 필수입니다.");
-        }
-
-        PointCommand command = request.toCommand(userId);
+        PointCommand command = request.toCommand(loginUser.userId());
 
         pointFacade.chargePoint(command);
-        Point point = pointFacade.getPoint(userId);
+        Long balance = pointFacade.getBalance(loginUser);
 
-        return ApiResponse.success(PointV1Dto.PointResponse.of(userId, point.getBalanceValue()));
+        return ApiResponse.success(PointV1Dto.PointResponse.of(loginUser.userId(), balance));
     }
 }
@@ -0,0 +1,34 @@
+package com.loopers.interfaces.api.ranking;
+
+import com.loopers.interfaces.api.ApiResponse;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+
+@Tag(name = "Ranking API", description = "상품 랭킹 API")
+public interface RankingV1ApiSpec {
+
+    @Operation(
+            summary = "트렌딩 상품 조회",
+            description = "최근 24시간의 좋아요/주문을 최근일수록 높은 가중치로 합산한 순위로 상품을 조회합니다. brandId 를 지정하면 해당 브랜드 내 순위를 조회합니다."
+    )
+    @ApiResponses(value = {
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(
+                    responseCode = "200",
+                    description = "트렌딩 상품 조회 성공",
+                    content = @Content(schema = @Schema(implementation = RankingV1Dto.TrendingResponse.class))
+            ),
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(
+                    responseCode = "400",
+                    description = "잘못된 조회 개수",
+                    content = @Content(schema = @Schema(implementation = ApiResponse.class))
+            )
+    })
+    ApiResponse<RankingV1Dto.TrendingResponse> getTrendingProducts(
+            @Parameter(description = "브랜드 ID (생략 시 전체)") Long brandId,
+            @Parameter(description = "조회 개수 (1 ~ 100)") int size
+    );
+}
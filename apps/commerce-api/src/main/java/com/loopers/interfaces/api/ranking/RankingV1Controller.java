@@ -0,0 +1,25 @@
+package com.loopers.interfaces.api.ranking;
+
+import com.loopers.application.ranking.RankingFacade;
+import com.loopers.application.ranking.RankingInfo;
+import com.loopers.interfaces.api.ApiResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.web.bind.annotation.*;
+
+@RestController
+@RequestMapping("/api/v1/rankings")
+@RequiredArgsConstructor
+public class RankingV1Controller implements RankingV1ApiSpec {
+
+    private final RankingFacade rankingFacade;
+
+    @GetMapping("/trending")
+    @Override
+    public ApiResponse<RankingV1Dto.TrendingResponse> getTrendingProducts(
+            @RequestParam(required = false) Long brandId,
+            @RequestParam(defaultValue = "20") int size
+    ) {
+        RankingInfo info = rankingFacade.getTrendingProducts(brandId, size);
+        return ApiResponse.success(RankingV1Dto.TrendingResponse.from(info));
+    }
+}
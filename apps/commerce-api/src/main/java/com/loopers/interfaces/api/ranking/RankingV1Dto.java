@@ -0,0 +1,42 @@
+package com.loopers.interfaces.api.ranking;
+
+import com.loopers.application.ranking.RankingInfo;
+
+import java.util.List;
+import java.util.stream.IntStream;
+
+public class RankingV1Dto {
+    public record TrendingResponse(
+            List<RankingItem> items
+    ) {
+        public static TrendingResponse from(RankingInfo info) {
+            List<RankingInfo.RankingContent> contents = info.contents();
+            List<RankingItem> items = IntStream.range(0, contents.size())
+                    .mapToObj(i -> RankingItem.of(i + 1, contents.get(i)))
+                    .toList();
+            return new TrendingResponse(items);
+        }
+    }
+
+    public record RankingItem(
+            int rank,
+            Long productId,
+            String productName,
+            Long price,
+            Long brandId,
+            String brandName,
+            Long likeCount
+    ) {
+        public static RankingItem of(int rank, RankingInfo.RankingContent content) {
+            return new RankingItem(
+                    rank,
+                    content.productId(),
+                    content.productName(),
+                    content.price(),
+                    content.brandId(),
+                    content.brandName(),
+                    content.likeCount()
+            );
+        }
+    }
+}
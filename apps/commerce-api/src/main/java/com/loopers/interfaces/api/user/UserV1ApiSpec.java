@@ -1,15 +1,16 @@
 package com.loopers.interfaces.api.user;
 
+import com.loopers.application.user.LoginUser;
 import com.loopers.interfaces.api.ApiResponse;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.enums.ParameterIn;
 import io.swagger.v3.oas.annotations.media.Content;
 import io.swagger.v3.oas.annotations.media.Schema;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.RequestBody;
-import org.springframework.web.bind.annotation.RequestHeader;
 
 @Tag(name = "User API", description = "사용자 관리 API")
 public interface UserV1ApiSpec {
@@ -57,12 +58,13 @@ public interface UserV1ApiSpec {
             )
     })
     @GetMapping("/me")
+    @Parameter(
+            name = "X-USER-ID",
+            in = ParameterIn.HEADER,
+            description = "사용자 ID",
+            required = true
+    )
     ApiResponse<UserV1Dto.UserResponse> getMyInfo(
-            @Parameter(
-                    name = "X-USER-ID",
-                    description = "사용자 ID",
-                    required = true
-            )
-            @RequestHeader("X-USER-ID") String userId
+            @Parameter(hidden = true) LoginUser loginUser
     );
 }
@@ -1,5 +1,6 @@
 package com.loopers.interfaces.api.user;
 
+import com.loopers.application.user.LoginUser;
 import com.loopers.application.user.UserCommand;
 import com.loopers.application.user.UserFacade;
 import com.loopers.application.user.UserInfo;
@@ -28,10 +29,8 @@ public class UserV1Controller implements UserV1ApiSpec {
 
     @GetMapping("/me")
     @Override
-    public ApiResponse<UserV1Dto.UserResponse> getMyInfo(
-            @RequestHeader("X-USER-ID") String userId
-    ) {
-        UserInfo userInfo = userFacade.getUserInfo(userId);
+    public ApiResponse<UserV1Dto.UserResponse> getMyInfo(LoginUser loginUser) {
+        UserInfo userInfo = userFacade.getUserInfo(loginUser);
         UserV1Dto.UserResponse response = UserV1Dto.UserResponse.from(userInfo);
 
         return ApiResponse.success(response);
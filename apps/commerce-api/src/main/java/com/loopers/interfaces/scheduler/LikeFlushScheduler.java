@@ -0,0 +1,43 @@
+package com.loopers.interfaces.scheduler;
+
+import com.loopers.application.like.LikeFacade;
+import com.loopers.application.like.LikeWriteBehindProperties;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * write-behind 모드에서 Redis 에 기록된 좋아요 의도를 likes 테이블에 일괄 반영한다.
+ * 한 번에 batchSize 건씩 반영하며, 가득 찬 배치가 나오면 밀린 의도가 있는 것으로 보고 바로 다음 배치를 처리한다.
+ * 모드를 끈 상태에서는 남은 의도가 있을 때만 반영하여, 트랜잭션을 주기적으로 열지 않는다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class LikeFlushScheduler {
+
+    private static final int MAX_BATCHES_PER_RUN = 20;
+
+    private final LikeFacade likeFacade;
+    private final LikeWriteBehindProperties writeBehindProperties;
+
+    @Scheduled(
+            initialDelayString = "${like.write-behind.flush-interval:PT1S}",
+            fixedDelayString = "${like.write-behind.flush-interval:PT1S}"
+    )
+    public void flush() {
+        try {
+            if (!writeBehindProperties.enabled() && !likeFacade.hasPendingLikes()) {
+                return;
+            }
+            for (int i = 0; i < MAX_BATCHES_PER_RUN; i++) {
+                if (likeFacade.flushPendingLikes() < writeBehindProperties.batchSize()) {
+                    return;
+                }
+            }
+        } catch (Exception e) {
+            log.error("좋아요 write-behind 반영 실패", e);
+        }
+    }
+}
@@ -0,0 +1,38 @@
+package com.loopers.interfaces.scheduler;
+
+import com.loopers.application.order.OrderFulfillmentWorker;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * 워커 오류나 큐 포화, 재시작으로 정산되지 못하고 남은 대기 주문을 다시 정산 워커에 넘긴다.
+ * 만료 시간이 지난 대기 주문은 먼저 실패로 확정하여 선점을 되돌린다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class OrderFulfillmentScheduler {
+
+    private final OrderFulfillmentWorker orderFulfillmentWorker;
+
+    @Scheduled(
+            initialDelayString = "${order.async.sweep-interval:PT30S}",
+            fixedDelayString = "${order.async.sweep-interval:PT30S}"
+    )
+    public void sweep() {
+        try {
+            int expired = orderFulfillmentWorker.expire();
+            if (expired > 0) {
+                log.info("정산 만료 주문 실패 처리 : {}건", expired);
+            }
+            int count = orderFulfillmentWorker.sweep();
+            if (count > 0) {
+                log.info("정산 대기 주문 재처리 : {}건", count);
+            }
+        } catch (Exception e) {
+            log.error("정산 대기 주문 재처리 실패", e);
+        }
+    }
+}
@@ -0,0 +1,54 @@
+package com.loopers.interfaces.scheduler;
+
+import com.loopers.infrastructure.outbox.OutboxRelay;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.ZonedDateTime;
+
+/**
+ * outbox 이벤트를 주기적으로 Kafka 에 발행하고, 발행 후 보존 기간이 지난 이벤트를 정리한다.
+ * 한 번 실행에 BATCH_SIZE 만큼 발행하며, 배치가 가득 차면 밀린 이벤트가 있는 것으로 보고 바로 다음 배치를 처리한다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class OutboxRelayScheduler {
+
+    private static final int BATCH_SIZE = 500;
+    private static final int MAX_BATCHES_PER_RUN = 20;
+    private static final int PURGE_BATCH_SIZE = 1000;
+    private static final long RETENTION_DAYS = 3;
+
+    private final OutboxRelay outboxRelay;
+
+    @Scheduled(
+            initialDelayString = "${outbox.relay-interval:PT1S}",
+            fixedDelayString = "${outbox.relay-interval:PT1S}"
+    )
+    public void relay() {
+        try {
+            for (int i = 0; i < MAX_BATCHES_PER_RUN; i++) {
+                if (outboxRelay.relay(BATCH_SIZE) < BATCH_SIZE) {
+                    return;
+                }
+            }
+        } catch (Exception e) {
+            log.error("outbox 이벤트 발행 실패", e);
+        }
+    }
+
+    @Scheduled(
+            initialDelayString = "${outbox.purge-interval:PT10M}",
+            fixedDelayString = "${outbox.purge-interval:PT10M}"
+    )
+    public void purge() {
+        try {
+            outboxRelay.purge(ZonedDateTime.now().minusDays(RETENTION_DAYS), PURGE_BATCH_SIZE);
+        } catch (Exception e) {
+            log.error("발행 완료 outbox 이벤트 정리 실패", e);
+        }
+    }
+}
@@ -0,0 +1,38 @@
+package com.loopers.interfaces.scheduler;
+
+import com.loopers.domain.point.PointService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * 미반영 충전 이력을 주기적으로 points.balance 스냅샷에 합산하여, 잔액 조회 시 합산할 이력이 쌓이지 않도록 한다.
+ * 사용자마다 별도의 트랜잭션으로 반영하며, 한 번에 최대 BATCH_SIZE 명까지만 처리한다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class PointSnapshotScheduler {
+
+    private static final int BATCH_SIZE = 500;
+
+    private final PointService pointService;
+
+    @Scheduled(
+            initialDelayString = "${point.snapshot-interval:PT1M}",
+            fixedDelayString = "${point.snapshot-interval:PT1M}"
+    )
+    public void applyPendingCharges() {
+        List<String> userIds = pointService.getUserIdsWithPendingCharges(BATCH_SIZE);
+        for (String userId : userIds) {
+            try {
+                pointService.applyPendingCharges(userId);
+            } catch (Exception e) {
+                log.warn("포인트 스냅샷 반영 실패 : userId={}", userId, e);
+            }
+        }
+    }
+}
@@ -0,0 +1,45 @@
+package com.loopers.interfaces.scheduler;
+
+import com.loopers.domain.product.ProductService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * products.like_count 와 likes 테이블 간의 불일치를 주기적으로 보정한다.
+ * 상품 ID 순으로 배치를 나누어, 배치마다 별도의 트랜잭션으로 재집계한다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ProductLikeCountScheduler {
+
+    private static final int BATCH_SIZE = 500;
+
+    private final ProductService productService;
+
+    @Scheduled(
+            initialDelayString = "${product.like-count.reconcile-interval:PT10M}",
+            fixedDelayString = "${product.like-count.reconcile-interval:PT10M}"
+    )
+    public void reconcileLikeCounts() {
+        long lastId = 0L;
+        int drifted = 0;
+
+        while (true) {
+            List<Long> productIds = productService.getProductIdsAfter(lastId, BATCH_SIZE);
+            if (productIds.isEmpty()) {
+                break;
+            }
+            drifted += productService.syncLikeCounts(productIds);
+            lastId = productIds.get(productIds.size() - 1);
+        }
+
+        if (drifted > 0) {
+            log.warn("좋아요 수 보정 완료 : {}건의 상품 좋아요 수가 재집계되었습니다.", drifted);
+        }
+    }
+}
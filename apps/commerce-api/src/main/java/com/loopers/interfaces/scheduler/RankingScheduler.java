@@ -0,0 +1,44 @@
+package com.loopers.interfaces.scheduler;
+
+import com.loopers.domain.ranking.RankingService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Instant;
+
+/**
+ * 시간 버킷을 가중 합산해 트렌딩 랭킹을 갱신하고, 주기적으로 MySQL 기준으로 버킷을 재구축한다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class RankingScheduler {
+
+    private final RankingService rankingService;
+
+    @Scheduled(
+            initialDelayString = "${ranking.refresh-interval:PT1M}",
+            fixedDelayString = "${ranking.refresh-interval:PT1M}"
+    )
+    public void refresh() {
+        try {
+            rankingService.refresh(Instant.now());
+        } catch (Exception e) {
+            log.error("트렌딩 랭킹 갱신 실패", e);
+        }
+    }
+
+    @Scheduled(
+            initialDelayString = "${ranking.rebuild-interval:PT1H}",
+            fixedDelayString = "${ranking.rebuild-interval:PT1H}"
+    )
+    public void rebuild() {
+        try {
+            rankingService.rebuild(Instant.now());
+        } catch (Exception e) {
+            log.error("트렌딩 랭킹 재구축 실패", e);
+        }
+    }
+}
@@ -0,0 +1,42 @@
+package com.loopers.interfaces.scheduler;
+
+import com.loopers.domain.product.StockReservationService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * Redis 에서 선점된 재고 차감분을 products.stock 에 반영하고, 주기적으로 두 저장소의 재고를 보정한다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class StockReservationScheduler {
+
+    private final StockReservationService stockReservationService;
+
+    @Scheduled(
+            initialDelayString = "${product.stock-reservation.write-back-interval:PT1S}",
+            fixedDelayString = "${product.stock-reservation.write-back-interval:PT1S}"
+    )
+    public void writeBack() {
+        try {
+            stockReservationService.writeBack();
+        } catch (Exception e) {
+            log.error("선점 재고 write-back 실패", e);
+        }
+    }
+
+    @Scheduled(
+            initialDelayString = "${product.stock-reservation.reconcile-interval:PT1M}",
+            fixedDelayString = "${product.stock-reservation.reconcile-interval:PT1M}"
+    )
+    public void reconcile() {
+        try {
+            stockReservationService.reconcile();
+        } catch (Exception e) {
+            log.error("선점 재고 보정 실패", e);
+        }
+    }
+}
@@ -0,0 +1,67 @@
+package com.loopers.support.cursor;
+
+import com.loopers.support.error.CoreException;
+import com.loopers.support.error.ErrorType;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * 커서 기반 페이지네이션에서 사용하는 커서를 클라이언트가 해석할 수 없는 문자열로 인코딩/디코딩한다.
+ */
+public final class CursorCodec {
+
+    private static final String DELIMITER = ",";
+    private static final Base64.Encoder ENCODER = Base64.getUrlEncoder().withoutPadding();
+    private static final Base64.Decoder DECODER = Base64.getUrlDecoder();
+
+    private CursorCodec() {
+    }
+
+    public static String encode(Object... values) {
+        String raw = Arrays.stream(values)
+                .map(String::valueOf)
+                .collect(Collectors.joining(DELIMITER));
+        return ENCODER.encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public static List<String> decode(String cursor, int expectedSize) {
+        try {
+            String raw = new String(DECODER.decode(cursor), StandardCharsets.UTF_8);
+            List<String> values = List.of(raw.split(DELIMITER, -1));
+            if (values.size() != expectedSize) {
+                throw invalidCursor();
+            }
+            return values;
+        } catch (IllegalArgumentException e) {
+            throw invalidCursor();
+        }
+    }
+
+    public static Long parseLong(String value) {
+        try {
+            return Long.parseLong(value);
+        } catch (NumberFormatException e) {
+            throw invalidCursor();
+        }
+    }
+
+    public static ZonedDateTime parseZonedDateTime(String value) {
+        try {
+            return ZonedDateTime.ofInstant(Instant.parse(value), ZoneOffset.UTC);
+        } catch (DateTimeParseException e) {
+            throw invalidCursor();
+        }
+    }
+
+    private static CoreException invalidCursor() {
+        return new CoreException(ErrorType.BAD_REQUEST, "유효하지 않은 커서입니다.");
+    }
+}
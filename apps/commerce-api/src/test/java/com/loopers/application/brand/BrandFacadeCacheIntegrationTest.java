@@ -0,0 +1,106 @@
+package com.loopers.application.brand;
+
+import com.loopers.domain.brand.Brand;
+import com.loopers.domain.brand.BrandRepository;
+import com.loopers.domain.brand.BrandService;
+import com.loopers.support.cache.TwoTierCacheManager;
+import com.loopers.utils.DatabaseCleanUp;
+import com.loopers.utils.RedisCleanUp;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.*;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.redis.connection.DefaultMessage;
+import org.springframework.test.context.bean.override.mockito.MockitoSpyBean;
+
+import java.nio.charset.StandardCharsets;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.*;
+
+@SpringBootTest
+class BrandFacadeCacheIntegrationTest {
+
+    @Autowired
+    private BrandFacade brandFacade;
+
+    @MockitoSpyBean
+    private BrandService brandService;
+
+    @Autowired
+    private BrandRepository brandRepository;
+
+    @Autowired
+    private TwoTierCacheManager cacheManager;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Autowired
+    private DatabaseCleanUp databaseCleanUp;
+
+    @Autowired
+    private RedisCleanUp redisCleanUp;
+
+    private Brand brand;
+
+    @BeforeEach
+    void setUp() {
+        brand = brandRepository.save(Brand.create("Cache Brand"));
+    }
+
+    @AfterEach
+    void tearDown() {
+        // L1 은 컨텍스트 간에 공유되므로 식별자가 재사용되기 전에 비운다.
+        brandFacade.evictBrand(brand.getId());
+        databaseCleanUp.truncateAllTables();
+        redisCleanUp.truncateAll();
+    }
+
+    @DisplayName("두 번째 조회부터는 L1 에서 브랜드를 반환한다.")
+    @Test
+    void returnsFromL1_afterFirstLoad() {
+        // act
+        BrandInfo first = brandFacade.getBrand(brand.getId());
+        BrandInfo second = brandFacade.getBrand(brand.getId());
+
+        // assert
+        assertThat(second).isEqualTo(first);
+        verify(brandService, times(1)).getBrand(brand.getId());
+        assertThat(meterRegistry.get("cache.gets").tags("cache", "brand", "tier", "l1", "result", "hit").functionCounter().count())
+                .isGreaterThanOrEqualTo(1);
+    }
+
+    @DisplayName("캐시를 제거하면 다음 조회 시 DB 에서 다시 적재한다.")
+    @Test
+    void reloadsFromDb_afterEvict() {
+        // arrange
+        brandFacade.getBrand(brand.getId());
+
+        // act
+        brandFacade.evictBrand(brand.getId());
+        brandFacade.getBrand(brand.getId());
+
+        // assert
+        verify(brandService, times(2)).getBrand(brand.getId());
+    }
+
+    @DisplayName("다른 노드가 발행한 무효화 메시지를 받으면 L1 에서 해당 키를 제거한다.")
+    @Test
+    void invalidatesL1_whenMessageFromOtherNode() {
+        // arrange
+        brandFacade.getBrand(brand.getId());
+        redisCleanUp.truncateAll();
+        String payload = "{\"origin\":\"other-node\",\"cache\":\"brand\",\"key\":\"" + brand.getId() + "\"}";
+
+        // act
+        cacheManager.onMessage(new DefaultMessage(
+                TwoTierCacheManager.INVALIDATION_CHANNEL.getBytes(StandardCharsets.UTF_8),
+                payload.getBytes(StandardCharsets.UTF_8)
+        ), null);
+        brandFacade.getBrand(brand.getId());
+
+        // assert
+        verify(brandService, times(2)).getBrand(brand.getId());
+    }
+}
@@ -0,0 +1,111 @@
+package com.loopers.application.like;
+
+import com.loopers.application.user.LoginUser;
+import com.loopers.domain.brand.Brand;
+import com.loopers.domain.brand.BrandRepository;
+import com.loopers.domain.like.LikeService;
+import com.loopers.domain.product.Product;
+import com.loopers.domain.product.ProductRepository;
+import com.loopers.domain.user.Gender;
+import com.loopers.domain.user.User;
+import com.loopers.domain.user.UserService;
+import com.loopers.utils.DatabaseCleanUp;
+import com.loopers.utils.RedisCleanUp;
+import org.junit.jupiter.api.*;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+class LikeFacadeIntegrationTest {
+
+    @Autowired
+    private LikeFacade likeFacade;
+
+    @Autowired
+    private LikeService likeService;
+
+    @Autowired
+    private UserService userService;
+
+    @Autowired
+    private BrandRepository brandRepository;
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    @Autowired
+    private DatabaseCleanUp databaseCleanUp;
+
+    @Autowired
+    private RedisCleanUp redisCleanUp;
+
+    private User user;
+    private List<Product> products;
+
+    @BeforeEach
+    void setUp() {
+        user = userService.signUp("myLikes01", "likes@mail.com", "1990-01-01", Gender.MALE);
+        Brand brand = brandRepository.save(Brand.create("My Likes Brand"));
+        products = new ArrayList<>();
+        for (int i = 1; i <= 5; i++) {
+            products.add(productRepository.save(Product.create("My Likes Product " + i, 1000L * i, 10, brand)));
+        }
+    }
+
+    @AfterEach
+    void tearDown() {
+        databaseCleanUp.truncateAllTables();
+        redisCleanUp.truncateAll();
+    }
+
+    @DisplayName("내가 좋아요한 상품 목록 조회")
+    @Nested
+    class GetMyLikes {
+
+        @DisplayName("최근에 좋아요한 순으로, 커서를 따라 다음 페이지를 조회할 수 있다.")
+        @Test
+        void returnsNewestFirst_withCursor() {
+            // arrange
+            products.forEach(product -> likeService.addLike(user, product));
+            LoginUser loginUser = LoginUser.from(user);
+
+            // act
+            LikedProductListInfo first = likeFacade.getMyLikes(loginUser, new LikeGetListCommand(null, 3));
+            LikedProductListInfo second = likeFacade.getMyLikes(loginUser, new LikeGetListCommand(first.nextCursor(), 3));
+
+            // assert
+            assertThat(first.contents())
+                    .extracting(LikedProductListInfo.LikedProductContent::productId)
+                    .containsExactly(products.get(4).getId(), products.get(3).getId(), products.get(2).getId());
+            assertThat(first.contents().get(0).brandName()).isEqualTo("My Likes Brand");
+            assertThat(first.hasNext()).isTrue();
+            assertThat(second.contents())
+                    .extracting(LikedProductListInfo.LikedProductContent::productId)
+                    .containsExactly(products.get(1).getId(), products.get(0).getId());
+            assertThat(second.hasNext()).isFalse();
+            assertThat(second.nextCursor()).isNull();
+        }
+
+        @DisplayName("다른 사용자의 좋아요는 포함되지 않는다.")
+        @Test
+        void excludesOtherUsersLikes() {
+            // arrange
+            User other = userService.signUp("myLikes02", "other@mail.com", "1990-01-01", Gender.FEMALE);
+            likeService.addLike(user, products.get(0));
+            likeService.addLike(other, products.get(1));
+
+            // act
+            LikedProductListInfo result = likeFacade.getMyLikes(LoginUser.from(user), new LikeGetListCommand(null, 10));
+
+            // assert
+            assertThat(result.contents())
+                    .extracting(LikedProductListInfo.LikedProductContent::productId)
+                    .containsExactly(products.get(0).getId());
+        }
+    }
+}
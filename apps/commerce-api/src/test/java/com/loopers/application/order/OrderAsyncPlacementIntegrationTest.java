@@ -0,0 +1,218 @@
+package com.loopers.application.order;
+
+import com.loopers.application.user.LoginUser;
+import com.loopers.domain.brand.Brand;
+import com.loopers.domain.brand.BrandRepository;
+import com.loopers.domain.order.Order;
+import com.loopers.domain.order.OrderService;
+import com.loopers.domain.order.OrderStatus;
+import com.loopers.domain.point.PointService;
+import com.loopers.domain.product.Product;
+import com.loopers.domain.product.ProductRepository;
+import com.loopers.domain.product.StockReservationRepository;
+import com.loopers.domain.product.StockReservationService;
+import com.loopers.domain.user.Gender;
+import com.loopers.domain.user.User;
+import com.loopers.domain.user.UserService;
+import com.loopers.support.error.CoreException;
+import com.loopers.support.error.ErrorType;
+import com.loopers.utils.DatabaseCleanUp;
+import com.loopers.utils.RedisCleanUp;
+import org.junit.jupiter.api.*;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.bean.override.mockito.MockitoSpyBean;
+
+import java.time.ZonedDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doNothing;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+// 워커 제출을 막아 접수 직후 상태와 스위퍼의 재제출을 검증한다.
+@SpringBootTest(properties = {
+        "order.async.enabled=true",
+        "order.async.stale-after=PT0S"
+})
+class OrderAsyncPlacementIntegrationTest {
+
+    @Autowired
+    private OrderFacade orderFacade;
+
+    @MockitoSpyBean
+    private OrderFulfillmentWorker orderFulfillmentWorker;
+
+    @Autowired
+    private OrderService orderService;
+
+    @Autowired
+    private UserService userService;
+
+    @Autowired
+    private PointService pointService;
+
+    @Autowired
+    private StockReservationService stockReservationService;
+
+    @Autowired
+    private StockReservationRepository stockReservationRepository;
+
+    @Autowired
+    private BrandRepository brandRepository;
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    @Autowired
+    private DatabaseCleanUp databaseCleanUp;
+
+    @Autowired
+    private RedisCleanUp redisCleanUp;
+
+    private User user;
+    private LoginUser loginUser;
+    private Product product;
+
+    @BeforeEach
+    void setUp() {
+        user = userService.signUp("accept01", "accept@mail.com", "1990-01-01", Gender.MALE);
+        loginUser = LoginUser.from(user);
+        pointService.createPoint("accept01");
+        Brand brand = brandRepository.save(Brand.create("Accept Brand"));
+        product = productRepository.save(Product.create("Accept Product", 1000L, 10, brand));
+        doNothing().when(orderFulfillmentWorker).submit(any());
+    }
+
+    @AfterEach
+    void tearDown() {
+        databaseCleanUp.truncateAllTables();
+        redisCleanUp.truncateAll();
+    }
+
+    private OrderPlaceCommand command(int quantity) {
+        return new OrderPlaceCommand(List.of(new OrderPlaceCommand.OrderItemCommand(product.getId(), quantity)));
+    }
+
+    private int getStock() {
+        return productRepository.findById(product.getId()).orElseThrow().getStockValue();
+    }
+
+    @DisplayName("주문 접수")
+    @Nested
+    class Accept {
+
+        @DisplayName("재고와 포인트를 선점하고 정산 대기 주문으로 저장한 뒤, 커밋 후 워커에 넘긴다.")
+        @Test
+        void savesPendingOrder_andHandsOffToWorker() {
+            // arrange
+            pointService.chargePoint("accept01", 10_000L);
+
+            // act
+            OrderInfo result = orderFacade.placeOrder(loginUser, command(3));
+
+            // assert
+            Order saved = orderService.getOrderByIdAndUser(result.orderId(), user);
+            assertAll(
+                    () -> assertThat(result.status()).isEqualTo(OrderStatus.PENDING),
+                    () -> assertThat(saved.getStatus()).isEqualTo(OrderStatus.PENDING),
+                    () -> assertThat(saved.getTotalAmountValue()).isEqualTo(3_000L),
+                    () -> assertThat(getStock()).isEqualTo(7),
+                    () -> assertThat(pointService.getBalance("accept01")).isEqualTo(7_000L)
+            );
+            verify(orderFulfillmentWorker, times(1)).submit(result.orderId());
+        }
+
+        @DisplayName("재고 선점 대상 상품은 접수 시 Redis 재고를 선점한다.")
+        @Test
+        void reservesRedisStock_whenProductIsEnrolled() {
+            // arrange
+            pointService.chargePoint("accept01", 10_000L);
+            stockReservationService.enroll(product.getId());
+
+            // act
+            orderFacade.placeOrder(loginUser, command(4));
+
+            // assert
+            assertThat(stockReservationRepository.findStock(product.getId())).contains(6);
+        }
+
+        @DisplayName("재고가 부족하면 접수를 거절하고 워커에 넘기지 않는다.")
+        @Test
+        void rejects_whenStockIsInsufficient() {
+            // arrange
+            pointService.chargePoint("accept01", 100_000L);
+
+            // act
+            CoreException exception = assertThrows(CoreException.class,
+                    () -> orderFacade.placeOrder(loginUser, command(11)));
+
+            // assert
+            assertThat(exception.getErrorType()).isEqualTo(ErrorType.BAD_REQUEST);
+            assertThat(pointService.getBalance("accept01")).isEqualTo(100_000L);
+            verify(orderFulfillmentWorker, never()).submit(any());
+        }
+
+        @DisplayName("포인트가 부족하면 접수를 거절하고 워커에 넘기지 않는다.")
+        @Test
+        void rejects_whenPointIsInsufficient() {
+            // arrange
+            pointService.chargePoint("accept01", 500L);
+
+            // act
+            CoreException exception = assertThrows(CoreException.class,
+                    () -> orderFacade.placeOrder(loginUser, command(1)));
+
+            // assert
+            assertThat(exception.getErrorType()).isEqualTo(ErrorType.BAD_REQUEST);
+            assertThat(orderService.getPendingOrderIdsCreatedBefore(ZonedDateTime.now(), 10)).isEmpty();
+            assertThat(getStock()).isEqualTo(10);
+            verify(orderFulfillmentWorker, never()).submit(any());
+        }
+    }
+
+    @DisplayName("대기 주문 재처리")
+    @Nested
+    class Sweep {
+
+        @DisplayName("워커에 넘겨졌지만 정산되지 않은 주문은 스위퍼가 다시 넘긴다.")
+        @Test
+        void resubmitsUnfulfilledOrder() {
+            // arrange
+            pointService.chargePoint("accept01", 10_000L);
+            OrderInfo accepted = orderFacade.placeOrder(loginUser, command(2));
+
+            // act
+            int swept = orderFulfillmentWorker.sweep();
+
+            // assert
+            assertThat(swept).isEqualTo(1);
+            verify(orderFulfillmentWorker, times(2)).submit(accepted.orderId());
+        }
+
+        @DisplayName("이미 정산된 주문은 다시 넘기지 않는다.")
+        @Test
+        void skipsFulfilledOrder() {
+            // arrange
+            pointService.chargePoint("accept01", 10_000L);
+            OrderInfo accepted = orderFacade.placeOrder(loginUser, command(2));
+            orderFulfillmentWorker.process(accepted.orderId());
+
+            // act
+            int swept = orderFulfillmentWorker.sweep();
+
+            // assert
+            assertAll(
+                    () -> assertThat(swept).isZero(),
+                    () -> assertThat(orderService.getOrderByIdAndUser(accepted.orderId(), user).getStatus()).isEqualTo(OrderStatus.PAID),
+                    () -> assertThat(getStock()).isEqualTo(8)
+            );
+            verify(orderFulfillmentWorker, times(1)).submit(accepted.orderId());
+        }
+    }
+}
@@ -0,0 +1,121 @@
+package com.loopers.application.order;
+
+import com.loopers.application.user.LoginUser;
+import com.loopers.domain.brand.Brand;
+import com.loopers.domain.brand.BrandRepository;
+import com.loopers.domain.order.Order;
+import com.loopers.domain.order.OrderService;
+import com.loopers.domain.product.Product;
+import com.loopers.domain.product.ProductRepository;
+import com.loopers.domain.user.Gender;
+import com.loopers.domain.user.User;
+import com.loopers.domain.user.UserService;
+import com.loopers.utils.DatabaseCleanUp;
+import org.junit.jupiter.api.*;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+
+@SpringBootTest
+class OrderFacadeIntegrationTest {
+
+    @Autowired
+    private OrderFacade orderFacade;
+
+    @Autowired
+    private OrderService orderService;
+
+    @Autowired
+    private UserService userService;
+
+    @Autowired
+    private BrandRepository brandRepository;
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    @Autowired
+    private DatabaseCleanUp databaseCleanUp;
+
+    private User user;
+    private Product product1;
+    private Product product2;
+    private List<Order> orders;
+
+    @BeforeEach
+    void setUp() {
+        user = userService.signUp("history01", "history@mail.com", "1990-01-01", Gender.MALE);
+        User otherUser = userService.signUp("history02", "other@mail.com", "1990-01-01", Gender.FEMALE);
+        Brand brand = brandRepository.save(Brand.create("History Brand"));
+        product1 = productRepository.save(Product.create("History Product 1", 1000L, 100, brand));
+        product2 = productRepository.save(Product.create("History Product 2", 2000L, 100, brand));
+
+        orders = new ArrayList<>();
+        for (int i = 1; i <= 5; i++) {
+            Order order = Order.create(user);
+            order.addOrderItem(product1, i);
+            order.addOrderItem(product2, 1);
+            orders.add(orderService.save(order));
+        }
+
+        Order otherOrder = Order.create(otherUser);
+        otherOrder.addOrderItem(product1, 1);
+        orderService.save(otherOrder);
+    }
+
+    @AfterEach
+    void tearDown() {
+        databaseCleanUp.truncateAllTables();
+    }
+
+    @DisplayName("내 주문 내역 조회")
+    @Nested
+    class GetMyOrders {
+
+        @DisplayName("최근 주문 순으로, 커서를 따라 다음 페이지를 조회할 수 있다.")
+        @Test
+        void returnsNewestFirst_withCursor() {
+            // arrange
+            LoginUser loginUser = LoginUser.from(user);
+
+            // act
+            OrderHistoryInfo first = orderFacade.getMyOrders(loginUser, new OrderGetListCommand(null, 3));
+            OrderHistoryInfo second = orderFacade.getMyOrders(loginUser, new OrderGetListCommand(first.nextCursor(), 3));
+
+            // assert
+            assertThat(first.contents()).extracting(OrderInfo::orderId)
+                    .containsExactly(orders.get(4).getId(), orders.get(3).getId(), orders.get(2).getId());
+            assertThat(first.hasNext()).isTrue();
+            assertThat(second.contents()).extracting(OrderInfo::orderId)
+                    .containsExactly(orders.get(1).getId(), orders.get(0).getId());
+            assertThat(second.hasNext()).isFalse();
+            assertThat(second.nextCursor()).isNull();
+        }
+
+        @DisplayName("주문 항목과 상품명, 금액이 함께 조회된다.")
+        @Test
+        void returnsItemsWithProductName() {
+            // arrange
+            LoginUser loginUser = LoginUser.from(user);
+
+            // act
+            OrderHistoryInfo history = orderFacade.getMyOrders(loginUser, new OrderGetListCommand(null, 1));
+
+            // assert
+            OrderInfo latest = history.contents().get(0);
+            assertThat(latest.userId()).isEqualTo("history01");
+            assertThat(latest.totalAmount()).isEqualTo(7000L); // 1000 * 5 + 2000 * 1
+            assertThat(latest.items())
+                    .extracting(OrderInfo.OrderItemInfo::productName, OrderInfo.OrderItemInfo::quantity, OrderInfo.OrderItemInfo::totalPrice)
+                    .containsExactly(
+                            tuple("History Product 1", 5, 5000L),
+                            tuple("History Product 2", 1, 2000L)
+                    );
+        }
+    }
+}
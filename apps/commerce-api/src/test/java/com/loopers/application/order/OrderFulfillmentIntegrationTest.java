@@ -0,0 +1,212 @@
+package com.loopers.application.order;
+
+import com.loopers.application.user.LoginUser;
+import com.loopers.domain.brand.Brand;
+import com.loopers.domain.brand.BrandRepository;
+import com.loopers.domain.order.Order;
+import com.loopers.domain.order.OrderService;
+import com.loopers.domain.order.OrderStatus;
+import com.loopers.domain.point.PointService;
+import com.loopers.domain.product.Product;
+import com.loopers.domain.product.ProductRepository;
+import com.loopers.domain.product.StockReservationRepository;
+import com.loopers.domain.product.StockReservationService;
+import com.loopers.domain.user.Gender;
+import com.loopers.domain.user.User;
+import com.loopers.domain.user.UserService;
+import com.loopers.utils.DatabaseCleanUp;
+import com.loopers.utils.RedisCleanUp;
+import org.junit.jupiter.api.*;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.bean.override.mockito.MockitoSpyBean;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doNothing;
+
+// 워커 제출을 막고 정산/실패/만료를 직접 호출해 검증한다. 만료 시간을 0 으로 두어 접수된 주문이 바로 만료 대상이 된다.
+@SpringBootTest(properties = {
+        "order.async.enabled=true",
+        "order.async.expire-after=PT0S"
+})
+class OrderFulfillmentIntegrationTest {
+
+    @Autowired
+    private OrderFacade orderFacade;
+
+    @Autowired
+    private OrderFulfiller orderFulfiller;
+
+    @MockitoSpyBean
+    private OrderFulfillmentWorker orderFulfillmentWorker;
+
+    @Autowired
+    private OrderService orderService;
+
+    @Autowired
+    private UserService userService;
+
+    @Autowired
+    private PointService pointService;
+
+    @Autowired
+    private StockReservationService stockReservationService;
+
+    @Autowired
+    private StockReservationRepository stockReservationRepository;
+
+    @Autowired
+    private BrandRepository brandRepository;
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    @Autowired
+    private DatabaseCleanUp databaseCleanUp;
+
+    @Autowired
+    private RedisCleanUp redisCleanUp;
+
+    private User user;
+    private Product product;
+
+    @BeforeEach
+    void setUp() {
+        user = userService.signUp("async01", "async@mail.com", "1990-01-01", Gender.MALE);
+        pointService.createPoint("async01");
+        pointService.chargePoint("async01", 10_000L);
+        Brand brand = brandRepository.save(Brand.create("Async Brand"));
+        product = productRepository.save(Product.create("Async Product", 1000L, 10, brand));
+        doNothing().when(orderFulfillmentWorker).submit(any());
+    }
+
+    @AfterEach
+    void tearDown() {
+        databaseCleanUp.truncateAllTables();
+        redisCleanUp.truncateAll();
+    }
+
+    private Long acceptOrder(int quantity) {
+        OrderPlaceCommand command = new OrderPlaceCommand(
+                List.of(new OrderPlaceCommand.OrderItemCommand(product.getId(), quantity))
+        );
+        return orderFacade.placeOrder(LoginUser.from(user), command).orderId();
+    }
+
+    private Order findOrder(Long orderId) {
+        return orderService.getOrderByIdAndUser(orderId, user);
+    }
+
+    private int getStock() {
+        return productRepository.findById(product.getId()).orElseThrow().getStockValue();
+    }
+
+    @DisplayName("정산 대기 주문 처리")
+    @Nested
+    class Process {
+
+        @DisplayName("접수 시 선점한 재고와 포인트로 결제 완료를 확정한다.")
+        @Test
+        void completesPayment() {
+            // arrange
+            Long orderId = acceptOrder(3);
+
+            // act
+            orderFulfillmentWorker.process(orderId);
+
+            // assert
+            Order fulfilled = findOrder(orderId);
+            assertAll(
+                    () -> assertThat(fulfilled.getStatus()).isEqualTo(OrderStatus.PAID),
+                    () -> assertThat(fulfilled.getPaidAt()).isNotNull(),
+                    () -> assertThat(getStock()).isEqualTo(7),
+                    () -> assertThat(pointService.getBalance("async01")).isEqualTo(7_000L)
+            );
+        }
+
+        @DisplayName("이미 처리된 주문은 다시 정산하지 않는다.")
+        @Test
+        void skips_whenAlreadyProcessed() {
+            // arrange
+            Long orderId = acceptOrder(2);
+            orderFulfillmentWorker.process(orderId);
+
+            // act
+            orderFulfillmentWorker.process(orderId);
+            orderFulfiller.fail(orderId, "중복 처리");
+
+            // assert
+            assertAll(
+                    () -> assertThat(findOrder(orderId).getStatus()).isEqualTo(OrderStatus.PAID),
+                    () -> assertThat(getStock()).isEqualTo(8),
+                    () -> assertThat(pointService.getBalance("async01")).isEqualTo(8_000L)
+            );
+        }
+    }
+
+    @DisplayName("정산 실패")
+    @Nested
+    class Fail {
+
+        @DisplayName("실패로 확정하면 선점한 재고와 포인트를 되돌린다.")
+        @Test
+        void releasesReservation() {
+            // arrange
+            Long orderId = acceptOrder(3);
+
+            // act
+            orderFulfiller.fail(orderId, "결제 승인 거절");
+
+            // assert
+            Order failed = findOrder(orderId);
+            assertAll(
+                    () -> assertThat(failed.getStatus()).isEqualTo(OrderStatus.FAILED),
+                    () -> assertThat(failed.getFailureReason()).isEqualTo("결제 승인 거절"),
+                    () -> assertThat(getStock()).isEqualTo(10),
+                    () -> assertThat(pointService.getBalance("async01")).isEqualTo(10_000L)
+            );
+        }
+
+        @DisplayName("재고 선점 대상 상품은 Redis 재고와 DB 재고를 함께 되돌린다.")
+        @Test
+        void releasesRedisReservation_whenProductIsEnrolled() {
+            // arrange
+            stockReservationService.enroll(product.getId());
+            Long orderId = acceptOrder(4);
+            stockReservationService.writeBack();
+
+            // act
+            orderFulfiller.fail(orderId, "결제 승인 거절");
+
+            // assert
+            assertAll(
+                    () -> assertThat(stockReservationRepository.findStock(product.getId())).contains(10),
+                    () -> assertThat(getStock()).isEqualTo(10)
+            );
+        }
+
+        @DisplayName("만료 시간이 지나도록 대기 중인 주문은 실패로 확정하고 선점을 되돌린다.")
+        @Test
+        void expiresPendingOrder() {
+            // arrange
+            Long orderId = acceptOrder(3);
+
+            // act
+            int expired = orderFulfillmentWorker.expire();
+
+            // assert
+            Order failed = findOrder(orderId);
+            assertAll(
+                    () -> assertThat(expired).isEqualTo(1),
+                    () -> assertThat(failed.getStatus()).isEqualTo(OrderStatus.FAILED),
+                    () -> assertThat(failed.getFailureReason()).isEqualTo("정산 시간이 초과되었습니다."),
+                    () -> assertThat(getStock()).isEqualTo(10),
+                    () -> assertThat(pointService.getBalance("async01")).isEqualTo(10_000L)
+            );
+        }
+    }
+}
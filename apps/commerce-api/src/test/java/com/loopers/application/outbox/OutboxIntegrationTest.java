@@ -0,0 +1,214 @@
+package com.loopers.application.outbox;
+
+import com.loopers.domain.outbox.OutboxEvent;
+import com.loopers.domain.point.PointService;
+import com.loopers.infrastructure.outbox.OutboxEventJpaRepository;
+import com.loopers.infrastructure.outbox.OutboxRelay;
+import com.loopers.support.kafka.EventEnvelope;
+import com.loopers.support.kafka.KafkaTopics;
+import com.loopers.utils.DatabaseCleanUp;
+import org.junit.jupiter.api.*;
+import org.mockito.ArgumentCaptor;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.ZonedDateTime;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@SpringBootTest(properties = "outbox.relay.batch-deadline=PT1S")
+class OutboxIntegrationTest {
+
+    @Autowired
+    private PointService pointService;
+
+    @Autowired
+    private OutboxRelay outboxRelay;
+
+    @Autowired
+    private OutboxEventJpaRepository outboxEventJpaRepository;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @MockitoBean
+    private KafkaTemplate<Object, Object> kafkaTemplate;
+
+    @Autowired
+    private DatabaseCleanUp databaseCleanUp;
+
+    @BeforeEach
+    void setUp() {
+        pointService.createPoint("outbox01");
+        pointService.createPoint("outbox02");
+    }
+
+    @AfterEach
+    void tearDown() {
+        databaseCleanUp.truncateAllTables();
+    }
+
+    @DisplayName("outbox 기록")
+    @Nested
+    class Record {
+
+        @DisplayName("포인트를 충전하면 같은 트랜잭션에서 outbox 에 이벤트가 기록된다.")
+        @Test
+        void recordsEvent_whenCommitted() {
+            // act
+            pointService.chargePoint("outbox01", 1000L);
+
+            // assert
+            List<OutboxEvent> events = outboxEventJpaRepository.findAll();
+            assertThat(events).hasSize(1);
+            assertThat(events.get(0).getTopic()).isEqualTo(KafkaTopics.POINT_EVENTS);
+            assertThat(events.get(0).getAggregateKey()).isEqualTo("outbox01");
+            assertThat(events.get(0).getEventType()).isEqualTo("POINT_CHARGE");
+            assertThat(events.get(0).getPublishedAt()).isNull();
+        }
+
+        @DisplayName("원본 트랜잭션이 롤백되면 outbox 에도 남지 않는다.")
+        @Test
+        void recordsNothing_whenRolledBack() {
+            // act
+            assertThatThrownBy(() -> transactionTemplate.executeWithoutResult(status -> {
+                pointService.chargePoint("outbox01", 1000L);
+                throw new IllegalStateException("rollback");
+            })).isInstanceOf(IllegalStateException.class);
+
+            // assert
+            assertThat(outboxEventJpaRepository.findAll()).isEmpty();
+        }
+    }
+
+    @DisplayName("outbox 릴레이")
+    @Nested
+    class Relay {
+
+        @DisplayName("발행에 성공한 이벤트는 키와 함께 전송되고 발행 완료로 표시된다.")
+        @Test
+        void marksPublished_whenSent() {
+            // arrange
+            pointService.chargePoint("outbox01", 1000L);
+            pointService.chargePoint("outbox02", 2000L);
+            when(kafkaTemplate.send(any(String.class), any(), any())).thenReturn(CompletableFuture.completedFuture(null));
+
+            // act
+            int published = outboxRelay.relay(100);
+
+            // assert
+            assertThat(published).isEqualTo(2);
+            verify(kafkaTemplate).send(eq(KafkaTopics.POINT_EVENTS), eq("outbox01"), any(EventEnvelope.class));
+            assertThat(outboxEventJpaRepository.findAll()).allSatisfy(event -> assertThat(event.getPublishedAt()).isNotNull());
+            assertThat(outboxRelay.relay(100)).isZero();
+        }
+
+        @DisplayName("발행에 실패하면 같은 키의 이후 이벤트는 보내지 않고, 다음 실행에서 순서대로 다시 보낸다.")
+        @Test
+        void keepsKeyOrder_whenSendFails() {
+            // arrange
+            pointService.chargePoint("outbox01", 1000L);
+            pointService.chargePoint("outbox01", 2000L);
+            pointService.chargePoint("outbox02", 3000L);
+            List<String> outbox01EventIds = outboxEventJpaRepository.findAll().stream()
+                    .filter(event -> event.getAggregateKey().equals("outbox01"))
+                    .sorted(Comparator.comparing(OutboxEvent::getId))
+                    .map(OutboxEvent::getEventId)
+                    .toList();
+            when(kafkaTemplate.send(any(String.class), any(), any()))
+                    .thenReturn(CompletableFuture.failedFuture(new IllegalStateException("broker down")))
+                    .thenReturn(CompletableFuture.completedFuture(null));
+
+            // act
+            int published = outboxRelay.relay(100);
+
+            // assert
+            assertThat(published).isEqualTo(1);
+            verify(kafkaTemplate, times(1)).send(eq(KafkaTopics.POINT_EVENTS), eq("outbox01"), any());
+            assertThat(outboxEventJpaRepository.findAll())
+                    .filteredOn(event -> event.getPublishedAt() != null)
+                    .extracting(OutboxEvent::getAggregateKey)
+                    .containsExactly("outbox02");
+
+            // act
+            clearInvocations(kafkaTemplate);
+            int republished = outboxRelay.relay(100);
+
+            // assert
+            ArgumentCaptor<EventEnvelope> envelopes = ArgumentCaptor.forClass(EventEnvelope.class);
+            verify(kafkaTemplate, times(2)).send(eq(KafkaTopics.POINT_EVENTS), eq("outbox01"), envelopes.capture());
+            assertThat(republished).isEqualTo(2);
+            assertThat(envelopes.getAllValues())
+                    .extracting(EventEnvelope::eventId)
+                    .containsExactlyElementsOf(outbox01EventIds);
+        }
+
+        @DisplayName("배치 마감 시간까지 발행이 확인되지 않으면, 같은 키의 이후 이벤트는 보내지 않고 점유를 풀어 다음 실행에 넘긴다.")
+        @Test
+        void stopsSending_whenBatchDeadlinePasses() {
+            // arrange
+            pointService.chargePoint("outbox01", 1000L);
+            pointService.chargePoint("outbox01", 2000L);
+            pointService.chargePoint("outbox02", 3000L);
+            when(kafkaTemplate.send(any(String.class), any(), any()))
+                    .thenReturn(new CompletableFuture<>())
+                    .thenReturn(CompletableFuture.completedFuture(null));
+
+            // act
+            int published = outboxRelay.relay(100);
+
+            // assert
+            assertThat(published).isEqualTo(1);
+            verify(kafkaTemplate, times(1)).send(eq(KafkaTopics.POINT_EVENTS), eq("outbox01"), any());
+            assertThat(outboxEventJpaRepository.findAll())
+                    .filteredOn(event -> event.getPublishedAt() != null)
+                    .extracting(OutboxEvent::getAggregateKey)
+                    .containsExactly("outbox02");
+
+            // act
+            int republished = outboxRelay.relay(100);
+
+            // assert
+            assertThat(republished).isEqualTo(2);
+        }
+
+        @DisplayName("다른 릴레이가 점유 중인 이벤트가 있으면, 같은 키의 이후 이벤트는 가져가지 않는다.")
+        @Test
+        void skipsKey_whenEarlierEventIsClaimedByAnotherRelay() {
+            // arrange
+            pointService.chargePoint("outbox01", 1000L);
+            pointService.chargePoint("outbox01", 2000L);
+            pointService.chargePoint("outbox02", 3000L);
+            Long firstId = outboxEventJpaRepository.findAll().stream()
+                    .filter(event -> event.getAggregateKey().equals("outbox01"))
+                    .map(OutboxEvent::getId)
+                    .min(Long::compare)
+                    .orElseThrow();
+            transactionTemplate.executeWithoutResult(status ->
+                    outboxEventJpaRepository.claim(List.of(firstId), "other-relay", ZonedDateTime.now().plusMinutes(1))
+            );
+            when(kafkaTemplate.send(any(String.class), any(), any())).thenReturn(CompletableFuture.completedFuture(null));
+
+            // act
+            int published = outboxRelay.relay(100);
+
+            // assert
+            assertThat(published).isEqualTo(1);
+            verify(kafkaTemplate, never()).send(eq(KafkaTopics.POINT_EVENTS), eq("outbox01"), any());
+            assertThat(outboxEventJpaRepository.findAll())
+                    .filteredOn(event -> event.getPublishedAt() != null)
+                    .extracting(OutboxEvent::getAggregateKey)
+                    .containsExactly("outbox02");
+        }
+    }
+}
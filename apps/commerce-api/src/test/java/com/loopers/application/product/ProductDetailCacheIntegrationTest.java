@@ -0,0 +1,163 @@
+package com.loopers.application.product;
+
+import com.loopers.application.user.LoginUser;
+import com.loopers.domain.brand.Brand;
+import com.loopers.domain.brand.BrandRepository;
+import com.loopers.domain.like.LikeService;
+import com.loopers.domain.product.Product;
+import com.loopers.domain.product.ProductRepository;
+import com.loopers.domain.product.ProductService;
+import com.loopers.domain.user.Gender;
+import com.loopers.domain.user.User;
+import com.loopers.domain.user.UserService;
+import com.loopers.utils.DatabaseCleanUp;
+import com.loopers.utils.RedisCleanUp;
+import org.junit.jupiter.api.*;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.bean.override.mockito.MockitoSpyBean;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.*;
+
+@SpringBootTest
+class ProductDetailCacheIntegrationTest {
+
+    @Autowired
+    private ProductFacade productFacade;
+
+    @Autowired
+    private ProductDetailCache productDetailCache;
+
+    @MockitoSpyBean
+    private ProductService productService;
+
+    @Autowired
+    private BrandRepository brandRepository;
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    @Autowired
+    private DatabaseCleanUp databaseCleanUp;
+
+    @Autowired
+    private RedisCleanUp redisCleanUp;
+
+    @Autowired
+    private UserService userService;
+
+    @Autowired
+    private LikeService likeService;
+
+    private Product product;
+
+    @BeforeEach
+    void setUp() {
+        Brand brand = brandRepository.save(Brand.create("Cache Brand"));
+        product = productRepository.save(Product.create("Cache Product", 1000L, 10, brand));
+    }
+
+    @AfterEach
+    void tearDown() {
+        databaseCleanUp.truncateAllTables();
+        redisCleanUp.truncateAll();
+    }
+
+    @DisplayName("두 번째 조회부터는 캐시에서 상품 상세를 반환한다.")
+    @Test
+    void returnsCachedDetail_afterFirstLoad() {
+        // act
+        ProductDetailInfo first = productFacade.getProductDetail(product.getId(), null);
+        ProductDetailInfo second = productFacade.getProductDetail(product.getId(), null);
+
+        // assert
+        assertThat(second).isEqualTo(first);
+        assertThat(second.brandName()).isEqualTo("Cache Brand");
+        verify(productService, times(1)).getProductWithBrand(product.getId());
+    }
+
+    @DisplayName("캐시를 제거하면 다음 조회 시 DB 에서 다시 적재한다.")
+    @Test
+    void reloadsFromDb_afterEvict() {
+        // arrange
+        productFacade.getProductDetail(product.getId(), null);
+
+        // act
+        productDetailCache.evict(product.getId());
+        productFacade.getProductDetail(product.getId(), null);
+
+        // assert
+        verify(productService, times(2)).getProductWithBrand(product.getId());
+    }
+
+    @DisplayName("적재 중에 캐시가 제거되면, 제거 전에 읽은 값을 캐시에 쓰지 않는다.")
+    @Test
+    void doesNotCacheStaleLoad_whenEvictedDuringReload() {
+        // arrange
+        AtomicBoolean evicted = new AtomicBoolean(false);
+        doAnswer(invocation -> {
+            Object result = invocation.callRealMethod();
+            if (evicted.compareAndSet(false, true)) {
+                // 다른 요청의 커밋 후 제거가 적재 도중에 끼어든 상황
+                CompletableFuture.runAsync(() -> productDetailCache.evict(product.getId())).join();
+            }
+            return result;
+        }).when(productService).getProductWithBrand(product.getId());
+
+        // act
+        productFacade.getProductDetail(product.getId(), null);
+        productFacade.getProductDetail(product.getId(), null);
+        productFacade.getProductDetail(product.getId(), null);
+
+        // assert
+        verify(productService, times(2)).getProductWithBrand(product.getId());
+    }
+
+    @DisplayName("캐시가 비어 있을 때 동시에 조회해도 DB 적재는 한 번만 일어난다.")
+    @Test
+    void loadsOnce_whenConcurrentMiss() throws Exception {
+        // arrange
+        int threadCount = 10;
+        ExecutorService executor = Executors.newFixedThreadPool(threadCount);
+        List<CompletableFuture<ProductDetailInfo>> futures = new ArrayList<>();
+
+        // act
+        for (int i = 0; i < threadCount; i++) {
+            futures.add(CompletableFuture.supplyAsync(() -> productFacade.getProductDetail(product.getId(), null), executor));
+        }
+        CompletableFuture.allOf(futures.toArray(CompletableFuture[]::new)).join();
+        executor.shutdown();
+
+        // assert
+        assertThat(futures).allSatisfy(f -> assertThat(f.get().productId()).isEqualTo(product.getId()));
+        verify(productService, times(1)).getProductWithBrand(product.getId());
+    }
+
+    @DisplayName("좋아요 여부는 캐시에 담지 않고 요청 사용자 기준으로 채운다.")
+    @Test
+    void fillsIsLiked_perUser() {
+        // arrange
+        User liker = userService.signUp("liker01", "liker@mail.com", "1990-01-01", Gender.MALE);
+        User other = userService.signUp("other01", "other@mail.com", "1990-01-01", Gender.FEMALE);
+        likeService.addLike(liker, product);
+
+        // act
+        ProductDetailInfo anonymous = productFacade.getProductDetail(product.getId(), null);
+        ProductDetailInfo liked = productFacade.getProductDetail(product.getId(), LoginUser.from(liker));
+        ProductDetailInfo notLiked = productFacade.getProductDetail(product.getId(), LoginUser.from(other));
+
+        // assert
+        assertThat(anonymous.isLiked()).isNull();
+        assertThat(liked.isLiked()).isTrue();
+        assertThat(notLiked.isLiked()).isFalse();
+        verify(productService, times(1)).getProductWithBrand(product.getId());
+    }
+}
@@ -0,0 +1,72 @@
+package com.loopers.application.user;
+
+import com.loopers.domain.user.Gender;
+import com.loopers.domain.user.User;
+import com.loopers.domain.user.UserService;
+import com.loopers.support.error.CoreException;
+import com.loopers.support.error.ErrorType;
+import com.loopers.utils.DatabaseCleanUp;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.bean.override.mockito.MockitoSpyBean;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+@SpringBootTest
+class LoginUserResolverIntegrationTest {
+
+    @Autowired
+    private LoginUserResolver loginUserResolver;
+
+    @MockitoSpyBean
+    private UserService userService;
+
+    @Autowired
+    private DatabaseCleanUp databaseCleanUp;
+
+    @AfterEach
+    void tearDown() {
+        databaseCleanUp.truncateAllTables();
+    }
+
+    @DisplayName("같은 사용자를 여러 번 식별해도 사용자 조회는 한 번만 일어난다.")
+    @Test
+    void resolvesFromCache_afterFirstLookup() {
+        // arrange
+        User user = userService.signUp("loginUser1", "login@mail.com", "1990-01-01", Gender.MALE);
+
+        // act
+        LoginUser first = loginUserResolver.resolve("loginUser1");
+        LoginUser second = loginUserResolver.resolve("loginUser1");
+
+        // assert
+        assertAll(
+                () -> assertThat(second).isEqualTo(first),
+                () -> assertThat(first.id()).isEqualTo(user.getId()),
+                () -> assertThat(first.email()).isEqualTo("login@mail.com"),
+                () -> verify(userService, times(1)).getUserByUserId("loginUser1")
+        );
+    }
+
+    @DisplayName("존재하지 않는 사용자는 NOT_FOUND 예외가 발생하고, 가입 후에는 바로 식별된다.")
+    @Test
+    void doesNotCacheMissingUser() {
+        // act
+        CoreException exception = assertThrows(CoreException.class, () -> loginUserResolver.resolve("loginUser2"));
+        userService.signUp("loginUser2", "login@mail.com", "1990-01-01", Gender.FEMALE);
+        LoginUser loginUser = loginUserResolver.resolve("loginUser2");
+
+        // assert
+        assertAll(
+                () -> assertThat(exception.getErrorType()).isEqualTo(ErrorType.NOT_FOUND),
+                () -> assertThat(loginUser.userId()).isEqualTo("loginUser2")
+        );
+    }
+}
@@ -4,15 +4,24 @@ import com.loopers.domain.brand.Brand;
 import com.loopers.domain.brand.BrandRepository;
 import com.loopers.domain.product.Product;
 import com.loopers.domain.product.ProductRepository;
+import com.loopers.domain.product.ProductService;
 import com.loopers.domain.user.Gender;
 import com.loopers.domain.user.User;
 import com.loopers.domain.user.UserService;
 import com.loopers.utils.DatabaseCleanUp;
+import com.loopers.utils.RedisCleanUp;
 import org.junit.jupiter.api.*;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.test.context.bean.override.mockito.MockitoSpyBean;
 
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.*;
@@ -31,12 +40,18 @@ class LikeServiceIntegrationTest {
     @Autowired
     private BrandRepository brandRepository;
 
-    @Autowired
+    @MockitoSpyBean
     private ProductRepository productRepository;
 
+    @Autowired
+    private ProductService productService;
+
     @Autowired
     private DatabaseCleanUp databaseCleanUp;
 
+    @Autowired
+    private RedisCleanUp redisCleanUp;
+
     private User user1, user2;
     private Product product1, product2;
 
@@ -55,6 +70,7 @@ class LikeServiceIntegrationTest {
     @AfterEach
     void tearDown() {
         databaseCleanUp.truncateAllTables();
+        redisCleanUp.truncateAll();
     }
 
     @DisplayName("좋아요 등록/취소/중복 방지")
@@ -68,7 +84,7 @@ class LikeServiceIntegrationTest {
             likeService.addLike(user1, product1);
 
             // assert
-            verify(likeRepository, times(1)).save(any(Like.class));
+            verify(likeRepository, times(1)).insertIgnore(user1.getId(), product1.getId());
             assertThat(likeRepository.existsByUserAndProduct(user1, product1)).isTrue();
         }
 
@@ -82,10 +98,31 @@ class LikeServiceIntegrationTest {
             likeService.addLike(user1, product1); // 2번째 (중복) 호출
 
             // assert
-            // 1. Service 로직(existsByUserAndProduct)에 의해 save는 총 1번만 호출되어야 함
-            verify(likeRepository, times(1)).save(any(Like.class));
-            // 2. existsByUserAndProduct는 총 2번 호출됨 (첫번째 시도 + 두번째 중복 체크)
-            verify(likeRepository, times(2)).existsByUserAndProduct(user1, product1);
+            // 1. 호출마다 조회 없이 INSERT IGNORE 한 번씩만 실행되어야 함 (2회 호출 → 2회 실행)
+            verify(likeRepository, times(2)).insertIgnore(user1.getId(), product1.getId());
+            verify(likeRepository, never()).existsByUserAndProduct(any(User.class), any(Product.class));
+            // 2. 유니크 제약에 의해 행은 1개만 저장됨
+            assertThat(likeService.getLikeCount(product1)).isEqualTo(1L);
+        }
+
+        @DisplayName("같은 사용자의 좋아요 요청이 동시에 들어와도 1건만 저장된다.")
+        @Test
+        void addLike_concurrently() throws Exception {
+            // arrange
+            int threadCount = 10;
+            ExecutorService executor = Executors.newFixedThreadPool(threadCount);
+            List<CompletableFuture<Void>> futures = new ArrayList<>();
+
+            // act
+            for (int i = 0; i < threadCount; i++) {
+                futures.add(CompletableFuture.runAsync(() -> likeService.addLike(user1, product1), executor));
+            }
+            CompletableFuture.allOf(futures.toArray(new CompletableFuture[0])).join();
+            executor.shutdown();
+
+            // assert
+            assertThat(likeService.getLikeCount(product1)).isEqualTo(1L);
+            assertThat(productRepository.findById(product1.getId()).orElseThrow().getLikeCount()).isEqualTo(1L);
         }
 
         @DisplayName("좋아요를 취소할 수 있다.")
@@ -99,7 +136,7 @@ class LikeServiceIntegrationTest {
             likeService.removeLike(user1, product1);
 
             // assert
-            verify(likeRepository, times(1)).delete(any(Like.class));
+            verify(likeRepository, times(1)).delete(user1.getId(), product1.getId());
             assertThat(likeRepository.existsByUserAndProduct(user1, product1)).isFalse();
         }
 
@@ -113,7 +150,7 @@ class LikeServiceIntegrationTest {
             likeService.removeLike(user1, product1);
 
             // assert
-            verify(likeRepository, never()).delete(any(Like.class));
+            verify(productRepository, never()).decreaseLikeCount(product1.getId());
         }
     }
 
@@ -141,4 +178,244 @@ class LikeServiceIntegrationTest {
             assertThat(count2).isEqualTo(1L);
         }
     }
+
+    @DisplayName("상품 좋아요 수(like_count) 반영")
+    @Nested
+    class ProductLikeCount {
+
+        @DisplayName("좋아요를 등록하면 상품의 좋아요 수가 1 증가한다.")
+        @Test
+        void increasesLikeCount_whenLikeAdded() {
+            // act
+            likeService.addLike(user1, product1);
+            likeService.addLike(user2, product1);
+
+            // assert
+            assertThat(getLikeCount(product1)).isEqualTo(2L);
+            assertThat(getLikeCount(product2)).isZero();
+        }
+
+        @DisplayName("중복 좋아요는 상품의 좋아요 수를 증가시키지 않는다.")
+        @Test
+        void doesNotIncreaseLikeCount_whenLikeDuplicated() {
+            // act
+            likeService.addLike(user1, product1);
+            likeService.addLike(user1, product1);
+
+            // assert
+            assertThat(getLikeCount(product1)).isEqualTo(1L);
+        }
+
+        @DisplayName("좋아요를 취소하면 상품의 좋아요 수가 1 감소하고, 음수가 되지 않는다.")
+        @Test
+        void decreasesLikeCount_whenLikeRemoved() {
+            // arrange
+            likeService.addLike(user1, product1);
+
+            // act
+            likeService.removeLike(user1, product1);
+            likeService.removeLike(user1, product1);
+
+            // assert
+            assertThat(getLikeCount(product1)).isZero();
+        }
+
+        @DisplayName("좋아요 수 보정 시, likes 테이블 기준으로 재집계된다.")
+        @Test
+        void syncLikeCounts() {
+            // arrange (like_count 를 거치지 않고 직접 저장하여 불일치를 만든다)
+            likeRepository.save(Like.create(user1, product1));
+            likeRepository.save(Like.create(user2, product1));
+            assertThat(getLikeCount(product1)).isZero();
+
+            // act
+            int synced = productService.syncLikeCounts(List.of(product1.getId(), product2.getId()));
+
+            // assert
+            assertThat(synced).isEqualTo(1);
+            assertThat(getLikeCount(product1)).isEqualTo(2L);
+            assertThat(getLikeCount(product2)).isZero();
+        }
+
+        @DisplayName("좋아요 수가 이미 맞으면 보정 대상으로 세지 않는다.")
+        @Test
+        void syncLikeCounts_countsOnlyChangedProducts() {
+            // arrange
+            likeService.addLike(user1, product1);
+
+            // act
+            int synced = productService.syncLikeCounts(List.of(product1.getId(), product2.getId()));
+
+            // assert
+            assertThat(synced).isZero();
+            assertThat(getLikeCount(product1)).isEqualTo(1L);
+        }
+
+        private Long getLikeCount(Product product) {
+            return productRepository.findById(product.getId())
+                    .map(Product::getLikeCount)
+                    .orElseThrow();
+        }
+    }
+
+    @DisplayName("여러 상품의 좋아요 여부 조회")
+    @Nested
+    class FindLikedProductIds {
+
+        @DisplayName("저장된 좋아요와 반영 대기 중인 의도를 합쳐 좋아요한 상품 ID 만 반환한다.")
+        @Test
+        void mergesPendingIntents() {
+            // arrange
+            Product product3 = productRepository.save(Product.create("Like Product 3", 3000L, 30, product1.getBrand()));
+            likeService.addLike(user1, product1);
+            likeService.bufferUnlike(user1.getId(), product1.getId());
+            likeService.addLike(user1, product2);
+            likeService.bufferLike(user1.getId(), product3.getId());
+            likeService.addLike(user2, product3);
+
+            // act
+            Set<Long> likedProductIds = likeService.findLikedProductIds(
+                    user1.getId(), List.of(product1.getId(), product2.getId(), product3.getId())
+            );
+
+            // assert
+            assertThat(likedProductIds).containsExactlyInAnyOrder(product2.getId(), product3.getId());
+        }
+
+        @DisplayName("대기 중인 의도가 없으면 한 번의 조회로 처리한다.")
+        @Test
+        void queriesOnce() {
+            // arrange
+            likeService.addLike(user1, product2);
+
+            // act
+            Set<Long> likedProductIds = likeService.findLikedProductIds(
+                    user1.getId(), List.of(product1.getId(), product2.getId())
+            );
+
+            // assert
+            assertThat(likedProductIds).containsExactly(product2.getId());
+            verify(likeRepository, times(1)).findLikedProductIds(any(), any());
+        }
+    }
+
+    @DisplayName("좋아요 write-behind")
+    @Nested
+    class WriteBehind {
+
+        @DisplayName("기록만 된 좋아요도 반영 전에 좋아요 상태로 조회된다.")
+        @Test
+        void isLiked_beforeFlush() {
+            // act
+            likeService.bufferLike(user1.getId(), product1.getId());
+
+            // assert
+            assertThat(likeService.isLiked(user1.getId(), product1.getId())).isTrue();
+            assertThat(likeRepository.existsByUserAndProduct(user1, product1)).isFalse();
+        }
+
+        @DisplayName("반영이 끝난 좋아요를 다시 기록하면, 저장된 상태와 같으므로 변경으로 보지 않는다.")
+        @Test
+        void bufferLike_returnsFalse_whenAlreadyFlushed() {
+            // arrange
+            boolean first = likeService.bufferLike(user1.getId(), product1.getId());
+            likeService.flushPendingLikes(1000);
+
+            // act
+            boolean second = likeService.bufferLike(user1.getId(), product1.getId());
+
+            // assert
+            assertThat(first).isTrue();
+            assertThat(second).isFalse();
+        }
+
+        @DisplayName("좋아요하지 않은 상품의 취소는 변경으로 보지 않고, 대기 의도가 있으면 그것을 기준으로 판단한다.")
+        @Test
+        void bufferUnlike_usesEffectiveState() {
+            // act & assert
+            assertThat(likeService.bufferUnlike(user1.getId(), product1.getId())).isFalse();
+            assertThat(likeService.bufferLike(user1.getId(), product1.getId())).isTrue();
+            assertThat(likeService.bufferLike(user1.getId(), product1.getId())).isFalse();
+            assertThat(likeService.bufferUnlike(user1.getId(), product1.getId())).isTrue();
+            assertThat(likeService.bufferUnlike(user1.getId(), product1.getId())).isFalse();
+        }
+
+        @DisplayName("반영하면 likes 에 일괄 저장되고 상품의 좋아요 수가 재집계된다.")
+        @Test
+        void flushPendingLikes() {
+            // arrange
+            likeService.bufferLike(user1.getId(), product1.getId());
+            likeService.bufferLike(user2.getId(), product1.getId());
+            likeService.bufferLike(user1.getId(), product2.getId());
+
+            // act
+            PendingLikes flushed = likeService.flushPendingLikes(1000);
+
+            // assert
+            assertThat(flushed.productIds()).containsExactlyInAnyOrder(product1.getId(), product2.getId());
+            assertThat(likeRepository.existsByUserAndProduct(user2, product1)).isTrue();
+            assertThat(getLikeCount(product1)).isEqualTo(2L);
+            assertThat(getLikeCount(product2)).isEqualTo(1L);
+            assertThat(likeService.hasPendingLikes()).isFalse();
+        }
+
+        @DisplayName("한 번에 batchSize 건까지만 꺼내 반영하고, 나머지는 다음 반영으로 남긴다.")
+        @Test
+        void flushPendingLikes_drainsInChunks() {
+            // arrange
+            likeService.bufferLike(user1.getId(), product1.getId());
+            likeService.bufferLike(user2.getId(), product1.getId());
+            likeService.bufferUnlike(user1.getId(), product2.getId());
+
+            // act
+            PendingLikes first = likeService.flushPendingLikes(2);
+            boolean remains = likeService.hasPendingLikes();
+            PendingLikes second = likeService.flushPendingLikes(2);
+
+            // assert
+            assertThat(first.size()).isEqualTo(2);
+            assertThat(remains).isTrue();
+            assertThat(second.size()).isEqualTo(1);
+            assertThat(likeService.hasPendingLikes()).isFalse();
+            assertThat(getLikeCount(product1)).isEqualTo(2L);
+        }
+
+        @DisplayName("반영 전 취소된 좋아요는 마지막 의도만 반영된다.")
+        @Test
+        void flushPendingLikes_lastIntentWins() {
+            // arrange
+            likeService.addLike(user1, product1);
+            likeService.bufferLike(user2.getId(), product1.getId());
+            likeService.bufferUnlike(user2.getId(), product1.getId());
+            likeService.bufferUnlike(user1.getId(), product1.getId());
+
+            // act
+            likeService.flushPendingLikes(1000);
+
+            // assert
+            assertThat(likeService.isLiked(user1.getId(), product1.getId())).isFalse();
+            assertThat(likeService.isLiked(user2.getId(), product1.getId())).isFalse();
+            assertThat(getLikeCount(product1)).isZero();
+        }
+
+        @DisplayName("이미 저장된 좋아요를 다시 반영해도 중복 행이 생기지 않는다.")
+        @Test
+        void flushPendingLikes_idempotent() {
+            // arrange
+            likeService.addLike(user1, product1);
+            likeService.bufferLike(user1.getId(), product1.getId());
+
+            // act
+            likeService.flushPendingLikes(1000);
+
+            // assert
+            assertThat(getLikeCount(product1)).isEqualTo(1L);
+        }
+
+        private Long getLikeCount(Product product) {
+            return productRepository.findById(product.getId())
+                    .map(Product::getLikeCount)
+                    .orElseThrow();
+        }
+    }
 }
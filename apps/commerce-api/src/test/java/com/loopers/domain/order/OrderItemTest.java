@@ -90,5 +90,18 @@ class OrderItemTest {
             // assert
             assertThat(amount.getValue()).isEqualTo(1000L);
         }
+
+        @DisplayName("주문 내역 프로젝션의 총 금액이 long 범위를 넘으면 BAD_REQUEST 예외가 발생한다.")
+        @Test
+        void throwsException_whenSummaryTotalPriceOverflows() {
+            // arrange
+            OrderItemSummary summary = new OrderItemSummary(1L, 1L, "Test Product", 2, Long.MAX_VALUE);
+
+            // act & assert
+            assertThatThrownBy(summary::totalPrice)
+                    .isInstanceOf(CoreException.class)
+                    .extracting(ex -> ((CoreException) ex).getErrorType())
+                    .isEqualTo(ErrorType.BAD_REQUEST);
+        }
     }
 }
@@ -14,6 +14,7 @@ import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.ValueSource;
 
 import java.time.ZonedDateTime;
+import java.util.List;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
@@ -110,6 +111,133 @@ class OrderTest {
         }
     }
 
+    @Nested
+    @DisplayName("주문 항목 일괄 추가 (addOrderItems)")
+    class AddItems {
+
+        @DisplayName("여러 항목을 한 번에 추가하면 총 금액이 합산된다.")
+        @Test
+        void addOrderItems() {
+            // arrange
+            Order order = Order.create(dummyUser);
+            order.addOrderItem(dummyProduct1, 1); // 1000
+
+            // act
+            order.addOrderItems(List.of(
+                    new OrderLine(dummyProduct1, 2), // 2000
+                    new OrderLine(dummyProduct2, 3)  // 6000
+            ));
+
+            // assert
+            assertThat(order.getOrderItems()).hasSize(3);
+            assertThat(order.getTotalAmountValue()).isEqualTo(9000L);
+            assertThat(order.getOrderItems()).allMatch(item -> item.getOrder() == order);
+        }
+
+        @DisplayName("잘못된 항목이 하나라도 있으면 BAD_REQUEST 예외가 발생하고, 아무 항목도 추가되지 않는다.")
+        @Test
+        void addsNothing_whenAnyLineIsInvalid() {
+            // arrange
+            Order order = Order.create(dummyUser);
+
+            // act & assert
+            assertThatThrownBy(() -> order.addOrderItems(List.of(
+                    new OrderLine(dummyProduct1, 1),
+                    new OrderLine(dummyProduct2, 0)
+            )))
+                    .isInstanceOf(CoreException.class)
+                    .extracting(ex -> ((CoreException) ex).getErrorType())
+                    .isEqualTo(ErrorType.BAD_REQUEST);
+
+            assertThat(order.getOrderItems()).isEmpty();
+            assertThat(order.getTotalAmountValue()).isZero();
+        }
+
+        @DisplayName("항목이 비어있으면 BAD_REQUEST 예외가 발생한다.")
+        @Test
+        void throwsException_whenLinesAreEmpty() {
+            // arrange
+            Order order = Order.create(dummyUser);
+
+            // act & assert
+            assertThatThrownBy(() -> order.addOrderItems(List.of()))
+                    .isInstanceOf(CoreException.class)
+                    .extracting(ex -> ((CoreException) ex).getErrorType())
+                    .isEqualTo(ErrorType.BAD_REQUEST);
+        }
+
+        @DisplayName("총 금액이 long 범위를 넘으면 BAD_REQUEST 예외가 발생하고, 총 금액은 그대로다.")
+        @Test
+        void throwsException_whenTotalAmountOverflows() {
+            // arrange
+            Product expensiveProduct = Product.create("Expensive", Long.MAX_VALUE / 2, 10, Brand.create("Dummy Brand"));
+            Order order = Order.create(dummyUser);
+            order.addOrderItem(expensiveProduct, 1);
+
+            // act & assert
+            assertThatThrownBy(() -> order.addOrderItems(List.of(
+                    new OrderLine(expensiveProduct, 1),
+                    new OrderLine(expensiveProduct, 1)
+            )))
+                    .isInstanceOf(CoreException.class)
+                    .extracting(ex -> ((CoreException) ex).getErrorType())
+                    .isEqualTo(ErrorType.BAD_REQUEST);
+
+            assertThat(order.getOrderItems()).hasSize(1);
+            assertThat(order.getTotalAmountValue()).isEqualTo(Long.MAX_VALUE / 2);
+        }
+
+        @DisplayName("단가 * 수량이 long 범위를 넘으면 BAD_REQUEST 예외가 발생한다.")
+        @Test
+        void throwsException_whenItemAmountOverflows() {
+            // arrange
+            Product expensiveProduct = Product.create("Expensive", Long.MAX_VALUE / 2, 10, Brand.create("Dummy Brand"));
+            Order order = Order.create(dummyUser);
+
+            // act & assert
+            assertThatThrownBy(() -> order.addOrderItem(expensiveProduct, 3))
+                    .isInstanceOf(CoreException.class)
+                    .extracting(ex -> ((CoreException) ex).getErrorType())
+                    .isEqualTo(ErrorType.BAD_REQUEST);
+        }
+    }
+
+    @Nested
+    @DisplayName("주문 실패 (fail)")
+    class Fail {
+
+        @DisplayName("정산 대기 중인 주문은 사유와 함께 실패로 확정된다.")
+        @Test
+        void fail() {
+            // arrange
+            Order order = Order.create(dummyUser);
+            order.addOrderItem(dummyProduct1, 1);
+
+            // act
+            order.fail("보유 포인트가 부족합니다.");
+
+            // assert
+            assertThat(order.getStatus()).isEqualTo(OrderStatus.FAILED);
+            assertThat(order.getFailureReason()).isEqualTo("보유 포인트가 부족합니다.");
+            assertThat(order.isPending()).isFalse();
+        }
+
+        @DisplayName("이미 결제 완료된 주문이면 CONFLICT 예외가 발생한다.")
+        @Test
+        void throwsException_whenAlreadyPaid() {
+            // arrange
+            Order order = Order.create(dummyUser);
+            order.addOrderItem(dummyProduct1, 1);
+            order.completePayment();
+
+            // act & assert
+            assertThatThrownBy(() -> order.fail("사유"))
+                    .isInstanceOf(CoreException.class)
+                    .extracting(ex -> ((CoreException) ex).getErrorType())
+                    .isEqualTo(ErrorType.CONFLICT);
+        }
+    }
+
     @Nested
     @DisplayName("결제 완료 (completePayment)")
     class CompletePayment {
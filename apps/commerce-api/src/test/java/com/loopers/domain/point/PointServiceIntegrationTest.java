@@ -8,7 +8,14 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.test.context.bean.override.mockito.MockitoSpyBean;
 
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
 import static org.junit.jupiter.api.Assertions.assertAll;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.ArgumentMatchers.any;
@@ -24,6 +31,9 @@ class PointServiceIntegrationTest {
     @MockitoSpyBean
     private PointRepository pointRepository;
 
+    @Autowired
+    private PointTransactionRepository pointTransactionRepository;
+
     @Autowired
     private DatabaseCleanUp databaseCleanUp;
 
@@ -135,8 +145,7 @@ class PointServiceIntegrationTest {
             pointService.chargePoint(userId, 1000L);
 
             // assert
-            Point point = pointService.getPoint(userId);
-            assertThat(point.getBalanceValue()).isEqualTo(1000L);
+            assertThat(pointService.getBalance(userId)).isEqualTo(1000L);
         }
 
         @DisplayName("존재하지 않는 사용자에게 포인트 충전 시, NOT_FOUND 예외가 발생한다.")
@@ -150,4 +159,159 @@ class PointServiceIntegrationTest {
             assertThat(exception.getErrorType()).isEqualTo(ErrorType.NOT_FOUND);
         }
     }
+
+    @DisplayName("포인트 사용을 할 때,")
+    @Nested
+    class UsePoint {
+
+        @DisplayName("잔액이 충분하면 차감되고 사용 이력이 남는다.")
+        @Test
+        void usesPointAndRecordsTransaction() {
+            // arrange
+            String userId = "testuser01";
+            pointService.createPoint(userId);
+            pointService.chargePoint(userId, 1000L);
+
+            // act
+            pointService.usePoint(userId, 300L);
+
+            // assert
+            assertAll(
+                    () -> assertThat(pointService.getBalance(userId)).isEqualTo(700L),
+                    () -> assertThat(pointTransactionRepository.findAllByUserId(userId))
+                            .extracting(PointTransaction::getType, PointTransaction::getAmount)
+                            .containsExactly(
+                                    tuple(PointTransactionType.CHARGE, 1000L),
+                                    tuple(PointTransactionType.USE, 300L)
+                            )
+            );
+        }
+
+        @DisplayName("잔액이 부족하면 BAD_REQUEST 예외가 발생하고 잔액은 그대로다.")
+        @Test
+        void throwsBadRequest_whenBalanceInsufficient() {
+            // arrange
+            String userId = "testuser01";
+            pointService.createPoint(userId);
+            pointService.chargePoint(userId, 100L);
+
+            // act
+            CoreException exception = assertThrows(CoreException.class, () -> pointService.usePoint(userId, 101L));
+
+            // assert
+            assertAll(
+                    () -> assertThat(exception.getErrorType()).isEqualTo(ErrorType.BAD_REQUEST),
+                    () -> assertThat(pointService.getBalance(userId)).isEqualTo(100L)
+            );
+        }
+
+        @DisplayName("동시에 사용해도 잔액보다 많이 차감되지 않는다.")
+        @Test
+        void concurrentUse_doesNotOverdraw() throws InterruptedException {
+            // arrange
+            String userId = "testuser01";
+            pointService.createPoint(userId);
+            pointService.chargePoint(userId, 1000L);
+            int threadCount = 20;
+            ExecutorService executor = Executors.newFixedThreadPool(threadCount);
+            CountDownLatch latch = new CountDownLatch(threadCount);
+            AtomicInteger successCount = new AtomicInteger();
+
+            // act
+            for (int i = 0; i < threadCount; i++) {
+                executor.submit(() -> {
+                    try {
+                        pointService.usePoint(userId, 100L);
+                        successCount.incrementAndGet();
+                    } catch (CoreException ignored) {
+                    } finally {
+                        latch.countDown();
+                    }
+                });
+            }
+            latch.await();
+            executor.shutdown();
+
+            // assert
+            assertAll(
+                    () -> assertThat(successCount.get()).isEqualTo(10),
+                    () -> assertThat(pointService.getBalance(userId)).isZero()
+            );
+        }
+    }
+
+    @DisplayName("잔액 스냅샷을 반영할 때,")
+    @Nested
+    class ApplyPendingCharges {
+
+        @DisplayName("충전은 이력에만 기록되고, 잔액은 스냅샷과 미반영 충전의 합으로 조회된다.")
+        @Test
+        void chargeIsAppendedToLedger() {
+            // arrange
+            String userId = "testuser01";
+            pointService.createPoint(userId);
+
+            // act
+            pointService.chargePoint(userId, 1000L);
+            pointService.chargePoint(userId, 500L);
+
+            // assert
+            assertAll(
+                    () -> assertThat(pointService.getPoint(userId).getBalanceValue()).isZero(),
+                    () -> assertThat(pointService.getBalance(userId)).isEqualTo(1500L)
+            );
+        }
+
+        @DisplayName("미반영 충전이 스냅샷에 합산되고, 반영 후에도 잔액은 같다.")
+        @Test
+        void appliesPendingChargesToSnapshot() {
+            // arrange
+            String userId = "testuser01";
+            pointService.createPoint(userId);
+            pointService.chargePoint(userId, 1000L);
+            pointService.chargePoint(userId, 500L);
+
+            // act
+            pointService.applyPendingCharges(userId);
+
+            // assert
+            assertAll(
+                    () -> assertThat(pointService.getPoint(userId).getBalanceValue()).isEqualTo(1500L),
+                    () -> assertThat(pointService.getBalance(userId)).isEqualTo(1500L),
+                    () -> assertThat(pointService.getUserIdsWithPendingCharges(10)).isEmpty()
+            );
+        }
+
+        @DisplayName("반영 위치만 옮기며, 같은 충전을 두 번 합산하지 않는다.")
+        @Test
+        void movesWatermark_andAppliesChargeOnce() {
+            // arrange
+            String userId = "testuser01";
+            pointService.createPoint(userId);
+            pointService.chargePoint(userId, 1000L);
+            pointService.usePoint(userId, 300L);
+
+            // act
+            pointService.applyPendingCharges(userId);
+            pointService.chargePoint(userId, 200L);
+            pointService.applyPendingCharges(userId);
+            pointService.applyPendingCharges(userId);
+
+            // assert
+            List<PointTransaction> after = pointTransactionRepository.findAllByUserId(userId);
+            assertAll(
+                    () -> assertThat(after)
+                            .extracting(PointTransaction::getType, PointTransaction::getAmount)
+                            .containsExactly(
+                                    tuple(PointTransactionType.CHARGE, 1000L),
+                                    tuple(PointTransactionType.USE, 300L),
+                                    tuple(PointTransactionType.CHARGE, 200L)
+                            ),
+                    () -> assertThat(pointService.getPoint(userId).getAppliedTransactionId())
+                            .isEqualTo(after.get(after.size() - 1).getId()),
+                    () -> assertThat(pointService.getPoint(userId).getBalanceValue()).isEqualTo(900L),
+                    () -> assertThat(pointService.getBalance(userId)).isEqualTo(900L)
+            );
+        }
+    }
 }
@@ -0,0 +1,45 @@
+package com.loopers.domain.point;
+
+import com.loopers.support.error.CoreException;
+import com.loopers.support.error.ErrorType;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class PointTransactionTest {
+
+    @DisplayName("충전 이력을 생성할 수 있다.")
+    @Test
+    void createsChargeTransaction() {
+        // act
+        PointTransaction transaction = PointTransaction.charge("testuser01", 1000L);
+
+        // assert
+        assertThat(transaction.getUserId()).isEqualTo("testuser01");
+        assertThat(transaction.getType()).isEqualTo(PointTransactionType.CHARGE);
+        assertThat(transaction.getAmount()).isEqualTo(1000L);
+    }
+
+    @DisplayName("사용 이력을 생성할 수 있다.")
+    @Test
+    void createsUseTransaction() {
+        // act
+        PointTransaction transaction = PointTransaction.use("testuser01", 1000L);
+
+        // assert
+        assertThat(transaction.getType()).isEqualTo(PointTransactionType.USE);
+        assertThat(transaction.getAmount()).isEqualTo(1000L);
+    }
+
+    @DisplayName("거래 금액이 0 이하이면 BAD_REQUEST 예외가 발생한다.")
+    @Test
+    void throwsException_whenAmountIsNotPositive() {
+        // act & assert
+        assertThatThrownBy(() -> PointTransaction.use("testuser01", 0L))
+                .isInstanceOf(CoreException.class)
+                .extracting(ex -> ((CoreException) ex).getErrorType())
+                .isEqualTo(ErrorType.BAD_REQUEST);
+    }
+}
@@ -14,10 +14,17 @@ import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.domain.Sort;
 import org.springframework.test.context.bean.override.mockito.MockitoSpyBean;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.api.Assertions.assertAll;
@@ -35,6 +42,9 @@ class ProductServiceIntegrationTest {
     @MockitoSpyBean
     private BrandRepository brandRepository;
 
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
     @Autowired
     private DatabaseCleanUp databaseCleanUp;
 
@@ -150,4 +160,128 @@ class ProductServiceIntegrationTest {
                 () -> assertThat(productPage.getContent().get(1).getName()).isEqualTo("Product 2 (A)")
         );
     }
+
+    @DisplayName("좋아요 많은 순(likes_desc)으로 정렬하여 조회할 수 있다.")
+    @Test
+    void getProducts_sortedByLikesDesc() {
+        // arrange
+        transactionTemplate.executeWithoutResult(status -> {
+            productRepository.increaseLikeCount(savedProduct2.getId());
+            productRepository.increaseLikeCount(savedProduct2.getId());
+            productRepository.increaseLikeCount(savedProduct3.getId());
+        });
+        Pageable pageable = PageRequest.of(0, 10);
+
+        // act
+        ProductSearchCondition condition = new ProductSearchCondition(null, ProductSortType.LIKES_DESC, pageable);
+        Page<Product> productPage = productService.getProducts(condition);
+
+        // assert
+        assertThat(productPage.getContent()).extracting(Product::getName)
+                .containsExactly("Product 2 (A)", "Product 3 (B)", "Product 1 (A)");
+    }
+
+    @DisplayName("가격 낮은 순(price_asc)으로 브랜드 상품을 정렬하여 조회할 수 있다.")
+    @Test
+    void getProducts_sortedByPriceAsc_withBrandFilter() {
+        // arrange
+        productRepository.save(Product.create("Product 4 (A)", 500L, 5, savedBrand1));
+        Pageable pageable = PageRequest.of(0, 10);
+
+        // act
+        ProductSearchCondition condition = new ProductSearchCondition(savedBrand1.getId(), ProductSortType.PRICE_ASC, pageable);
+        Page<Product> productPage = productService.getProducts(condition);
+
+        // assert
+        assertAll(
+                () -> assertThat(productPage.getTotalElements()).isEqualTo(3),
+                () -> assertThat(productPage.getContent()).extracting(Product::getName)
+                        .containsExactly("Product 4 (A)", "Product 1 (A)", "Product 2 (A)")
+        );
+    }
+
+    @DisplayName("커서 기반으로 다음 페이지를 count 쿼리 없이 조회할 수 있다.")
+    @Test
+    void getProductsByCursor() {
+        // arrange
+        ProductCursorCondition firstCondition = new ProductCursorCondition(null, ProductSortType.PRICE_ASC, null, 2);
+
+        // act
+        Slice<Product> firstSlice = productService.getProductsByCursor(firstCondition);
+        Product last = firstSlice.getContent().get(firstSlice.getNumberOfElements() - 1);
+        ProductCursorCondition nextCondition = new ProductCursorCondition(
+                null, ProductSortType.PRICE_ASC, ProductCursor.of(ProductSortType.PRICE_ASC, last), 2
+        );
+        Slice<Product> nextSlice = productService.getProductsByCursor(nextCondition);
+
+        // assert
+        assertAll(
+                () -> assertThat(firstSlice.hasNext()).isTrue(),
+                () -> assertThat(firstSlice.getContent()).extracting(Product::getName)
+                        .containsExactly("Product 1 (A)", "Product 2 (A)"),
+                () -> assertThat(nextSlice.hasNext()).isFalse(),
+                () -> assertThat(nextSlice.getContent()).extracting(Product::getName)
+                        .containsExactly("Product 3 (B)")
+        );
+    }
+
+    @DisplayName("여러 상품의 재고를 한 번에 차감할 수 있다.")
+    @Test
+    void decreaseStocks() {
+        // act
+        productService.decreaseStocks(Map.of(savedProduct1.getId(), 3, savedProduct3.getId(), 30));
+
+        // assert
+        assertAll(
+                () -> assertThat(productService.getProduct(savedProduct1.getId()).getStockValue()).isEqualTo(7),
+                () -> assertThat(productService.getProduct(savedProduct3.getId()).getStockValue()).isZero()
+        );
+    }
+
+    @DisplayName("하나라도 재고가 부족하면 BAD_REQUEST 예외가 발생하고 어떤 상품의 재고도 차감되지 않는다.")
+    @Test
+    void decreaseStocks_throwsBadRequest_whenAnyStockInsufficient() {
+        // act
+        CoreException exception = assertThrows(CoreException.class, () ->
+                productService.decreaseStocks(Map.of(savedProduct1.getId(), 1, savedProduct2.getId(), 21))
+        );
+
+        // assert
+        assertAll(
+                () -> assertThat(exception.getErrorType()).isEqualTo(ErrorType.BAD_REQUEST),
+                () -> assertThat(productService.getProduct(savedProduct1.getId()).getStockValue()).isEqualTo(10),
+                () -> assertThat(productService.getProduct(savedProduct2.getId()).getStockValue()).isEqualTo(20)
+        );
+    }
+
+    @DisplayName("동시에 재고를 차감해도 재고보다 많이 판매되지 않는다.")
+    @Test
+    void decreaseStocks_concurrently_doesNotOversell() throws InterruptedException {
+        // arrange
+        int threadCount = 20;
+        ExecutorService executor = Executors.newFixedThreadPool(threadCount);
+        CountDownLatch latch = new CountDownLatch(threadCount);
+        AtomicInteger successCount = new AtomicInteger();
+
+        // act
+        for (int i = 0; i < threadCount; i++) {
+            executor.submit(() -> {
+                try {
+                    productService.decreaseStocks(Map.of(savedProduct1.getId(), 1));
+                    successCount.incrementAndGet();
+                } catch (CoreException ignored) {
+                } finally {
+                    latch.countDown();
+                }
+            });
+        }
+        latch.await();
+        executor.shutdown();
+
+        // assert
+        assertAll(
+                () -> assertThat(successCount.get()).isEqualTo(10),
+                () -> assertThat(productService.getProduct(savedProduct1.getId()).getStockValue()).isZero()
+        );
+    }
 }
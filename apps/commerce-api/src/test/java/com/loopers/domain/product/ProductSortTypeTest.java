@@ -0,0 +1,30 @@
+package com.loopers.domain.product;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.NullAndEmptySource;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ProductSortTypeTest {
+
+    @DisplayName("정렬 조건 문자열을 대소문자 구분 없이 변환할 수 있다.")
+    @Test
+    void from() {
+        // act & assert
+        assertThat(ProductSortType.from("latest")).isEqualTo(ProductSortType.LATEST);
+        assertThat(ProductSortType.from("price_asc")).isEqualTo(ProductSortType.PRICE_ASC);
+        assertThat(ProductSortType.from("LIKES_DESC")).isEqualTo(ProductSortType.LIKES_DESC);
+    }
+
+    @DisplayName("지원하지 않거나 비어있는 정렬 조건이면 기본 정렬(latest)이 적용된다.")
+    @ParameterizedTest
+    @NullAndEmptySource
+    @ValueSource(strings = {"   ", "name_desc", "likes"})
+    void from_returnsLatest_whenUnsupported(String value) {
+        // act & assert
+        assertThat(ProductSortType.from(value)).isEqualTo(ProductSortType.LATEST);
+    }
+}
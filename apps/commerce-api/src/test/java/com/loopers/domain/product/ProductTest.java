@@ -36,6 +36,7 @@ class ProductTest {
             assertThat(product.getName()).isEqualTo("Test Product");
             assertThat(product.getPriceValue()).isEqualTo(15000L);
             assertThat(product.getStockValue()).isEqualTo(50);
+            assertThat(product.getLikeCount()).isZero();
             assertThat(product.getBrand()).isEqualTo(dummyBrand);
         }
 
@@ -0,0 +1,192 @@
+package com.loopers.domain.product;
+
+import com.loopers.domain.brand.Brand;
+import com.loopers.domain.brand.BrandRepository;
+import com.loopers.support.error.CoreException;
+import com.loopers.support.error.ErrorType;
+import com.loopers.utils.DatabaseCleanUp;
+import com.loopers.utils.RedisCleanUp;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+@SpringBootTest
+class StockReservationServiceIntegrationTest {
+
+    @Autowired
+    private StockReservationService stockReservationService;
+
+    @Autowired
+    private StockReservationRepository stockReservationRepository;
+
+    @Autowired
+    private ProductService productService;
+
+    @Autowired
+    private BrandRepository brandRepository;
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private DatabaseCleanUp databaseCleanUp;
+
+    @Autowired
+    private RedisCleanUp redisCleanUp;
+
+    private Product enrolledProduct;
+    private Product normalProduct;
+
+    @BeforeEach
+    void setUp() {
+        Brand brand = brandRepository.save(Brand.create("Drop Brand"));
+        enrolledProduct = productRepository.save(Product.create("Limited Product", 10000L, 10, brand));
+        normalProduct = productRepository.save(Product.create("Normal Product", 1000L, 10, brand));
+        stockReservationService.enroll(enrolledProduct.getId());
+    }
+
+    @AfterEach
+    void tearDown() {
+        databaseCleanUp.truncateAllTables();
+        redisCleanUp.truncateAll();
+    }
+
+    @DisplayName("등록된 상품만 Redis 에서 선점하고, 나머지 상품의 수량을 돌려준다.")
+    @Test
+    void reserve_returnsRemainingQuantities() {
+        // act
+        Map<Long, Integer> remaining = transactionTemplate.execute(status ->
+                stockReservationService.reserve(Map.of(enrolledProduct.getId(), 3, normalProduct.getId(), 2))
+        );
+
+        // assert
+        assertAll(
+                () -> assertThat(remaining).containsExactlyEntriesOf(Map.of(normalProduct.getId(), 2)),
+                () -> assertThat(stockReservationRepository.findStock(enrolledProduct.getId())).contains(7),
+                () -> assertThat(stockReservationRepository.findPendingWriteBack()).containsEntry(enrolledProduct.getId(), 3)
+        );
+    }
+
+    @DisplayName("트랜잭션이 롤백되면 선점한 재고를 되돌린다.")
+    @Test
+    void reserve_releasesOnRollback() {
+        // act
+        transactionTemplate.executeWithoutResult(status -> {
+            stockReservationService.reserve(Map.of(enrolledProduct.getId(), 3));
+            status.setRollbackOnly();
+        });
+
+        // assert
+        assertAll(
+                () -> assertThat(stockReservationRepository.findStock(enrolledProduct.getId())).contains(10),
+                () -> assertThat(stockReservationRepository.findPendingWriteBack()).isEmpty()
+        );
+    }
+
+    @DisplayName("선점 재고가 부족하면 BAD_REQUEST 예외가 발생하고 아무것도 차감하지 않는다.")
+    @Test
+    void reserve_throwsBadRequest_whenInsufficient() {
+        // act
+        CoreException exception = assertThrows(CoreException.class, () ->
+                stockReservationService.reserve(Map.of(enrolledProduct.getId(), 11))
+        );
+
+        // assert
+        assertAll(
+                () -> assertThat(exception.getErrorType()).isEqualTo(ErrorType.BAD_REQUEST),
+                () -> assertThat(stockReservationRepository.findStock(enrolledProduct.getId())).contains(10)
+        );
+    }
+
+    @DisplayName("차감 수량이 0 이하이면 BAD_REQUEST 예외가 발생하고 재고를 바꾸지 않는다.")
+    @Test
+    void reserve_throwsBadRequest_whenQuantityIsNotPositive() {
+        // act
+        CoreException exception = assertThrows(CoreException.class, () ->
+                stockReservationService.reserve(Map.of(enrolledProduct.getId(), -3))
+        );
+
+        // assert
+        assertAll(
+                () -> assertThat(exception.getErrorType()).isEqualTo(ErrorType.BAD_REQUEST),
+                () -> assertThat(stockReservationRepository.findStock(enrolledProduct.getId())).contains(10)
+        );
+    }
+
+    @DisplayName("write-back 을 실행하면 커밋된 선점분이 DB 재고에 반영된다.")
+    @Test
+    void writeBack_appliesCommittedReservations() {
+        // arrange
+        transactionTemplate.execute(status -> stockReservationService.reserve(Map.of(enrolledProduct.getId(), 4)));
+
+        // act
+        stockReservationService.writeBack();
+
+        // assert
+        assertAll(
+                () -> assertThat(productService.getProduct(enrolledProduct.getId()).getStockValue()).isEqualTo(6),
+                () -> assertThat(stockReservationRepository.findPendingWriteBack()).isEmpty()
+        );
+    }
+
+    @DisplayName("Redis 재고가 DB 기준보다 많으면 보정 작업이 DB 기준으로 낮춘다.")
+    @Test
+    void reconcile_clampsRedisStock() {
+        // arrange
+        stockReservationRepository.release(Map.of(enrolledProduct.getId(), 5));
+
+        // act
+        stockReservationService.reconcile();
+
+        // assert
+        assertThat(stockReservationRepository.findStock(enrolledProduct.getId())).contains(10);
+    }
+
+    @DisplayName("등록을 해제하면 남은 선점분을 DB 재고에 반영하고 Redis 재고와 write-back 락을 정리한다.")
+    @Test
+    void withdraw_writesBackAndRemovesReservation() {
+        // arrange
+        transactionTemplate.execute(status -> stockReservationService.reserve(Map.of(enrolledProduct.getId(), 4)));
+
+        // act
+        stockReservationService.withdraw(enrolledProduct.getId());
+
+        // assert
+        assertAll(
+                () -> assertThat(productService.getProduct(enrolledProduct.getId()).getStockValue()).isEqualTo(6),
+                () -> assertThat(stockReservationRepository.findPendingWriteBack()).isEmpty(),
+                () -> assertThat(stockReservationRepository.findStock(enrolledProduct.getId())).isEmpty(),
+                () -> assertThat(stockReservationRepository.findEnrolledProductIds()).doesNotContain(enrolledProduct.getId()),
+                () -> assertThat(stockReservationRepository.tryLockWriteBack(Duration.ofSeconds(1))).isTrue()
+        );
+    }
+
+    @DisplayName("등록을 해제한 상품은 Redis 에서 선점하지 않고 수량을 그대로 돌려준다.")
+    @Test
+    void reserve_skipsWithdrawnProduct() {
+        // arrange
+        stockReservationService.withdraw(enrolledProduct.getId());
+
+        // act
+        Map<Long, Integer> remaining = transactionTemplate.execute(status ->
+                stockReservationService.reserve(Map.of(enrolledProduct.getId(), 3))
+        );
+
+        // assert
+        assertThat(remaining).containsExactlyEntriesOf(Map.of(enrolledProduct.getId(), 3));
+    }
+}
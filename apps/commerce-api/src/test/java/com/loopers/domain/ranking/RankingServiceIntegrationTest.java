@@ -0,0 +1,222 @@
+package com.loopers.domain.ranking;
+
+import com.loopers.application.like.LikeFacade;
+import com.loopers.application.user.LoginUser;
+import com.loopers.domain.brand.Brand;
+import com.loopers.domain.brand.BrandRepository;
+import com.loopers.domain.like.LikeChangedEvent;
+import com.loopers.domain.like.LikeService;
+import com.loopers.domain.order.OrderPlacedEvent;
+import com.loopers.domain.product.Product;
+import com.loopers.domain.product.ProductRepository;
+import com.loopers.domain.user.Gender;
+import com.loopers.domain.user.User;
+import com.loopers.domain.user.UserService;
+import com.loopers.support.error.CoreException;
+import com.loopers.support.error.ErrorType;
+import com.loopers.utils.DatabaseCleanUp;
+import com.loopers.utils.RedisCleanUp;
+import org.junit.jupiter.api.*;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+@SpringBootTest
+class RankingServiceIntegrationTest {
+
+    @Autowired
+    private RankingService rankingService;
+
+    @Autowired
+    private LikeFacade likeFacade;
+
+    @Autowired
+    private LikeService likeService;
+
+    @Autowired
+    private UserService userService;
+
+    @Autowired
+    private BrandRepository brandRepository;
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    @Autowired
+    private DatabaseCleanUp databaseCleanUp;
+
+    @Autowired
+    private RedisCleanUp redisCleanUp;
+
+    private Brand brandA, brandB;
+    private Product productA1, productA2, productB1;
+
+    @BeforeEach
+    void setUp() {
+        brandA = brandRepository.save(Brand.create("Ranking Brand A"));
+        brandB = brandRepository.save(Brand.create("Ranking Brand B"));
+        productA1 = productRepository.save(Product.create("Ranking Product A1", 1000L, 10, brandA));
+        productA2 = productRepository.save(Product.create("Ranking Product A2", 2000L, 10, brandA));
+        productB1 = productRepository.save(Product.create("Ranking Product B1", 3000L, 10, brandB));
+    }
+
+    @AfterEach
+    void tearDown() {
+        databaseCleanUp.truncateAllTables();
+        redisCleanUp.truncateAll();
+    }
+
+    @DisplayName("트렌딩 랭킹 집계")
+    @Nested
+    class Refresh {
+
+        @DisplayName("주문 수량은 좋아요보다 높은 가중치로 반영된다.")
+        @Test
+        void ordersOutweighLikes() {
+            // arrange
+            Instant now = Instant.now();
+            rankingService.recordLike(likeEvent(productA1, true), now);
+            rankingService.recordLike(likeEvent(productA1, true), now);
+            rankingService.recordOrder(orderEvent(productB1, 1), now);
+
+            // act
+            rankingService.refresh(now);
+
+            // assert
+            assertThat(rankingService.getTopProducts(null, 10))
+                    .extracting(RankedProduct::productId)
+                    .containsExactly(productB1.getId(), productA1.getId());
+        }
+
+        @DisplayName("같은 점수라도 최근 시간 버킷의 점수가 더 높게 반영된다.")
+        @Test
+        void decaysOlderBuckets() {
+            // arrange
+            Instant now = Instant.now();
+            rankingService.recordOrder(orderEvent(productA1, 1), now.minus(5, ChronoUnit.HOURS));
+            rankingService.recordOrder(orderEvent(productA2, 1), now);
+
+            // act
+            rankingService.refresh(now);
+
+            // assert
+            List<RankedProduct> top = rankingService.getTopProducts(null, 10);
+            assertThat(top).extracting(RankedProduct::productId)
+                    .containsExactly(productA2.getId(), productA1.getId());
+            assertThat(top.get(1).score()).isLessThan(top.get(0).score());
+        }
+
+        @DisplayName("윈도우를 벗어난 시간 버킷은 합산되지 않는다.")
+        @Test
+        void excludesBucketsOutsideWindow() {
+            // arrange
+            Instant now = Instant.now();
+            rankingService.recordOrder(orderEvent(productA1, 1), now.minus(RankingService.WINDOW_HOURS, ChronoUnit.HOURS));
+
+            // act
+            rankingService.refresh(now);
+
+            // assert
+            assertThat(rankingService.getTopProducts(null, 10)).isEmpty();
+        }
+
+        @DisplayName("브랜드를 지정하면 해당 브랜드 상품만 순위에 포함된다.")
+        @Test
+        void ranksWithinBrand() {
+            // arrange
+            Instant now = Instant.now();
+            rankingService.recordOrder(orderEvent(productB1, 5), now);
+            rankingService.recordLike(likeEvent(productA1, true), now);
+            rankingService.recordOrder(orderEvent(productA2, 1), now);
+
+            // act
+            rankingService.refresh(now);
+
+            // assert
+            assertThat(rankingService.getTopProducts(brandA.getId(), 10))
+                    .extracting(RankedProduct::productId)
+                    .containsExactly(productA2.getId(), productA1.getId());
+        }
+
+        @DisplayName("좋아요를 취소하면 점수가 상쇄되어 순위에서 빠진다.")
+        @Test
+        void cancelsUnlikedScore() {
+            // arrange
+            Instant now = Instant.now();
+            rankingService.recordLike(likeEvent(productA1, true), now);
+            rankingService.recordLike(likeEvent(productA1, false), now);
+
+            // act
+            rankingService.refresh(now);
+
+            // assert
+            assertThat(rankingService.getTopProducts(null, 10)).isEmpty();
+        }
+    }
+
+    @DisplayName("커밋된 좋아요는 이벤트로 랭킹에 반영된다.")
+    @Test
+    void recordsCommittedLike() {
+        // arrange
+        User user = userService.signUp("ranker01", "ranker@mail.com", "1990-01-01", Gender.MALE);
+
+        // act
+        likeFacade.addLike(LoginUser.from(user), productA2.getId());
+        rankingService.refresh(Instant.now());
+
+        // assert
+        assertThat(rankingService.getTopProducts(null, 10))
+                .extracting(RankedProduct::productId)
+                .containsExactly(productA2.getId());
+    }
+
+    @DisplayName("재구축하면 MySQL 기준으로 시간 버킷을 덮어쓴다.")
+    @Test
+    void rebuildsFromDatabase() {
+        // arrange
+        Instant now = Instant.now();
+        User user1 = userService.signUp("ranker01", "ranker@mail.com", "1990-01-01", Gender.MALE);
+        User user2 = userService.signUp("ranker02", "ranker@mail.com", "1990-01-01", Gender.FEMALE);
+        likeService.addLike(user1, productB1);
+        likeService.addLike(user2, productB1);
+        likeService.addLike(user1, productA1);
+        rankingService.recordOrder(orderEvent(productA2, 10), now); // MySQL 에 없는 점수
+
+        // act
+        rankingService.rebuild(now);
+
+        // assert
+        assertThat(rankingService.getTopProducts(null, 10))
+                .extracting(RankedProduct::productId)
+                .containsExactly(productB1.getId(), productA1.getId());
+        assertThat(rankingService.getTopProducts(brandA.getId(), 10))
+                .extracting(RankedProduct::productId)
+                .containsExactly(productA1.getId());
+    }
+
+    @DisplayName("조회 개수가 범위를 벗어나면 BAD_REQUEST 예외가 발생한다.")
+    @Test
+    void throwsException_whenSizeOutOfRange() {
+        // act
+        CoreException exception = assertThrows(CoreException.class, () -> rankingService.getTopProducts(null, 0));
+
+        // assert
+        assertThat(exception.getErrorType()).isEqualTo(ErrorType.BAD_REQUEST);
+    }
+
+    private LikeChangedEvent likeEvent(Product product, boolean liked) {
+        return new LikeChangedEvent(1L, product.getId(), product.getBrand().getId(), liked);
+    }
+
+    private OrderPlacedEvent orderEvent(Product product, int quantity) {
+        return new OrderPlacedEvent(1L, 1L, List.of(
+                new OrderPlacedEvent.OrderedProduct(product.getId(), product.getBrand().getId(), quantity)
+        ));
+    }
+}
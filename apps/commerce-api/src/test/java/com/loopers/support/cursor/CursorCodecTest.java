@@ -0,0 +1,75 @@
+package com.loopers.support.cursor;
+
+import com.loopers.support.error.CoreException;
+import com.loopers.support.error.ErrorType;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.time.ZoneId;
+import java.time.ZonedDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class CursorCodecTest {
+
+    @DisplayName("인코딩한 커서를 디코딩하면 원래 값 목록을 얻을 수 있다.")
+    @Test
+    void encodeAndDecode() {
+        // act
+        String cursor = CursorCodec.encode("LIKES_DESC", 15L, 300L);
+        List<String> values = CursorCodec.decode(cursor, 3);
+
+        // assert
+        assertThat(cursor).doesNotContain("LIKES_DESC");
+        assertThat(values).containsExactly("LIKES_DESC", "15", "300");
+    }
+
+    @DisplayName("형식이 올바르지 않은 커서를 디코딩하면 BAD_REQUEST 예외가 발생한다.")
+    @ParameterizedTest
+    @ValueSource(strings = {"%%%", "bm90LWEtY3Vyc29y"})
+    void throwsException_whenCursorIsMalformed(String cursor) {
+        // act & assert
+        assertThatThrownBy(() -> CursorCodec.decode(cursor, 3))
+                .isInstanceOf(CoreException.class)
+                .extracting(ex -> ((CoreException) ex).getErrorType())
+                .isEqualTo(ErrorType.BAD_REQUEST);
+    }
+
+    @DisplayName("숫자가 아닌 값을 Long 으로 변환하면 BAD_REQUEST 예외가 발생한다.")
+    @Test
+    void throwsException_whenValueIsNotNumber() {
+        // act & assert
+        assertThatThrownBy(() -> CursorCodec.parseLong("abc"))
+                .isInstanceOf(CoreException.class)
+                .extracting(ex -> ((CoreException) ex).getErrorType())
+                .isEqualTo(ErrorType.BAD_REQUEST);
+    }
+
+    @DisplayName("시각 값은 UTC 기준으로 마이크로초까지 보존되어 복원된다.")
+    @Test
+    void parseZonedDateTime() {
+        // arrange
+        ZonedDateTime likedAt = ZonedDateTime.of(2026, 1, 2, 3, 4, 5, 123_456_000, ZoneId.of("Asia/Seoul"));
+
+        // act
+        String cursor = CursorCodec.encode(likedAt.toInstant(), 10L);
+        ZonedDateTime parsed = CursorCodec.parseZonedDateTime(CursorCodec.decode(cursor, 2).get(0));
+
+        // assert
+        assertThat(parsed.toInstant()).isEqualTo(likedAt.toInstant());
+    }
+
+    @DisplayName("시각 형식이 아닌 값을 변환하면 BAD_REQUEST 예외가 발생한다.")
+    @Test
+    void throwsException_whenValueIsNotInstant() {
+        // act & assert
+        assertThatThrownBy(() -> CursorCodec.parseZonedDateTime("2026-01-02"))
+                .isInstanceOf(CoreException.class)
+                .extracting(ex -> ((CoreException) ex).getErrorType())
+                .isEqualTo(ErrorType.BAD_REQUEST);
+    }
+}
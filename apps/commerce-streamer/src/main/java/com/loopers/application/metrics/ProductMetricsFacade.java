@@ -0,0 +1,52 @@
+package com.loopers.application.metrics;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.loopers.domain.metrics.ProductMetricsDelta;
+import com.loopers.domain.metrics.ProductMetricsService;
+import com.loopers.support.kafka.EventEnvelope;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 한 번 poll 한 이벤트를 상품별 증감분 하나로 접어서 반영한다. 3000건의 이벤트도 상품 수만큼의 행, 몇 개의 upsert 문으로 끝난다.
+ */
+@Component
+@RequiredArgsConstructor
+public class ProductMetricsFacade {
+
+    private final ProductMetricsService productMetricsService;
+
+    public void aggregate(List<EventEnvelope> events) {
+        Map<Long, ProductMetricsDelta> deltas = new HashMap<>();
+        for (EventEnvelope event : events) {
+            fold(event, deltas);
+        }
+        productMetricsService.apply(deltas.values());
+    }
+
+    private void fold(EventEnvelope event, Map<Long, ProductMetricsDelta> deltas) {
+        JsonNode payload = event.payload();
+        switch (event.eventType()) {
+            case "LIKE_CHANGED" -> merge(deltas, new ProductMetricsDelta(
+                    payload.get("productId").asLong(), payload.get("liked").asBoolean() ? 1 : -1, 0, 0
+            ));
+            case "ORDER_PLACED" -> payload.get("items").forEach(item -> merge(deltas, new ProductMetricsDelta(
+                    item.get("productId").asLong(), 0, item.get("quantity").asLong(), 0
+            )));
+            case "PRODUCT_VIEWED" -> merge(deltas, new ProductMetricsDelta(
+                    payload.get("productId").asLong(), 0, 0, 1
+            ));
+            default -> {
+                // 지표와 무관한 이벤트
+            }
+        }
+    }
+
+    private void merge(Map<Long, ProductMetricsDelta> deltas, ProductMetricsDelta delta) {
+        deltas.merge(delta.productId(), delta, ProductMetricsDelta::plus);
+    }
+}
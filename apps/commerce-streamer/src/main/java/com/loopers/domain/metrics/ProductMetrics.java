@@ -0,0 +1,34 @@
+package com.loopers.domain.metrics;
+
+import com.loopers.domain.BaseEntity;
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 이벤트로 집계한 상품별 지표. 행 생성과 증감은 {@link ProductMetricsRepository#upsertAll} 의 다중 행 upsert 로만 이루어진다.
+ */
+@Entity
+@Getter
+@Table(name = "product_metrics", uniqueConstraints = {
+        @UniqueConstraint(name = "uk_product_metrics_product", columnNames = "product_id")
+})
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class ProductMetrics extends BaseEntity {
+
+    @Column(name = "product_id", nullable = false)
+    private Long productId;
+
+    @Column(name = "like_count", nullable = false)
+    private Long likeCount = 0L;
+
+    @Column(name = "sales_count", nullable = false)
+    private Long salesCount = 0L;
+
+    @Column(name = "view_count", nullable = false)
+    private Long viewCount = 0L;
+}
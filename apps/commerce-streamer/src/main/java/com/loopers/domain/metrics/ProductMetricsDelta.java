@@ -0,0 +1,24 @@
+package com.loopers.domain.metrics;
+
+/**
+ * 한 배치에서 상품 하나에 대해 합산된 지표 증감분.
+ */
+public record ProductMetricsDelta(
+        Long productId,
+        long likeDelta,
+        long salesDelta,
+        long viewDelta
+) {
+    public ProductMetricsDelta plus(ProductMetricsDelta other) {
+        return new ProductMetricsDelta(
+                productId,
+                likeDelta + other.likeDelta,
+                salesDelta + other.salesDelta,
+                viewDelta + other.viewDelta
+        );
+    }
+
+    public boolean isZero() {
+        return likeDelta == 0 && salesDelta == 0 && viewDelta == 0;
+    }
+}
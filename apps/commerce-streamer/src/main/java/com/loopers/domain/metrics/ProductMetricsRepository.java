@@ -0,0 +1,7 @@
+package com.loopers.domain.metrics;
+
+import java.util.List;
+
+public interface ProductMetricsRepository {
+    int upsertAll(List<ProductMetricsDelta> deltas); // 없는 상품은 행을 만들고, 있으면 증감분을 더한다
+}
@@ -0,0 +1,33 @@
+package com.loopers.domain.metrics;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+
+@Service
+@RequiredArgsConstructor
+public class ProductMetricsService {
+
+    private static final int MAX_ROWS_PER_STATEMENT = 500;
+
+    private final ProductMetricsRepository productMetricsRepository;
+
+    /**
+     * 증감분을 상품 id 순으로 정렬해 다중 행 upsert 로 반영한다.
+     * 여러 컨슈머가 같은 상품 행을 동시에 갱신해도 잠금 순서가 같아 교착 상태가 생기지 않는다.
+     */
+    @Transactional
+    public void apply(Collection<ProductMetricsDelta> deltas) {
+        List<ProductMetricsDelta> sorted = deltas.stream()
+                .filter(delta -> !delta.isZero())
+                .sorted(Comparator.comparing(ProductMetricsDelta::productId))
+                .toList();
+        for (int from = 0; from < sorted.size(); from += MAX_ROWS_PER_STATEMENT) {
+            productMetricsRepository.upsertAll(sorted.subList(from, Math.min(from + MAX_ROWS_PER_STATEMENT, sorted.size())));
+        }
+    }
+}
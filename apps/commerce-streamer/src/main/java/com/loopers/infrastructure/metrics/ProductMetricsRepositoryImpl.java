@@ -0,0 +1,43 @@
+package com.loopers.infrastructure.metrics;
+
+import com.loopers.domain.metrics.ProductMetricsDelta;
+import com.loopers.domain.metrics.ProductMetricsRepository;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.Query;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Repository;
+
+import java.util.Collections;
+import java.util.List;
+
+@Repository
+@RequiredArgsConstructor
+public class ProductMetricsRepositoryImpl implements ProductMetricsRepository {
+
+    private final EntityManager entityManager;
+
+    @Override
+    public int upsertAll(List<ProductMetricsDelta> deltas) {
+        if (deltas.isEmpty()) {
+            return 0;
+        }
+        String values = String.join(", ", Collections.nCopies(deltas.size(), "(?, ?, ?, ?, UTC_TIMESTAMP(6), UTC_TIMESTAMP(6))"));
+        Query query = entityManager.createNativeQuery(
+                "INSERT INTO product_metrics (product_id, like_count, sales_count, view_count, created_at, updated_at) " +
+                        "VALUES " + values + " AS d " +
+                        "ON DUPLICATE KEY UPDATE " +
+                        "like_count = product_metrics.like_count + d.like_count, " +
+                        "sales_count = product_metrics.sales_count + d.sales_count, " +
+                        "view_count = product_metrics.view_count + d.view_count, " +
+                        "updated_at = d.updated_at"
+        );
+        int position = 1;
+        for (ProductMetricsDelta delta : deltas) {
+            query.setParameter(position++, delta.productId());
+            query.setParameter(position++, delta.likeDelta());
+            query.setParameter(position++, delta.salesDelta());
+            query.setParameter(position++, delta.viewDelta());
+        }
+        return query.executeUpdate();
+    }
+}
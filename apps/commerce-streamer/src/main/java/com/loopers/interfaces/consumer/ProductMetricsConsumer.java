@@ -0,0 +1,73 @@
+package com.loopers.interfaces.consumer;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.loopers.application.metrics.ProductMetricsFacade;
+import com.loopers.confg.kafka.KafkaConfig;
+import com.loopers.support.kafka.BatchBisector;
+import com.loopers.support.kafka.EventEnvelope;
+import com.loopers.support.kafka.KafkaTopics;
+import com.loopers.support.kafka.KeyOrderedBatchProcessor;
+import com.loopers.support.kafka.idempotency.IdempotentEventProcessor;
+import lombok.RequiredArgsConstructor;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.springframework.kafka.annotation.KafkaListener;
+import org.springframework.kafka.support.Acknowledgment;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 좋아요/주문/조회 이벤트를 상품 지표(product_metrics)에 반영한다. 배치 반영이 커밋된 뒤에만 오프셋을 커밋한다.
+ * 재전달된 이벤트는 event_handled 기록으로 걸러내므로 같은 이벤트가 지표에 두 번 더해지지 않는다.
+ * 처리할 수 없는 레코드는 배치를 나눠 찾아낸 뒤 에러 핸들러에 넘겨 재시도/DLT 로 보내고, 나머지는 계속 처리한다.
+ * key-ordered 모드에서는 키 그룹마다 배치와 같은 방식으로 합산해 한 번에 반영하고, 실패하면 그 그룹 안에서만 나눠 실패 레코드를 찾는다.
+ * 실패한 키는 그 레코드에서 멈추고 가장 앞선 실패 레코드부터 다시 전달받는다.
+ */
+@Component
+@RequiredArgsConstructor
+public class ProductMetricsConsumer {
+
+    private static final String CONSUMER_NAME = "product-metrics-v1";
+
+    private final ProductMetricsFacade productMetricsFacade;
+    private final IdempotentEventProcessor idempotentEventProcessor;
+    private final KeyOrderedBatchProcessor keyOrderedBatchProcessor;
+    private final ProductMetricsConsumerProperties properties;
+    private final ObjectMapper objectMapper;
+
+    @KafkaListener(
+            topics = {KafkaTopics.CATALOG_EVENTS, KafkaTopics.ORDER_EVENTS},
+            groupId = CONSUMER_NAME,
+            containerFactory = KafkaConfig.BATCH_LISTENER
+    )
+    public void consume(
+            List<ConsumerRecord<Object, Object>> messages,
+            Acknowledgment acknowledgment
+    ) {
+        if (properties.keyOrdered()) {
+            keyOrderedBatchProcessor.processGroups(messages, group -> BatchBisector.process(group, this::handle));
+        } else {
+            BatchBisector.process(messages, this::handle);
+        }
+        acknowledgment.acknowledge();
+    }
+
+    private void handle(List<ConsumerRecord<Object, Object>> messages) {
+        List<EventEnvelope> events = new ArrayList<>(messages.size());
+        for (ConsumerRecord<Object, Object> message : messages) {
+            events.add(parse(message));
+        }
+        idempotentEventProcessor.process(CONSUMER_NAME, events, EventEnvelope::eventId, productMetricsFacade::aggregate);
+    }
+
+    private EventEnvelope parse(ConsumerRecord<Object, Object> message) {
+        try {
+            return objectMapper.readValue((byte[]) message.value(), EventEnvelope.class);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
@@ -0,0 +1,13 @@
+package com.loopers.interfaces.consumer;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * @param keyOrdered true 이면 배치를 레코드 키별로 나눠 가상 스레드에서 동시에 처리한다. 같은 키의 이벤트는 한 건씩 순서대로 반영된다.
+ *                   false 이면 배치 전체를 한 번에 접어서 반영하고, 실패 시 배치를 나눠 실패 레코드를 찾는다.
+ */
+@ConfigurationProperties("product-metrics.consumer")
+public record ProductMetricsConsumerProperties(
+        boolean keyOrdered
+) {
+}
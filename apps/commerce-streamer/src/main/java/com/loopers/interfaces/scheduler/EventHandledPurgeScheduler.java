@@ -0,0 +1,38 @@
+package com.loopers.interfaces.scheduler;
+
+import com.loopers.support.kafka.idempotency.IdempotentEventProcessor;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * 보존 기간이 지난 이벤트 처리 기록(event_handled)을 주기적으로 정리한다.
+ * 한 번 실행에 PURGE_BATCH_SIZE 씩 지우며, 배치가 가득 차면 밀린 기록이 있는 것으로 보고 바로 다음 배치를 지운다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class EventHandledPurgeScheduler {
+
+    private static final int PURGE_BATCH_SIZE = 5000;
+    private static final int MAX_BATCHES_PER_RUN = 100;
+
+    private final IdempotentEventProcessor idempotentEventProcessor;
+
+    @Scheduled(
+            initialDelayString = "${event-handled.purge-interval:PT10M}",
+            fixedDelayString = "${event-handled.purge-interval:PT10M}"
+    )
+    public void purge() {
+        try {
+            for (int i = 0; i < MAX_BATCHES_PER_RUN; i++) {
+                if (idempotentEventProcessor.purgeExpired(PURGE_BATCH_SIZE) < PURGE_BATCH_SIZE) {
+                    return;
+                }
+            }
+        } catch (Exception e) {
+            log.error("보존 기간이 지난 이벤트 처리 기록 정리 실패", e);
+        }
+    }
+}
@@ -0,0 +1,167 @@
+package com.loopers.interfaces.consumer;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.loopers.domain.metrics.ProductMetricsDelta;
+import com.loopers.domain.metrics.ProductMetricsRepository;
+import com.loopers.support.kafka.EventEnvelope;
+import com.loopers.support.kafka.KafkaTopics;
+import com.loopers.utils.DatabaseCleanUp;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.kafka.support.Acknowledgment;
+import org.springframework.test.context.bean.override.mockito.MockitoSpyBean;
+
+import java.time.ZonedDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.*;
+
+@SpringBootTest
+class ProductMetricsConsumerIntegrationTest {
+
+    @Autowired
+    private ProductMetricsConsumer productMetricsConsumer;
+
+    @MockitoSpyBean
+    private ProductMetricsRepository productMetricsRepository;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private DatabaseCleanUp databaseCleanUp;
+
+    private long offset;
+    private long orderId = 1;
+
+    @AfterEach
+    void tearDown() {
+        databaseCleanUp.truncateAllTables();
+    }
+
+    @DisplayName("한 배치에 같은 상품의 이벤트가 여러 번 있으면 상품별로 합산해 한 행에 반영한다.")
+    @Test
+    void foldsRepeatedProducts() {
+        // arrange
+        ConsumerRecord<Object, Object> duplicated = likeChanged(1L, true);
+        List<ConsumerRecord<Object, Object>> records = List.of(
+                likeChanged(1L, true),
+                likeChanged(1L, true),
+                likeChanged(1L, false),
+                duplicated,
+                duplicated,
+                orderPlaced(Map.of(1L, 2L, 2L, 3L)),
+                orderPlaced(Map.of(2L, 1L)),
+                productViewed(2L),
+                productViewed(2L)
+        );
+        Acknowledgment acknowledgment = mock(Acknowledgment.class);
+
+        // act
+        productMetricsConsumer.consume(records, acknowledgment);
+
+        // assert
+        assertThat(findMetrics(1L)).containsExactly(2L, 2L, 0L);
+        assertThat(findMetrics(2L)).containsExactly(0L, 4L, 2L);
+        verify(productMetricsRepository, times(1)).upsertAll(anyList());
+        verify(acknowledgment).acknowledge();
+    }
+
+    @DisplayName("상품 수가 500개를 넘으면 500행씩 나눠 상품 id 순으로 upsert 한다.")
+    @Test
+    void chunksUpsertBy500Rows() {
+        // arrange
+        List<ConsumerRecord<Object, Object>> records = new ArrayList<>();
+        for (long productId = 1201; productId >= 1; productId--) {
+            records.add(likeChanged(productId, true));
+        }
+
+        // act
+        productMetricsConsumer.consume(records, mock(Acknowledgment.class));
+
+        // assert
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<List<ProductMetricsDelta>> chunks = ArgumentCaptor.forClass(List.class);
+        verify(productMetricsRepository, times(3)).upsertAll(chunks.capture());
+        assertThat(chunks.getAllValues()).extracting(List::size).containsExactly(500, 500, 201);
+        assertThat(chunks.getAllValues().get(0).get(0).productId()).isEqualTo(1L);
+        assertThat(jdbcTemplate.queryForObject("SELECT COUNT(*) FROM product_metrics WHERE like_count = 1", Long.class))
+                .isEqualTo(1201L);
+    }
+
+    @DisplayName("이미 반영한 배치가 다시 전달되어도 지표가 두 번 더해지지 않는다.")
+    @Test
+    void ignoresReplayedBatch() {
+        // arrange
+        List<ConsumerRecord<Object, Object>> records = List.of(
+                likeChanged(1L, true),
+                orderPlaced(Map.of(1L, 5L)),
+                productViewed(1L)
+        );
+        productMetricsConsumer.consume(records, mock(Acknowledgment.class));
+
+        // act
+        Acknowledgment acknowledgment = mock(Acknowledgment.class);
+        productMetricsConsumer.consume(records, acknowledgment);
+
+        // assert
+        assertThat(findMetrics(1L)).containsExactly(1L, 5L, 1L);
+        verify(productMetricsRepository, times(1)).upsertAll(anyList());
+        verify(acknowledgment).acknowledge();
+    }
+
+    private List<Long> findMetrics(Long productId) {
+        return jdbcTemplate.queryForObject(
+                "SELECT like_count, sales_count, view_count FROM product_metrics WHERE product_id = ?",
+                (rs, rowNum) -> List.of(rs.getLong("like_count"), rs.getLong("sales_count"), rs.getLong("view_count")),
+                productId
+        );
+    }
+
+    private ConsumerRecord<Object, Object> likeChanged(Long productId, boolean liked) {
+        ObjectNode payload = objectMapper.createObjectNode()
+                .put("productId", productId)
+                .put("liked", liked);
+        return record(KafkaTopics.CATALOG_EVENTS, productId, "LIKE_CHANGED", payload);
+    }
+
+    private ConsumerRecord<Object, Object> productViewed(Long productId) {
+        ObjectNode payload = objectMapper.createObjectNode().put("productId", productId);
+        return record(KafkaTopics.CATALOG_EVENTS, productId, "PRODUCT_VIEWED", payload);
+    }
+
+    private ConsumerRecord<Object, Object> orderPlaced(Map<Long, Long> quantities) {
+        ObjectNode payload = objectMapper.createObjectNode();
+        ArrayNode items = payload.putArray("items");
+        quantities.forEach((productId, quantity) -> items.addObject()
+                .put("productId", productId)
+                .put("quantity", quantity));
+        return record(KafkaTopics.ORDER_EVENTS, orderId++, "ORDER_PLACED", payload);
+    }
+
+    private ConsumerRecord<Object, Object> record(String topic, Long key, String eventType, ObjectNode payload) {
+        EventEnvelope envelope = new EventEnvelope(
+                UUID.randomUUID().toString(), eventType, String.valueOf(key), ZonedDateTime.now(), payload
+        );
+        try {
+            return new ConsumerRecord<>(topic, 0, offset++, String.valueOf(key), objectMapper.writeValueAsBytes(envelope));
+        } catch (Exception e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
@@ -0,0 +1,123 @@
+package com.loopers.interfaces.consumer;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.loopers.domain.metrics.ProductMetricsRepository;
+import com.loopers.support.kafka.EventEnvelope;
+import com.loopers.support.kafka.KafkaTopics;
+import com.loopers.utils.DatabaseCleanUp;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.kafka.listener.BatchListenerFailedException;
+import org.springframework.kafka.support.Acknowledgment;
+import org.springframework.test.context.bean.override.mockito.MockitoSpyBean;
+
+import java.time.ZonedDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.catchThrowable;
+import static org.mockito.Mockito.*;
+
+@SpringBootTest(properties = "product-metrics.consumer.key-ordered=true")
+class ProductMetricsConsumerKeyOrderedIntegrationTest {
+
+    @Autowired
+    private ProductMetricsConsumer productMetricsConsumer;
+
+    @MockitoSpyBean
+    private ProductMetricsRepository productMetricsRepository;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private DatabaseCleanUp databaseCleanUp;
+
+    private long offset;
+
+    @AfterEach
+    void tearDown() {
+        databaseCleanUp.truncateAllTables();
+    }
+
+    @DisplayName("키 그룹마다 한 번씩만 upsert 한다.")
+    @Test
+    void upsertsOncePerKeyGroup() {
+        // arrange
+        List<ConsumerRecord<Object, Object>> records = new ArrayList<>();
+        for (int i = 0; i < 300; i++) {
+            records.add(likeChanged(1L + i % 3, true));
+        }
+        Acknowledgment acknowledgment = mock(Acknowledgment.class);
+
+        // act
+        productMetricsConsumer.consume(records, acknowledgment);
+
+        // assert
+        verify(productMetricsRepository, times(3)).upsertAll(anyList());
+        assertThat(findLikeCount(1L)).isEqualTo(100L);
+        assertThat(findLikeCount(2L)).isEqualTo(100L);
+        assertThat(findLikeCount(3L)).isEqualTo(100L);
+        verify(acknowledgment).acknowledge();
+    }
+
+    @DisplayName("처리할 수 없는 레코드가 있으면 그 키 그룹 안에서만 나눠 찾고, 앞쪽은 반영한 뒤 그 레코드로 예외를 던진다.")
+    @Test
+    void bisectsOnlyFailedGroup() {
+        // arrange
+        ConsumerRecord<Object, Object> broken = new ConsumerRecord<>(
+                KafkaTopics.CATALOG_EVENTS, 0, offset++, "1", "not-json".getBytes()
+        );
+        List<ConsumerRecord<Object, Object>> records = List.of(
+                likeChanged(1L, true),
+                likeChanged(2L, true),
+                broken,
+                likeChanged(1L, true),
+                likeChanged(2L, true)
+        );
+        Acknowledgment acknowledgment = mock(Acknowledgment.class);
+
+        // act
+        Throwable thrown = catchThrowable(() -> productMetricsConsumer.consume(records, acknowledgment));
+
+        // assert
+        assertThat(thrown).isInstanceOf(BatchListenerFailedException.class);
+        assertThat(((BatchListenerFailedException) thrown).getRecord()).isSameAs(broken);
+        assertThat(findLikeCount(1L)).isEqualTo(1L);
+        assertThat(findLikeCount(2L)).isEqualTo(2L);
+        verify(acknowledgment, never()).acknowledge();
+    }
+
+    private Long findLikeCount(Long productId) {
+        return jdbcTemplate.queryForObject(
+                "SELECT like_count FROM product_metrics WHERE product_id = ?", Long.class, productId
+        );
+    }
+
+    private ConsumerRecord<Object, Object> likeChanged(Long productId, boolean liked) {
+        ObjectNode payload = objectMapper.createObjectNode()
+                .put("productId", productId)
+                .put("liked", liked);
+        EventEnvelope envelope = new EventEnvelope(
+                UUID.randomUUID().toString(), "LIKE_CHANGED", String.valueOf(productId), ZonedDateTime.now(), payload
+        );
+        try {
+            return new ConsumerRecord<>(
+                    KafkaTopics.CATALOG_EVENTS, 0, offset++, String.valueOf(productId), objectMapper.writeValueAsBytes(envelope)
+            );
+        } catch (Exception e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
@@ -0,0 +1,103 @@
+package com.loopers.support.kafka.idempotency;
+
+import com.loopers.utils.DatabaseCleanUp;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Function;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+class IdempotentEventProcessorIntegrationTest {
+
+    @Autowired
+    private IdempotentEventProcessor idempotentEventProcessor;
+
+    @Autowired
+    private EventHandledRepository eventHandledRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private DatabaseCleanUp databaseCleanUp;
+
+    @AfterEach
+    void tearDown() {
+        databaseCleanUp.truncateAllTables();
+    }
+
+    @DisplayName("이미 처리한 이벤트가 다시 전달되면 handler 에 넘기지 않는다.")
+    @Test
+    void skipsHandledEvents() {
+        // arrange
+        List<List<String>> calls = new ArrayList<>();
+        process("redelivery-test", List.of("e1", "e2"), calls);
+
+        // act
+        process("redelivery-test", List.of("e1", "e2", "e3"), calls);
+
+        // assert
+        assertThat(calls).containsExactly(List.of("e1", "e2"), List.of("e3"));
+    }
+
+    @DisplayName("블룸 필터가 처리했다고 추정해도 DB 에 기록이 없으면 신규 이벤트로 처리한다.")
+    @Test
+    void fallsBackToDb_whenBloomFilterIsFalsePositive() {
+        // arrange
+        List<List<String>> calls = new ArrayList<>();
+        process("false-positive-test", List.of("e1"), calls);
+        jdbcTemplate.update("DELETE FROM event_handled WHERE consumer_name = ?", "false-positive-test");
+
+        // act
+        process("false-positive-test", List.of("e1"), calls);
+
+        // assert
+        assertThat(calls).containsExactly(List.of("e1"), List.of("e1"));
+        assertThat(eventHandledRepository.findHandled("false-positive-test", List.of("e1"))).containsExactly("e1");
+    }
+
+    @DisplayName("다른 인스턴스가 먼저 기록한 이벤트가 섞여 있으면, 키 충돌로 롤백한 뒤 전체 확인 후 나머지만 처리한다.")
+    @Test
+    void retriesWithFullLookup_whenAnotherInstanceRecordedFirst() {
+        // arrange
+        List<List<String>> calls = new ArrayList<>();
+        eventHandledRepository.insertAll("race-test", List.of("e1"));
+
+        // act
+        process("race-test", List.of("e1", "e2"), calls);
+
+        // assert
+        assertThat(calls).containsExactly(List.of("e1", "e2"), List.of("e2"));
+        assertThat(eventHandledRepository.findHandled("race-test", List.of("e1", "e2"))).containsExactlyInAnyOrder("e1", "e2");
+    }
+
+    @DisplayName("보존 기간이 지난 처리 기록만 지운다.")
+    @Test
+    void purgesExpiredRecords() {
+        // arrange
+        jdbcTemplate.update(
+                "INSERT INTO event_handled (consumer_name, event_id, handled_at) VALUES (?, ?, UTC_TIMESTAMP(6) - INTERVAL ? SECOND)",
+                "purge-test", "expired", IdempotentEventProcessor.RETENTION.plusDays(1).toSeconds()
+        );
+        eventHandledRepository.insertAll("purge-test", List.of("recent"));
+
+        // act
+        int purged = idempotentEventProcessor.purgeExpired(100);
+
+        // assert
+        assertThat(purged).isEqualTo(1);
+        assertThat(eventHandledRepository.findHandled("purge-test", List.of("expired", "recent"))).containsExactly("recent");
+    }
+
+    private void process(String consumerName, List<String> eventIds, List<List<String>> calls) {
+        idempotentEventProcessor.process(consumerName, eventIds, Function.identity(), events -> calls.add(List.copyOf(events)));
+    }
+}
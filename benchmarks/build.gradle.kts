@@ -0,0 +1,33 @@
+plugins {
+    id("me.champeau.jmh")
+}
+
+dependencies {
+    jmhImplementation(project(":apps:commerce-api"))
+    jmhImplementation(project(":modules:jpa"))
+    jmhImplementation(project(":supports:jackson"))
+    jmhImplementation("com.fasterxml.jackson.core:jackson-databind")
+}
+
+// apps 모듈은 bootJar 만 만들기 때문에 jar 대신 classes 디렉터리를 참조한다.
+configurations.named("jmhRuntimeClasspath") {
+    attributes {
+        attribute(LibraryElements.LIBRARY_ELEMENTS_ATTRIBUTE, objects.named(LibraryElements.CLASSES))
+    }
+}
+
+// 커밋 간 비교가 가능하도록 측정 조건을 고정하고, 결과를 커밋 해시(version) 이름의 JSON 으로 남긴다.
+// ./gradlew :benchmarks:jmh -Pjmh.includes=OrderAssembly 처럼 일부만 실행할 수 있다.
+jmh {
+    jmhVersion = project.properties["jmhVersion"].toString()
+    project.findProperty("jmh.includes")?.let { includes = listOf(it.toString()) }
+    fork = 2
+    warmupIterations = 3
+    warmup = "2s"
+    iterations = 5
+    timeOnIteration = "2s"
+    jvmArgs = listOf("-Xms1g", "-Xmx1g", "-XX:+UseG1GC")
+    profilers = listOf("gc")
+    resultFormat = "JSON"
+    resultsFile = layout.buildDirectory.file("results/jmh/${project.version}.json")
+}
@@ -0,0 +1,46 @@
+package com.loopers.benchmark;
+
+import com.loopers.domain.point.PointBalance;
+import com.loopers.domain.product.Stock;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 결제 경로에서 호출되는 재고/포인트 값 객체 연산. 연산마다 새 객체를 만드는 비용을 gc 프로파일러로 함께 본다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class DomainValueBenchmark {
+
+    private Stock stock;
+    private PointBalance balance;
+
+    @Setup
+    public void setUp() {
+        stock = Stock.of(1_000_000);
+        balance = PointBalance.of(1_000_000L);
+    }
+
+    @Benchmark
+    public Stock stockDecrease() {
+        return stock.decrease(1);
+    }
+
+    @Benchmark
+    public boolean stockIsAvailable() {
+        return stock.isAvailable(1);
+    }
+
+    @Benchmark
+    public PointBalance pointChargeAndUse() {
+        return balance.charge(1_000L).use(1_000L);
+    }
+}
@@ -0,0 +1,64 @@
+package com.loopers.benchmark;
+
+import com.loopers.domain.brand.Brand;
+import com.loopers.domain.order.Order;
+import com.loopers.domain.order.OrderLine;
+import com.loopers.domain.product.Product;
+import com.loopers.domain.user.Gender;
+import com.loopers.domain.user.User;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+/**
+ * 주문 항목 수에 따른 주문 조립 비용. 항목을 추가할 때마다 총액을 다시 계산하는지가 항목 수가 커질수록 드러난다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class OrderAssemblyBenchmark {
+
+    @Param({"1", "10", "100", "500"})
+    private int itemCount;
+
+    private User user;
+    private List<Product> products;
+    private List<OrderLine> lines;
+
+    @Setup
+    public void setUp() {
+        user = User.create("bench01", "bench@example.com", "1990-01-01", Gender.MALE);
+        Brand brand = Brand.create("벤치마크 브랜드");
+        products = IntStream.range(0, itemCount)
+                .mapToObj(i -> Product.create("상품" + i, 1_000L + i, 1_000, brand))
+                .toList();
+        lines = products.stream()
+                .map(product -> new OrderLine(product, 2))
+                .toList();
+    }
+
+    @Benchmark
+    public Order addOrderItemOneByOne() {
+        Order order = Order.create(user);
+        for (Product product : products) {
+            order.addOrderItem(product, 2);
+        }
+        return order;
+    }
+
+    @Benchmark
+    public Order addOrderItems() {
+        Order order = Order.create(user);
+        order.addOrderItems(lines);
+        return order;
+    }
+}
@@ -0,0 +1,56 @@
+package com.loopers.benchmark;
+
+import com.loopers.application.product.ProductListInfo;
+import com.loopers.domain.brand.Brand;
+import com.loopers.domain.product.Product;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+/**
+ * 상품 목록 페이지를 응답용 정보로 변환하는 비용.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class ProductListInfoBenchmark {
+
+    @Param({"20", "100"})
+    private int pageSize;
+
+    private Page<Product> page;
+    private ProductListInfo info;
+
+    @Setup
+    public void setUp() {
+        Brand brand = Brand.create("벤치마크 브랜드");
+        List<Product> products = IntStream.range(0, pageSize)
+                .mapToObj(i -> Product.create("상품" + i, 1_000L + i, 100, brand))
+                .toList();
+        page = new PageImpl<>(products, PageRequest.of(0, pageSize), 10_000);
+        info = ProductListInfo.of(page);
+    }
+
+    @Benchmark
+    public ProductListInfo of() {
+        return ProductListInfo.of(page);
+    }
+
+    @Benchmark
+    public ProductListInfo withLikedProductIds() {
+        return info.withLikedProductIds(Set.of(0L));
+    }
+}
@@ -0,0 +1,40 @@
+// apps 모듈은 bootJar 만 만들기 때문에 jar 대신 classes 디렉터리를 참조하고, 리소스(application.yml)는 resources 디렉터리를 따로 가져온다.
+configurations.named("runtimeClasspath") {
+    attributes {
+        attribute(LibraryElements.LIBRARY_ELEMENTS_ATTRIBUTE, objects.named(LibraryElements.CLASSES))
+    }
+}
+
+val appResources by configurations.creating {
+    isCanBeConsumed = false
+    attributes {
+        attribute(Usage.USAGE_ATTRIBUTE, objects.named(Usage.JAVA_RUNTIME))
+        attribute(Category.CATEGORY_ATTRIBUTE, objects.named(Category.LIBRARY))
+        attribute(LibraryElements.LIBRARY_ELEMENTS_ATTRIBUTE, objects.named(LibraryElements.RESOURCES))
+    }
+}
+
+dependencies {
+    implementation(project(":apps:commerce-api"))
+    implementation(project(":modules:jpa"))
+    appResources(project(":apps:commerce-api")) { isTransitive = false }
+
+    // testcontainers: 부하 대상 애플리케이션을 테스트와 같은 MySQL/Redis 컨테이너 위에 띄운다.
+    implementation(testFixtures(project(":modules:jpa")))
+    implementation(testFixtures(project(":modules:redis")))
+
+    implementation("org.hdrhistogram:HdrHistogram:${project.properties["hdrHistogramVersion"]}")
+    implementation("com.fasterxml.jackson.core:jackson-databind")
+}
+
+// ./gradlew :load-tests:loadTest -PloadTest.args="--profile=flash-sale --rate=300 --duration=PT1M"
+tasks.register<JavaExec>("loadTest") {
+    group = "verification"
+    description = "commerce-api 에 트래픽 프로파일을 재생하고 기준선과 비교한다."
+    mainClass = "com.loopers.loadtest.LoadTestRunner"
+    classpath = sourceSets["main"].runtimeClasspath + appResources
+    workingDir = projectDir
+    args = project.findProperty("loadTest.args")?.toString()?.split(" ")?.filter { it.isNotBlank() } ?: listOf()
+    systemProperty("user.timezone", "Asia/Seoul")
+    jvmArgs("-Xms1g", "-Xmx1g")
+}
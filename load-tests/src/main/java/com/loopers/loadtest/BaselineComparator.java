@@ -0,0 +1,47 @@
+package com.loopers.loadtest;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * 기준선 대비 p99/p99.9 지연 시간이 tolerance 이상 늘었거나, 처리량이 tolerance 이상 줄었거나, 오류가 새로 생기면 회귀로 본다.
+ */
+public class BaselineComparator {
+
+    private final double tolerance;
+
+    public BaselineComparator(double tolerance) {
+        this.tolerance = tolerance;
+    }
+
+    public List<String> findRegressions(LoadTestSummary baseline, LoadTestSummary current) {
+        Map<String, OperationSummary> baselineByOperation = baseline.operations().stream()
+                .collect(Collectors.toMap(OperationSummary::operation, Function.identity()));
+
+        List<String> regressions = new ArrayList<>();
+        for (OperationSummary now : current.operations()) {
+            OperationSummary before = baselineByOperation.get(now.operation());
+            if (before == null) {
+                continue;
+            }
+            checkIncrease(regressions, now.operation(), "p99", before.p99Ms(), now.p99Ms());
+            checkIncrease(regressions, now.operation(), "p99.9", before.p999Ms(), now.p999Ms());
+            if (now.throughput() < before.throughput() * (1 - tolerance)) {
+                regressions.add(String.format("%s throughput %.1f/s -> %.1f/s", now.operation(), before.throughput(), now.throughput()));
+            }
+            if (before.errors() == 0 && now.errors() > 0) {
+                regressions.add(String.format("%s errors 0 -> %d", now.operation(), now.errors()));
+            }
+        }
+        return regressions;
+    }
+
+    private void checkIncrease(List<String> regressions, String operation, String metric, double before, double now) {
+        if (now > before * (1 + tolerance)) {
+            regressions.add(String.format("%s %s %.2fms -> %.2fms", operation, metric, before, now));
+        }
+    }
+}
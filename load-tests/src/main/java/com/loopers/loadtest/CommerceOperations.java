@@ -0,0 +1,60 @@
+package com.loopers.loadtest;
+
+import com.loopers.application.like.LikeFacade;
+import com.loopers.application.order.OrderFacade;
+import com.loopers.application.order.OrderPlaceCommand;
+import com.loopers.application.point.PointFacade;
+import com.loopers.application.product.ProductFacade;
+import com.loopers.application.product.ProductGetListCommand;
+import com.loopers.application.ranking.RankingFacade;
+import com.loopers.application.user.LoginUser;
+import com.loopers.domain.product.ProductSortType;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.PageRequest;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+
+/**
+ * 유스케이스 하나를 실행한다. 요청마다 분기된 random 으로 대상을 고르므로 seed 가 같으면 같은 요청이 재생된다.
+ */
+@RequiredArgsConstructor
+public class CommerceOperations {
+
+    private static final ProductSortType[] SORT_TYPES = ProductSortType.values();
+
+    private final ProductFacade productFacade;
+    private final LikeFacade likeFacade;
+    private final OrderFacade orderFacade;
+    private final PointFacade pointFacade;
+    private final RankingFacade rankingFacade;
+    private final SeedData seedData;
+    private final double hotRatio;
+
+    public void execute(OperationType type, SplittableRandom random) {
+        LoginUser user = seedData.pickUser(random);
+        switch (type) {
+            case PRODUCT_LIST -> productFacade.getProducts(new ProductGetListCommand(
+                    random.nextBoolean() ? seedData.pickBrandId(random) : null,
+                    SORT_TYPES[random.nextInt(SORT_TYPES.length)],
+                    PageRequest.of(random.nextInt(5), 20)
+            ), user);
+            case PRODUCT_DETAIL -> productFacade.getProductDetail(seedData.pickProductId(random, hotRatio), user);
+            case RANKING_TRENDING -> rankingFacade.getTrendingProducts(null, 20);
+            case LIKE_ADD -> likeFacade.addLike(user, seedData.pickProductId(random, hotRatio));
+            case LIKE_REMOVE -> likeFacade.removeLike(user, seedData.pickProductId(random, hotRatio));
+            case ORDER_PLACE -> orderFacade.placeOrder(user, orderCommand(random));
+            case POINT_BALANCE -> pointFacade.getBalance(user);
+        }
+    }
+
+    private OrderPlaceCommand orderCommand(SplittableRandom random) {
+        int itemCount = 1 + random.nextInt(3);
+        List<OrderPlaceCommand.OrderItemCommand> items = new ArrayList<>(itemCount);
+        for (int i = 0; i < itemCount; i++) {
+            items.add(new OrderPlaceCommand.OrderItemCommand(seedData.pickProductId(random, hotRatio), 1));
+        }
+        return new OrderPlaceCommand(items);
+    }
+}
@@ -0,0 +1,74 @@
+package com.loopers.loadtest;
+
+import com.loopers.application.point.PointCommand;
+import com.loopers.application.point.PointFacade;
+import com.loopers.application.user.LoginUser;
+import com.loopers.application.user.LoginUserResolver;
+import com.loopers.application.user.UserCommand;
+import com.loopers.application.user.UserFacade;
+import com.loopers.domain.brand.Brand;
+import com.loopers.domain.brand.BrandRepository;
+import com.loopers.domain.product.Product;
+import com.loopers.domain.product.ProductRepository;
+import com.loopers.domain.user.Gender;
+import lombok.RequiredArgsConstructor;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+
+/**
+ * seed 가 같으면 같은 데이터가 만들어진다. 인기 상품은 재고를 넉넉히 두어 플래시 세일 중 품절로 요청 구성이 바뀌지 않게 한다.
+ */
+@RequiredArgsConstructor
+public class DataSeeder {
+
+    private static final int BRAND_COUNT = 20;
+    private static final int PRODUCT_COUNT = 2_000;
+    private static final int HOT_PRODUCT_COUNT = 10;
+    private static final int USER_COUNT = 500;
+    private static final int STOCK = 10_000;
+    private static final int HOT_STOCK = 1_000_000;
+    private static final long POINT = 1_000_000_000L;
+
+    private final BrandRepository brandRepository;
+    private final ProductRepository productRepository;
+    private final UserFacade userFacade;
+    private final PointFacade pointFacade;
+    private final LoginUserResolver loginUserResolver;
+
+    public SeedData seed(long seed) {
+        SplittableRandom random = new SplittableRandom(seed);
+
+        List<Brand> brands = new ArrayList<>(BRAND_COUNT);
+        for (int i = 0; i < BRAND_COUNT; i++) {
+            brands.add(brandRepository.save(Brand.create("부하 브랜드 " + i)));
+        }
+
+        List<Long> productIds = new ArrayList<>(PRODUCT_COUNT);
+        List<Long> hotProductIds = new ArrayList<>(HOT_PRODUCT_COUNT);
+        for (int i = 0; i < PRODUCT_COUNT; i++) {
+            boolean hot = i < HOT_PRODUCT_COUNT;
+            Product product = productRepository.save(Product.create(
+                    "부하 상품 " + i,
+                    1_000L + random.nextInt(100) * 100L,
+                    hot ? HOT_STOCK : STOCK,
+                    brands.get(random.nextInt(BRAND_COUNT))
+            ));
+            productIds.add(product.getId());
+            if (hot) {
+                hotProductIds.add(product.getId());
+            }
+        }
+
+        List<LoginUser> users = new ArrayList<>(USER_COUNT);
+        for (int i = 0; i < USER_COUNT; i++) {
+            String userId = "load" + i;
+            userFacade.signUp(new UserCommand(userId, userId + "@loopers.com", "1990-01-01", Gender.MALE));
+            pointFacade.chargePoint(new PointCommand(userId, POINT));
+            users.add(loginUserResolver.resolve(userId));
+        }
+
+        return new SeedData(users, brands.stream().map(Brand::getId).toList(), productIds, hotProductIds);
+    }
+}
@@ -0,0 +1,71 @@
+package com.loopers.loadtest;
+
+import com.loopers.support.error.CoreException;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * 정해진 초당 요청 수로 요청을 예약해 가상 스레드에서 실행한다(open model).
+ * 응답을 기다렸다가 다음 요청을 보내는 방식(closed model)은 대상이 느려지면 요청도 줄어 지연 시간이 실제보다 좋게 측정된다.
+ */
+@Slf4j
+@RequiredArgsConstructor
+public class LoadGenerator {
+
+    private final CommerceOperations operations;
+
+    public Result run(TrafficProfile profile, int rate, Duration duration, long seed) {
+        Map<OperationType, OperationRecorder> recorders = new EnumMap<>(OperationType.class);
+        for (OperationType type : profile.getWeights().keySet()) {
+            recorders.put(type, new OperationRecorder());
+        }
+
+        SplittableRandom random = new SplittableRandom(seed);
+        long intervalNanos = 1_000_000_000L / rate;
+        long start = System.nanoTime();
+        long end = start + duration.toNanos();
+
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (long i = 0; ; i++) {
+                long intendedStart = start + i * intervalNanos;
+                if (intendedStart >= end) {
+                    break;
+                }
+                long wait = intendedStart - System.nanoTime();
+                if (wait > 0) {
+                    LockSupport.parkNanos(wait);
+                }
+                OperationType type = profile.pick(random);
+                SplittableRandom requestRandom = random.split();
+                OperationRecorder recorder = recorders.get(type);
+                executor.submit(() -> execute(type, requestRandom, recorder, intendedStart));
+            }
+        } // 남은 요청이 모두 끝날 때까지 기다린다.
+
+        double elapsedSeconds = (System.nanoTime() - start) / 1_000_000_000.0;
+        return new Result(recorders, elapsedSeconds);
+    }
+
+    private void execute(OperationType type, SplittableRandom random, OperationRecorder recorder, long intendedStart) {
+        try {
+            operations.execute(type, random);
+            recorder.recordSuccess(System.nanoTime() - intendedStart);
+        } catch (CoreException e) {
+            recorder.recordRejected(System.nanoTime() - intendedStart);
+        } catch (RuntimeException e) {
+            recorder.recordError(System.nanoTime() - intendedStart);
+            log.warn("부하 요청 처리 중 오류가 발생했습니다. operation={}", type, e);
+        }
+    }
+
+    public record Result(Map<OperationType, OperationRecorder> recorders, double elapsedSeconds) {
+    }
+}
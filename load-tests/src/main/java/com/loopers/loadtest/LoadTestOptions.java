@@ -0,0 +1,50 @@
+package com.loopers.loadtest;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * 실행 옵션. 같은 옵션(특히 seed, rate)으로 실행하면 같은 요청 순서가 재생되므로 결과를 기준선과 비교할 수 있다.
+ *
+ * @param rate      초당 요청 수. 응답을 기다리지 않고 일정한 간격으로 요청을 보낸다(open model).
+ * @param tolerance 기준선 대비 허용 오차 비율
+ */
+public record LoadTestOptions(
+        TrafficProfile profile,
+        int rate,
+        Duration warmup,
+        Duration duration,
+        long seed,
+        double tolerance,
+        Path resultDir,
+        Path baselineDir,
+        boolean updateBaseline
+) {
+    public static LoadTestOptions parse(String[] args) {
+        Map<String, String> values = new HashMap<>();
+        for (String arg : args) {
+            if (!arg.startsWith("--")) {
+                throw new IllegalArgumentException("옵션은 --key=value 형식이어야 합니다: " + arg);
+            }
+            int separator = arg.indexOf('=');
+            if (separator < 0) {
+                values.put(arg.substring(2), "true");
+            } else {
+                values.put(arg.substring(2, separator), arg.substring(separator + 1));
+            }
+        }
+        return new LoadTestOptions(
+                TrafficProfile.from(values.getOrDefault("profile", TrafficProfile.BROWSE_HEAVY.getCode())),
+                Integer.parseInt(values.getOrDefault("rate", "200")),
+                Duration.parse(values.getOrDefault("warmup", "PT15S")),
+                Duration.parse(values.getOrDefault("duration", "PT60S")),
+                Long.parseLong(values.getOrDefault("seed", "20250101")),
+                Double.parseDouble(values.getOrDefault("tolerance", "0.1")),
+                Path.of(values.getOrDefault("result-dir", "build/results")),
+                Path.of(values.getOrDefault("baseline-dir", "baselines")),
+                Boolean.parseBoolean(values.getOrDefault("update-baseline", "false"))
+        );
+    }
+}
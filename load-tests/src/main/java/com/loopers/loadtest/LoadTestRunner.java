@@ -0,0 +1,143 @@
+package com.loopers.loadtest;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.loopers.CommerceApiApplication;
+import com.loopers.application.like.LikeFacade;
+import com.loopers.application.order.OrderFacade;
+import com.loopers.application.point.PointFacade;
+import com.loopers.application.product.ProductFacade;
+import com.loopers.application.ranking.RankingFacade;
+import com.loopers.application.user.LoginUserResolver;
+import com.loopers.application.user.UserFacade;
+import com.loopers.domain.brand.BrandRepository;
+import com.loopers.domain.product.ProductRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.HdrHistogram.HistogramLogWriter;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * commerce-api 를 테스트와 같은 Testcontainers MySQL/Redis 위에 띄우고, 트래픽 프로파일을 재생한다.
+ * <p>
+ * 결과는 {result-dir}/{profile}/{실행 시각}/ 아래에 유스케이스별 HdrHistogram 로그(.hlog)와 summary.json 으로 남는다.
+ * {baseline-dir}/{profile}.json 기준선이 있으면 비교해 회귀가 있으면 종료 코드 1 로 끝나고, --update-baseline 이면 기준선을 갱신한다.
+ */
+@Slf4j
+public class LoadTestRunner {
+
+    public static void main(String[] args) throws IOException {
+        LoadTestOptions options = LoadTestOptions.parse(args);
+        ObjectMapper objectMapper = new ObjectMapper().enable(SerializationFeature.INDENT_OUTPUT);
+
+        LoadTestSummary summary;
+        Path resultDir;
+        try (ConfigurableApplicationContext context = new SpringApplicationBuilder(CommerceApiApplication.class)
+                .web(WebApplicationType.NONE)
+                .profiles("test")
+                .run()) {
+            SeedData seedData = new DataSeeder(
+                    context.getBean(BrandRepository.class),
+                    context.getBean(ProductRepository.class),
+                    context.getBean(UserFacade.class),
+                    context.getBean(PointFacade.class),
+                    context.getBean(LoginUserResolver.class)
+            ).seed(options.seed());
+
+            LoadGenerator generator = new LoadGenerator(new CommerceOperations(
+                    context.getBean(ProductFacade.class),
+                    context.getBean(LikeFacade.class),
+                    context.getBean(OrderFacade.class),
+                    context.getBean(PointFacade.class),
+                    context.getBean(RankingFacade.class),
+                    seedData,
+                    options.profile().getHotRatio()
+            ));
+
+            log.info("워밍업을 시작합니다. profile={}, rate={}/s, warmup={}", options.profile().getCode(), options.rate(), options.warmup());
+            generator.run(options.profile(), options.rate(), options.warmup(), options.seed() - 1);
+
+            log.info("측정을 시작합니다. duration={}", options.duration());
+            LoadGenerator.Result result = generator.run(options.profile(), options.rate(), options.duration(), options.seed());
+
+            resultDir = options.resultDir()
+                    .resolve(options.profile().getCode())
+                    .resolve(LocalDateTime.now().format(DateTimeFormatter.ofPattern("yyyyMMdd-HHmmss")));
+            Files.createDirectories(resultDir);
+            summary = summarize(options, result, resultDir);
+        }
+
+        objectMapper.writeValue(resultDir.resolve("summary.json").toFile(), summary);
+        print(summary, System.out);
+
+        Path baselineFile = options.baselineDir().resolve(options.profile().getCode() + ".json");
+        if (options.updateBaseline()) {
+            Files.createDirectories(options.baselineDir());
+            objectMapper.writeValue(baselineFile.toFile(), summary);
+            log.info("기준선을 갱신했습니다. {}", baselineFile);
+            return;
+        }
+        if (!Files.exists(baselineFile)) {
+            log.info("기준선이 없어 비교하지 않습니다. --update-baseline 으로 저장할 수 있습니다. {}", baselineFile);
+            return;
+        }
+
+        LoadTestSummary baseline = objectMapper.readValue(baselineFile.toFile(), LoadTestSummary.class);
+        if (!baseline.isComparableTo(summary)) {
+            log.warn("기준선과 실행 조건(profile, rate, duration, seed)이 달라 비교하지 않습니다. {}", baselineFile);
+            return;
+        }
+        List<String> regressions = new BaselineComparator(options.tolerance()).findRegressions(baseline, summary);
+        if (regressions.isEmpty()) {
+            log.info("기준선 대비 회귀가 없습니다. tolerance={}", options.tolerance());
+            return;
+        }
+        regressions.forEach(regression -> log.error("회귀: {}", regression));
+        System.exit(1);
+    }
+
+    private static LoadTestSummary summarize(LoadTestOptions options, LoadGenerator.Result result, Path resultDir) throws IOException {
+        List<OperationSummary> operations = new ArrayList<>();
+        for (Map.Entry<OperationType, OperationRecorder> entry : result.recorders().entrySet()) {
+            String operation = entry.getKey().name().toLowerCase();
+            OperationRecorder recorder = entry.getValue();
+            try (PrintStream out = new PrintStream(Files.newOutputStream(resultDir.resolve(operation + ".hlog")))) {
+                HistogramLogWriter writer = new HistogramLogWriter(out);
+                writer.outputComment("operation=" + operation + ", unit=us");
+                writer.outputLogFormatVersion();
+                writer.outputLegend();
+                writer.outputIntervalHistogram(recorder.histogram());
+            }
+            operations.add(recorder.summarize(operation, result.elapsedSeconds()));
+        }
+        return new LoadTestSummary(
+                options.profile().getCode(),
+                options.rate(),
+                options.duration().toSeconds(),
+                options.seed(),
+                operations
+        );
+    }
+
+    private static void print(LoadTestSummary summary, PrintStream out) {
+        out.printf("%n[%s] rate=%d/s duration=%ds seed=%d%n", summary.profile(), summary.rate(), summary.durationSeconds(), summary.seed());
+        out.printf("%-18s %9s %9s %7s %10s %9s %9s %9s %9s%n",
+                "operation", "count", "rejected", "errors", "rps", "p50(ms)", "p99(ms)", "p99.9(ms)", "max(ms)");
+        for (OperationSummary operation : summary.operations()) {
+            out.printf("%-18s %9d %9d %7d %10.1f %9.2f %9.2f %9.2f %9.2f%n",
+                    operation.operation(), operation.count(), operation.rejected(), operation.errors(),
+                    operation.throughput(), operation.p50Ms(), operation.p99Ms(), operation.p999Ms(), operation.maxMs());
+        }
+    }
+}
@@ -0,0 +1,21 @@
+package com.loopers.loadtest;
+
+import java.util.List;
+
+/**
+ * 한 번의 실행 결과. 기준선 파일도 같은 형식으로 저장한다.
+ */
+public record LoadTestSummary(
+        String profile,
+        int rate,
+        long durationSeconds,
+        long seed,
+        List<OperationSummary> operations
+) {
+    public boolean isComparableTo(LoadTestSummary other) {
+        return profile.equals(other.profile)
+                && rate == other.rate
+                && durationSeconds == other.durationSeconds
+                && seed == other.seed;
+    }
+}
@@ -0,0 +1,57 @@
+package com.loopers.loadtest;
+
+import org.HdrHistogram.ConcurrentHistogram;
+import org.HdrHistogram.Histogram;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 유스케이스 하나의 지연 시간(µs)과 결과 건수를 모은다.
+ * 지연 시간은 요청을 보내기로 예정된 시각부터 재므로, 대상이 밀려 요청이 늦게 나간 시간도 포함된다(coordinated omission 보정).
+ */
+public class OperationRecorder {
+
+    private static final long HIGHEST_TRACKABLE_MICROS = TimeUnit.MINUTES.toMicros(1);
+
+    private final Histogram histogram = new ConcurrentHistogram(HIGHEST_TRACKABLE_MICROS, 3);
+    private final LongAdder rejected = new LongAdder();
+    private final LongAdder errors = new LongAdder();
+
+    void recordSuccess(long latencyNanos) {
+        record(latencyNanos);
+    }
+
+    // 재고/포인트 부족처럼 비즈니스 규칙에 따라 거절된 요청
+    void recordRejected(long latencyNanos) {
+        rejected.increment();
+        record(latencyNanos);
+    }
+
+    void recordError(long latencyNanos) {
+        errors.increment();
+        record(latencyNanos);
+    }
+
+    private void record(long latencyNanos) {
+        histogram.recordValue(Math.min(TimeUnit.NANOSECONDS.toMicros(latencyNanos), HIGHEST_TRACKABLE_MICROS));
+    }
+
+    Histogram histogram() {
+        return histogram;
+    }
+
+    OperationSummary summarize(String operation, double elapsedSeconds) {
+        return new OperationSummary(
+                operation,
+                histogram.getTotalCount(),
+                rejected.sum(),
+                errors.sum(),
+                histogram.getTotalCount() / elapsedSeconds,
+                histogram.getValueAtPercentile(50.0) / 1000.0,
+                histogram.getValueAtPercentile(99.0) / 1000.0,
+                histogram.getValueAtPercentile(99.9) / 1000.0,
+                histogram.getMaxValue() / 1000.0
+        );
+    }
+}
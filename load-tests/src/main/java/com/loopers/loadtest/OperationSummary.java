@@ -0,0 +1,17 @@
+package com.loopers.loadtest;
+
+/**
+ * 유스케이스별 결과. 지연 시간은 ms 단위다.
+ */
+public record OperationSummary(
+        String operation,
+        long count,
+        long rejected,
+        long errors,
+        double throughput,
+        double p50Ms,
+        double p99Ms,
+        double p999Ms,
+        double maxMs
+) {
+}
@@ -0,0 +1,14 @@
+package com.loopers.loadtest;
+
+/**
+ * 부하 대상 유스케이스. 카탈로그/좋아요/주문은 아직 HTTP 컨트롤러가 없어 애플리케이션 파사드 단위로 측정한다.
+ */
+public enum OperationType {
+    PRODUCT_LIST,
+    PRODUCT_DETAIL,
+    RANKING_TRENDING,
+    LIKE_ADD,
+    LIKE_REMOVE,
+    ORDER_PLACE,
+    POINT_BALANCE
+}
@@ -0,0 +1,31 @@
+package com.loopers.loadtest;
+
+import com.loopers.application.user.LoginUser;
+
+import java.util.List;
+import java.util.SplittableRandom;
+
+/**
+ * 부하 시작 전에 만들어 둔 사용자/상품. hotProductIds 는 플래시 세일, 좋아요 폭주처럼 요청이 몰리는 상품이다.
+ */
+public record SeedData(
+        List<LoginUser> users,
+        List<Long> brandIds,
+        List<Long> productIds,
+        List<Long> hotProductIds
+) {
+    public LoginUser pickUser(SplittableRandom random) {
+        return users.get(random.nextInt(users.size()));
+    }
+
+    public Long pickBrandId(SplittableRandom random) {
+        return brandIds.get(random.nextInt(brandIds.size()));
+    }
+
+    public Long pickProductId(SplittableRandom random, double hotRatio) {
+        if (random.nextDouble() < hotRatio) {
+            return hotProductIds.get(random.nextInt(hotProductIds.size()));
+        }
+        return productIds.get(random.nextInt(productIds.size()));
+    }
+}
@@ -0,0 +1,69 @@
+package com.loopers.loadtest;
+
+import lombok.Getter;
+
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.SplittableRandom;
+
+/**
+ * 재생할 트래픽 구성. 유스케이스별 가중치와, 상품을 고를 때 인기 상품(hot)에 몰리는 비율을 정의한다.
+ */
+@Getter
+public enum TrafficProfile {
+    BROWSE_HEAVY("browse-heavy", 0.2, Map.of(
+            OperationType.PRODUCT_LIST, 50,
+            OperationType.PRODUCT_DETAIL, 35,
+            OperationType.RANKING_TRENDING, 10,
+            OperationType.LIKE_ADD, 3,
+            OperationType.ORDER_PLACE, 2
+    )),
+    FLASH_SALE("flash-sale", 0.95, Map.of(
+            OperationType.ORDER_PLACE, 60,
+            OperationType.PRODUCT_DETAIL, 30,
+            OperationType.POINT_BALANCE, 10
+    )),
+    LIKE_STORM("like-storm", 0.9, Map.of(
+            OperationType.LIKE_ADD, 45,
+            OperationType.LIKE_REMOVE, 35,
+            OperationType.PRODUCT_DETAIL, 20
+    ));
+
+    private final String code;
+    private final double hotRatio;
+    private final Map<OperationType, Integer> weights;
+    private final int totalWeight;
+
+    TrafficProfile(String code, double hotRatio, Map<OperationType, Integer> weights) {
+        this.code = code;
+        this.hotRatio = hotRatio;
+        // 같은 seed 로 같은 요청 순서가 나오도록 가중치 순회 순서를 enum 순서로 고정한다.
+        Map<OperationType, Integer> ordered = new LinkedHashMap<>();
+        for (OperationType type : OperationType.values()) {
+            if (weights.containsKey(type)) {
+                ordered.put(type, weights.get(type));
+            }
+        }
+        this.weights = ordered;
+        this.totalWeight = ordered.values().stream().mapToInt(Integer::intValue).sum();
+    }
+
+    public OperationType pick(SplittableRandom random) {
+        int point = random.nextInt(totalWeight);
+        for (Map.Entry<OperationType, Integer> entry : weights.entrySet()) {
+            point -= entry.getValue();
+            if (point < 0) {
+                return entry.getKey();
+            }
+        }
+        throw new IllegalStateException("가중치 합계가 올바르지 않습니다.");
+    }
+
+    public static TrafficProfile from(String code) {
+        return Arrays.stream(values())
+                .filter(profile -> profile.code.equalsIgnoreCase(code))
+                .findFirst()
+                .orElseThrow(() -> new IllegalArgumentException("지원하지 않는 프로파일입니다: " + code));
+    }
+}
@@ -0,0 +1,70 @@
+package com.loopers.domain.outbox;
+
+import com.loopers.domain.BaseEntity;
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.ZonedDateTime;
+import java.util.UUID;
+
+/**
+ * 도메인 변경과 같은 트랜잭션에 기록되는 발행 대기 이벤트. 릴레이가 id 순서대로 Kafka 에 발행한 뒤 published_at 을 채운다.
+ * 발행 중인 이벤트는 claimed_until 까지 한 릴레이가 점유하며, 점유가 만료되면 다른 릴레이가 다시 가져갈 수 있다.
+ * aggregateKey 는 Kafka 메시지 키로 사용되어, 같은 키의 이벤트는 같은 파티션에 기록 순서대로 쌓인다.
+ */
+@Entity
+@Getter
+@Table(name = "outbox", uniqueConstraints = {
+        @UniqueConstraint(name = "uk_outbox_event_id", columnNames = "event_id")
+}, indexes = {
+        @Index(name = "idx_outbox_published_id", columnList = "published_at, id")
+})
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class OutboxEvent extends BaseEntity {
+
+    @Column(name = "event_id", nullable = false, length = 36)
+    private String eventId;
+
+    @Column(name = "topic", nullable = false, length = 100)
+    private String topic;
+
+    @Column(name = "aggregate_key", nullable = false, length = 100)
+    private String aggregateKey;
+
+    @Column(name = "event_type", nullable = false, length = 50)
+    private String eventType;
+
+    @Column(name = "payload", nullable = false, columnDefinition = "TEXT")
+    private String payload;
+
+    @Column(name = "published_at")
+    private ZonedDateTime publishedAt;
+
+    @Column(name = "claimed_by", length = 36)
+    private String claimedBy;
+
+    @Column(name = "claimed_until")
+    private ZonedDateTime claimedUntil;
+
+    private OutboxEvent(String topic, String aggregateKey, String eventType, String payload) {
+        this.eventId = UUID.randomUUID().toString();
+        this.topic = topic;
+        this.aggregateKey = aggregateKey;
+        this.eventType = eventType;
+        this.payload = payload;
+    }
+
+    public static OutboxEvent create(String topic, String aggregateKey, String eventType, String payload) {
+        return new OutboxEvent(topic, aggregateKey, eventType, payload);
+    }
+
+    public boolean isClaimedAt(ZonedDateTime now) {
+        return claimedUntil != null && claimedUntil.isAfter(now);
+    }
+}
@@ -0,0 +1,14 @@
+package com.loopers.domain.outbox;
+
+import java.time.ZonedDateTime;
+import java.util.Collection;
+import java.util.List;
+
+public interface OutboxEventRepository {
+    OutboxEvent save(OutboxEvent event);
+    List<OutboxEvent> findUnpublishedForUpdate(int limit); // id 순, 점유 중인 이벤트 포함. 점유 트랜잭션 안에서만 호출한다
+    int claim(Collection<Long> ids, String claimedBy, ZonedDateTime claimedUntil);
+    int releaseClaim(Collection<Long> ids, String claimedBy); // 발행하지 못한 이벤트의 점유를 풀어 다음 실행에서 다시 가져가게 한다
+    int markPublished(Collection<Long> ids);
+    int deletePublishedBefore(ZonedDateTime before, int limit); // 발행 완료 이벤트 정리
+}
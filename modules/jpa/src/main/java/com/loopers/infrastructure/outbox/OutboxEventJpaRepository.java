@@ -0,0 +1,41 @@
+package com.loopers.infrastructure.outbox;
+
+import com.loopers.domain.outbox.OutboxEvent;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.ZonedDateTime;
+import java.util.Collection;
+import java.util.List;
+
+public interface OutboxEventJpaRepository extends JpaRepository<OutboxEvent, Long> {
+
+    // SKIP LOCKED 를 쓰면 앞선 이벤트가 보이지 않아 같은 키의 이후 이벤트를 가져갈 수 있으므로, 짧은 점유 트랜잭션끼리는 커밋을 기다린다.
+    @Query(value = "SELECT * FROM outbox WHERE published_at IS NULL ORDER BY id LIMIT :limit FOR UPDATE",
+            nativeQuery = true)
+    List<OutboxEvent> findUnpublishedForUpdate(@Param("limit") int limit);
+
+    @Modifying
+    @Query(value = "UPDATE outbox SET claimed_by = :claimedBy, claimed_until = :claimedUntil WHERE id IN :ids",
+            nativeQuery = true)
+    int claim(@Param("ids") Collection<Long> ids,
+              @Param("claimedBy") String claimedBy,
+              @Param("claimedUntil") ZonedDateTime claimedUntil);
+
+    @Modifying
+    @Query(value = "UPDATE outbox SET claimed_by = NULL, claimed_until = NULL WHERE id IN :ids AND claimed_by = :claimedBy",
+            nativeQuery = true)
+    int releaseClaim(@Param("ids") Collection<Long> ids, @Param("claimedBy") String claimedBy);
+
+    @Modifying
+    @Query(value = "UPDATE outbox SET published_at = UTC_TIMESTAMP(6), updated_at = UTC_TIMESTAMP(6) WHERE id IN :ids",
+            nativeQuery = true)
+    int markPublished(@Param("ids") Collection<Long> ids);
+
+    @Modifying
+    @Query(value = "DELETE FROM outbox WHERE published_at < :before ORDER BY published_at LIMIT :limit",
+            nativeQuery = true)
+    int deletePublishedBefore(@Param("before") ZonedDateTime before, @Param("limit") int limit);
+}
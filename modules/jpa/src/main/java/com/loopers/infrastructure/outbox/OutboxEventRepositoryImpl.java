@@ -0,0 +1,56 @@
+package com.loopers.infrastructure.outbox;
+
+import com.loopers.domain.outbox.OutboxEvent;
+import com.loopers.domain.outbox.OutboxEventRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Repository;
+
+import java.time.ZonedDateTime;
+import java.util.Collection;
+import java.util.List;
+
+@Repository
+@RequiredArgsConstructor
+public class OutboxEventRepositoryImpl implements OutboxEventRepository {
+
+    private final OutboxEventJpaRepository jpaRepository;
+
+    @Override
+    public OutboxEvent save(OutboxEvent event) {
+        return jpaRepository.save(event);
+    }
+
+    @Override
+    public List<OutboxEvent> findUnpublishedForUpdate(int limit) {
+        return jpaRepository.findUnpublishedForUpdate(limit);
+    }
+
+    @Override
+    public int claim(Collection<Long> ids, String claimedBy, ZonedDateTime claimedUntil) {
+        if (ids.isEmpty()) {
+            return 0;
+        }
+        return jpaRepository.claim(ids, claimedBy, claimedUntil);
+    }
+
+    @Override
+    public int releaseClaim(Collection<Long> ids, String claimedBy) {
+        if (ids.isEmpty()) {
+            return 0;
+        }
+        return jpaRepository.releaseClaim(ids, claimedBy);
+    }
+
+    @Override
+    public int markPublished(Collection<Long> ids) {
+        if (ids.isEmpty()) {
+            return 0;
+        }
+        return jpaRepository.markPublished(ids);
+    }
+
+    @Override
+    public int deletePublishedBefore(ZonedDateTime before, int limit) {
+        return jpaRepository.deletePublishedBefore(before, limit);
+    }
+}
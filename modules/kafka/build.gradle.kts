@@ -5,6 +5,9 @@ plugins {
 
 dependencies {
     api("org.springframework.kafka:spring-kafka")
+    implementation("org.springframework:spring-jdbc")
+    implementation("io.micrometer:micrometer-core")
+    compileOnly("jakarta.persistence:jakarta.persistence-api")
 
     testImplementation("org.springframework.kafka:spring-kafka-test")
     testImplementation("org.testcontainers:kafka")
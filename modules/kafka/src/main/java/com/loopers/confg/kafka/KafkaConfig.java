@@ -1,7 +1,12 @@
 package com.loopers.confg.kafka;
 
+import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.loopers.support.kafka.BatchBisector;
 import org.apache.kafka.clients.consumer.ConsumerConfig;
+import org.apache.kafka.common.TopicPartition;
+import org.apache.kafka.common.serialization.ByteArraySerializer;
+import org.apache.kafka.common.serialization.StringSerializer;
 import org.springframework.boot.autoconfigure.kafka.KafkaProperties;
 import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.context.annotation.Bean;
@@ -9,7 +14,11 @@ import org.springframework.context.annotation.Configuration;
 import org.springframework.kafka.annotation.EnableKafka;
 import org.springframework.kafka.config.ConcurrentKafkaListenerContainerFactory;
 import org.springframework.kafka.core.*;
+import org.springframework.kafka.listener.ConsumerAwareRecordRecoverer;
 import org.springframework.kafka.listener.ContainerProperties;
+import org.springframework.kafka.listener.DeadLetterPublishingRecoverer;
+import org.springframework.kafka.listener.DefaultErrorHandler;
+import org.springframework.kafka.support.ExponentialBackOffWithMaxRetries;
 import org.springframework.kafka.support.converter.BatchMessagingMessageConverter;
 import org.springframework.kafka.support.converter.ByteArrayJsonMessageConverter;
 
@@ -29,6 +38,12 @@ public class KafkaConfig {
     public static final int HEARTBEAT_INTERVAL_MS = 20 * 1000; // heartbeat interval = 20s ( 1/3 of session_timeout )
     public static final int MAX_POLL_INTERVAL_MS = 2 * 60 * 1000; // max poll interval = 2m
 
+    public static final String DLT_SUFFIX = ".DLT";
+    public static final int RETRY_MAX_ATTEMPTS = 3; // 1s -> 2s -> 4s, max poll interval 안에서 끝난다
+    public static final long RETRY_INITIAL_INTERVAL_MS = 1000;
+    public static final double RETRY_MULTIPLIER = 2.0;
+    public static final long RETRY_MAX_INTERVAL_MS = 10 * 1000;
+
     @Bean
     public ProducerFactory<Object, Object> producerFactory(KafkaProperties kafkaProperties) {
         Map<String, Object> props = new HashMap<>(kafkaProperties.buildProducerProperties());
@@ -51,10 +66,49 @@ public class KafkaConfig {
         return new ByteArrayJsonMessageConverter(objectMapper);
     }
 
+    /**
+     * 재시도를 다 소진한 레코드를 {topic}.DLT 로 보낸다. 원본 값(byte[])과 헤더를 그대로 옮기고 원본 위치/예외 정보 헤더를 덧붙인다.
+     */
+    @Bean
+    public DefaultErrorHandler batchErrorHandler(KafkaProperties kafkaProperties) {
+        Map<String, Object> producerConfig = new HashMap<>(kafkaProperties.buildProducerProperties());
+        KafkaTemplate<String, byte[]> dltTemplate = new KafkaTemplate<>(
+                new DefaultKafkaProducerFactory<>(producerConfig, new StringSerializer(), new ByteArraySerializer())
+        );
+        DeadLetterPublishingRecoverer recoverer = new DeadLetterPublishingRecoverer(
+                dltTemplate,
+                (record, exception) -> new TopicPartition(record.topic() + DLT_SUFFIX, -1) // DLT 파티션 수와 무관하게 키 기준 배정
+        );
+        return createBatchErrorHandler(recoverer);
+    }
+
+    /**
+     * DB 연결 실패처럼 일시적인 장애로 재시도를 소진한 경우에는 정상 레코드일 수 있으므로 DLT 로 보내지 않는다.
+     * 복구가 실패하면 에러 핸들러가 배치를 되감으므로, 장애가 풀릴 때까지 백오프를 반복하며 다시 처리한다.
+     */
+    static DefaultErrorHandler createBatchErrorHandler(ConsumerAwareRecordRecoverer deadLetterRecoverer) {
+        ConsumerAwareRecordRecoverer recoverer = (record, consumer, exception) -> {
+            if (BatchBisector.isTransient(exception)) {
+                throw new IllegalStateException("일시적인 장애로 실패한 레코드는 DLT 로 보내지 않고 다시 처리합니다.", exception);
+            }
+            deadLetterRecoverer.accept(record, consumer, exception);
+        };
+
+        ExponentialBackOffWithMaxRetries backOff = new ExponentialBackOffWithMaxRetries(RETRY_MAX_ATTEMPTS);
+        backOff.setInitialInterval(RETRY_INITIAL_INTERVAL_MS);
+        backOff.setMultiplier(RETRY_MULTIPLIER);
+        backOff.setMaxInterval(RETRY_MAX_INTERVAL_MS);
+
+        DefaultErrorHandler errorHandler = new DefaultErrorHandler(recoverer, backOff);
+        errorHandler.addNotRetryableExceptions(JsonProcessingException.class); // 역직렬화 실패는 재시도해도 같다
+        return errorHandler;
+    }
+
     @Bean(name = BATCH_LISTENER)
     public ConcurrentKafkaListenerContainerFactory<Object, Object> defaultBatchListenerContainerFactory(
             KafkaProperties kafkaProperties,
-            ByteArrayJsonMessageConverter converter
+            ByteArrayJsonMessageConverter converter,
+            DefaultErrorHandler batchErrorHandler
     ) {
         Map<String, Object> consumerConfig = new HashMap<>(kafkaProperties.buildConsumerProperties());
         consumerConfig.put(ConsumerConfig.MAX_POLL_RECORDS_CONFIG, MAX_POLLING_SIZE);
@@ -70,6 +124,7 @@ public class KafkaConfig {
         factory.setBatchMessageConverter(new BatchMessagingMessageConverter(converter));
         factory.setConcurrency(3);
         factory.setBatchListener(true);
+        factory.setCommonErrorHandler(batchErrorHandler); // BatchListenerFailedException 의 레코드부터 재시도, 소진 시 DLT
         return factory;
     }
 }
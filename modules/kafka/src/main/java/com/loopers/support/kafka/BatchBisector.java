@@ -0,0 +1,74 @@
+package com.loopers.support.kafka;
+
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.common.errors.RetriableException;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.dao.RecoverableDataAccessException;
+import org.springframework.dao.TransientDataAccessException;
+import org.springframework.kafka.listener.BatchListenerFailedException;
+import org.springframework.transaction.CannotCreateTransactionException;
+
+import java.sql.SQLRecoverableException;
+import java.sql.SQLTransientException;
+import java.util.List;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Consumer;
+
+/**
+ * 배치 처리가 실패하면 배치를 반씩 나눠 다시 처리하면서 실패 원인이 된 레코드를 찾아낸다.
+ * <p>
+ * 실패 레코드 앞쪽은 처리가 끝난 상태로 두고 {@link BatchListenerFailedException} 을 던지므로, 에러 핸들러는
+ * 그 레코드부터만 재시도/DLT 처리하고 나머지 정상 레코드는 이어서 처리된다. handler 는 호출 단위로 원자적이어야 한다.
+ * DB 연결 실패나 타임아웃처럼 레코드와 무관한 장애는 나눠도 특정 레코드의 문제가 아니므로, 나누지 않고 그대로 던져 배치 전체를 다시 시도하게 한다.
+ */
+public final class BatchBisector {
+
+    private BatchBisector() {
+    }
+
+    public static <K, V> void process(List<ConsumerRecord<K, V>> records, Consumer<List<ConsumerRecord<K, V>>> handler) {
+        if (records.isEmpty()) {
+            return;
+        }
+        try {
+            handler.accept(records);
+        } catch (RuntimeException e) {
+            if (isTransient(e)) {
+                throw e;
+            }
+            bisect(records, handler, e);
+        }
+    }
+
+    /**
+     * 예외나 그 원인 중에 인프라의 일시적인 장애로 볼 수 있는 것이 있는지 확인한다.
+     */
+    public static boolean isTransient(Throwable throwable) {
+        for (Throwable cause = throwable; cause != null; cause = cause.getCause()) {
+            if (cause instanceof TransientDataAccessException
+                    || cause instanceof RecoverableDataAccessException
+                    || cause instanceof DataAccessResourceFailureException
+                    || cause instanceof CannotCreateTransactionException
+                    || cause instanceof SQLTransientException
+                    || cause instanceof SQLRecoverableException
+                    || cause instanceof RetriableException
+                    || cause instanceof TimeoutException) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static <K, V> void bisect(
+            List<ConsumerRecord<K, V>> records,
+            Consumer<List<ConsumerRecord<K, V>>> handler,
+            RuntimeException cause
+    ) {
+        if (records.size() == 1) {
+            throw new BatchListenerFailedException("배치 처리 중 실패한 레코드입니다.", cause, records.get(0));
+        }
+        int mid = records.size() / 2;
+        process(records.subList(0, mid), handler);
+        process(records.subList(mid, records.size()), handler);
+    }
+}
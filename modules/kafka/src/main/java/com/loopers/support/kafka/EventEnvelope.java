@@ -0,0 +1,19 @@
+package com.loopers.support.kafka;
+
+import com.fasterxml.jackson.databind.JsonNode;
+
+import java.time.ZonedDateTime;
+
+/**
+ * outbox 이벤트를 Kafka 로 보낼 때의 메시지 형식. 소비자는 eventId 로 중복 수신을 걸러낸다.
+ *
+ * @param aggregateKey 메시지 키와 같은 값으로, 같은 키의 이벤트는 발행 순서대로 소비된다.
+ */
+public record EventEnvelope(
+        String eventId,
+        String eventType,
+        String aggregateKey,
+        ZonedDateTime occurredAt,
+        JsonNode payload
+) {
+}
@@ -0,0 +1,14 @@
+package com.loopers.support.kafka;
+
+/**
+ * commerce-api 가 outbox 를 통해 발행하고 commerce-streamer 가 구독하는 토픽.
+ */
+public final class KafkaTopics {
+
+    public static final String CATALOG_EVENTS = "catalog-events-v1"; // key: productId
+    public static final String ORDER_EVENTS = "order-events-v1"; // key: orderId
+    public static final String POINT_EVENTS = "point-events-v1"; // key: userId
+
+    private KafkaTopics() {
+    }
+}
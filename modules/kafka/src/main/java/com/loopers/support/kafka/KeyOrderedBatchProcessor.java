@@ -0,0 +1,127 @@
+package com.loopers.support.kafka;
+
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.springframework.kafka.listener.BatchListenerFailedException;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.function.Consumer;
+
+/**
+ * poll 한 배치를 레코드 키별로 나눠 가상 스레드에서 동시에 처리한다. 같은 키의 레코드는 한 스레드에서 오프셋 순서대로 처리된다.
+ * <p>
+ * {@link #process} 는 모든 키 그룹이 끝난 뒤에 반환하므로, 호출한 리스너는 반환 이후에 ack 하면 된다.
+ * 실패한 그룹은 그 지점에서 멈추고, 실패한 레코드 중 배치에서 가장 앞선 레코드로 {@link BatchListenerFailedException} 을 던진다.
+ * 그 레코드 앞쪽은 모두 처리된 상태이고 뒤쪽은 다시 전달되므로, handler 는 멱등이어야 한다.
+ * <p>
+ * 키 그룹을 한 번에 반영하려면 {@link #processGroups} 를 쓴다. 그룹 handler 가 {@link BatchListenerFailedException} 으로
+ * 실패 레코드를 알려주면 그 레코드에서, 그 외 예외는 그룹의 첫 레코드에서 멈춘 것으로 본다.
+ */
+@Component
+public class KeyOrderedBatchProcessor {
+
+    // 인스턴스 전체에서 동시에 처리하는 키 그룹 수. DB 커넥션 풀(40)을 다른 작업과 나눠 쓸 수 있도록 제한한다.
+    public static final int MAX_CONCURRENT_GROUPS = 16;
+
+    private final Semaphore permits = new Semaphore(MAX_CONCURRENT_GROUPS);
+
+    public <K, V> void process(List<ConsumerRecord<K, V>> records, Consumer<ConsumerRecord<K, V>> handler) {
+        processGroups(records, group -> {
+            for (ConsumerRecord<K, V> record : group) {
+                try {
+                    handler.accept(record);
+                } catch (RuntimeException e) {
+                    // 같은 키의 뒤쪽 레코드는 순서를 지키기 위해 처리하지 않는다.
+                    throw new BatchListenerFailedException("키 그룹 처리 중 실패한 레코드입니다.", e, record);
+                }
+            }
+        });
+    }
+
+    public <K, V> void processGroups(List<ConsumerRecord<K, V>> records, Consumer<List<ConsumerRecord<K, V>>> groupHandler) {
+        if (records.isEmpty()) {
+            return;
+        }
+        Map<Object, List<ConsumerRecord<K, V>>> groups = groupByKey(records);
+        Map<ConsumerRecord<K, V>, RuntimeException> failures = new ConcurrentHashMap<>();
+
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (List<ConsumerRecord<K, V>> group : groups.values()) {
+                executor.submit(() -> processGroup(group, groupHandler, failures));
+            }
+        } // close() 는 모든 그룹이 끝날 때까지 기다린다.
+
+        if (!failures.isEmpty()) {
+            throw firstFailure(records, failures);
+        }
+    }
+
+    private <K, V> void processGroup(
+            List<ConsumerRecord<K, V>> group,
+            Consumer<List<ConsumerRecord<K, V>>> groupHandler,
+            Map<ConsumerRecord<K, V>, RuntimeException> failures
+    ) {
+        try {
+            permits.acquire();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            failures.put(group.get(0), new IllegalStateException("키 그룹 처리 대기 중 인터럽트되었습니다.", e));
+            return;
+        }
+        try {
+            groupHandler.accept(group);
+        } catch (BatchListenerFailedException e) {
+            ConsumerRecord<K, V> failed = findRecord(group, e.getRecord());
+            failures.put(failed, e.getCause() instanceof RuntimeException cause ? cause : e);
+        } catch (RuntimeException e) {
+            failures.put(group.get(0), e);
+        } finally {
+            permits.release();
+        }
+    }
+
+    // 실패 레코드가 그룹에 없으면 처리 위치를 알 수 없으므로 그룹의 첫 레코드부터 다시 전달받는다.
+    private static <K, V> ConsumerRecord<K, V> findRecord(List<ConsumerRecord<K, V>> group, ConsumerRecord<?, ?> failed) {
+        for (ConsumerRecord<K, V> record : group) {
+            if (record == failed) {
+                return record;
+            }
+        }
+        return group.get(0);
+    }
+
+    // 키가 없는 레코드는 파티션 순서를 지키도록 파티션별로 묶는다.
+    private static <K, V> Map<Object, List<ConsumerRecord<K, V>>> groupByKey(List<ConsumerRecord<K, V>> records) {
+        Map<Object, List<ConsumerRecord<K, V>>> groups = new LinkedHashMap<>();
+        for (ConsumerRecord<K, V> record : records) {
+            Object groupKey = record.key() != null
+                    ? record.key()
+                    : new NullKeyGroup(record.topic(), record.partition());
+            groups.computeIfAbsent(groupKey, ignored -> new ArrayList<>()).add(record);
+        }
+        return groups;
+    }
+
+    private static <K, V> BatchListenerFailedException firstFailure(
+            List<ConsumerRecord<K, V>> records,
+            Map<ConsumerRecord<K, V>, RuntimeException> failures
+    ) {
+        for (ConsumerRecord<K, V> record : records) {
+            RuntimeException cause = failures.get(record); // ConsumerRecord 는 동일성으로 비교된다.
+            if (cause != null) {
+                return new BatchListenerFailedException("키 그룹 처리 중 실패한 레코드입니다.", cause, record);
+            }
+        }
+        throw new IllegalStateException("실패한 레코드를 배치에서 찾을 수 없습니다.");
+    }
+
+    private record NullKeyGroup(String topic, int partition) {
+    }
+}
@@ -0,0 +1,48 @@
+package com.loopers.support.kafka.idempotency;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.IdClass;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import lombok.AccessLevel;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.io.Serializable;
+import java.time.ZonedDateTime;
+
+/**
+ * 컨슈머별로 처리 완료한 이벤트 id. 기록과 조회는 {@link EventHandledRepository} 가 JDBC 로 수행하며, 이 엔티티는 스키마 정의용이다.
+ * (consumer_name, event_id) 기본 키가 곧 중복 확인용 인덱스이고, handled_at 인덱스는 보존 기간이 지난 기록 정리에 쓴다.
+ */
+@Entity
+@Getter
+@Table(name = "event_handled", indexes = {
+        @Index(name = "idx_event_handled_handled_at", columnList = "handled_at")
+})
+@IdClass(EventHandled.Key.class)
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class EventHandled {
+
+    @Id
+    @Column(name = "consumer_name", nullable = false, length = 100)
+    private String consumerName;
+
+    @Id
+    @Column(name = "event_id", nullable = false, length = 36)
+    private String eventId;
+
+    @Column(name = "handled_at", nullable = false)
+    private ZonedDateTime handledAt;
+
+    @Getter
+    @EqualsAndHashCode
+    @NoArgsConstructor(access = AccessLevel.PROTECTED)
+    public static class Key implements Serializable {
+        private String consumerName;
+        private String eventId;
+    }
+}
@@ -0,0 +1,68 @@
+package com.loopers.support.kafka.idempotency;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * JdbcTemplate 은 진행 중인 JPA 트랜잭션의 커넥션을 그대로 사용하므로, 처리 기록이 부수 효과와 같은 트랜잭션에 묶인다.
+ */
+@Component
+@RequiredArgsConstructor
+public class EventHandledRepository {
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public Set<String> findHandled(String consumerName, Collection<String> eventIds) {
+        if (eventIds.isEmpty()) {
+            return Set.of();
+        }
+        String placeholders = String.join(", ", Collections.nCopies(eventIds.size(), "?"));
+        List<Object> args = new ArrayList<>(eventIds.size() + 1);
+        args.add(consumerName);
+        args.addAll(eventIds);
+        return new HashSet<>(jdbcTemplate.queryForList(
+                "SELECT event_id FROM event_handled WHERE consumer_name = ? AND event_id IN (" + placeholders + ")",
+                String.class,
+                args.toArray()
+        ));
+    }
+
+    /**
+     * 이미 기록된 id 가 있으면 DuplicateKeyException 이 발생한다.
+     */
+    public void insertAll(String consumerName, Collection<String> eventIds) {
+        if (eventIds.isEmpty()) {
+            return;
+        }
+        String values = String.join(", ", Collections.nCopies(eventIds.size(), "(?, ?, UTC_TIMESTAMP(6))"));
+        List<Object> args = new ArrayList<>(eventIds.size() * 2);
+        for (String eventId : eventIds) {
+            args.add(consumerName);
+            args.add(eventId);
+        }
+        jdbcTemplate.update(
+                "INSERT INTO event_handled (consumer_name, event_id, handled_at) VALUES " + values,
+                args.toArray()
+        );
+    }
+
+    /**
+     * handled_at 이 retention 보다 오래된 기록을 오래된 순으로 최대 limit 건 지운다.
+     */
+    public int deleteOlderThan(Duration retention, int limit) {
+        return jdbcTemplate.update(
+                "DELETE FROM event_handled WHERE handled_at < UTC_TIMESTAMP(6) - INTERVAL ? SECOND ORDER BY handled_at LIMIT ?",
+                retention.toSeconds(),
+                limit
+        );
+    }
+}
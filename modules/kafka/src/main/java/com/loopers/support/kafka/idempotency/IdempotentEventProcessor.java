@@ -0,0 +1,118 @@
+package com.loopers.support.kafka.idempotency;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.InstantSource;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+/**
+ * at-least-once 로 전달되는 이벤트 배치를 컨슈머별로 한 번만 처리한다.
+ * <p>
+ * 처리 기록(event_handled)은 handler 의 부수 효과와 같은 트랜잭션에서 쓰이므로, 둘 중 하나만 반영되는 경우는 없다.
+ * 로컬 블룸 필터에 없는 id 는 DB 를 조회하지 않고 신규로 간주하고, 다른 인스턴스가 먼저 처리한 경우(리밸런싱 직후 재전달)는
+ * 기록 INSERT 의 키 충돌로 감지해 전체 조회 후 한 번 더 시도한다.
+ * 처리 기록은 {@link #RETENTION} 동안 보관하며, 블룸 필터도 세대 교체로 그보다 오래된 id 는 기억하지 않는다.
+ */
+@Slf4j
+@Component
+public class IdempotentEventProcessor {
+
+    public static final Duration RETENTION = Duration.ofDays(7); // 재전달/재처리가 일어날 수 있는 기간보다 길게 잡는다
+
+    private static final int BLOOM_CAPACITY = 200_000;
+    private static final double BLOOM_FALSE_POSITIVE_RATE = 0.01;
+
+    private final EventHandledRepository eventHandledRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final MeterRegistry meterRegistry;
+    private final Map<String, RotatingBloomFilter> filters = new ConcurrentHashMap<>();
+
+    public IdempotentEventProcessor(
+            EventHandledRepository eventHandledRepository,
+            TransactionTemplate transactionTemplate,
+            MeterRegistry meterRegistry
+    ) {
+        this.eventHandledRepository = eventHandledRepository;
+        this.transactionTemplate = transactionTemplate;
+        this.meterRegistry = meterRegistry;
+    }
+
+    public <T> void process(String consumerName, List<T> events, Function<T, String> idExtractor, Consumer<List<T>> handler) {
+        if (events.isEmpty()) {
+            return;
+        }
+        // 배치 안의 중복은 먼저 제거한다.
+        Map<String, T> unique = new LinkedHashMap<>();
+        for (T event : events) {
+            unique.putIfAbsent(idExtractor.apply(event), event);
+        }
+        counter(consumerName, "duplicate").increment(events.size() - unique.size());
+
+        RotatingBloomFilter filter = filters.computeIfAbsent(
+                consumerName, ignored -> new RotatingBloomFilter(
+                        BLOOM_CAPACITY, BLOOM_FALSE_POSITIVE_RATE, RETENTION.dividedBy(2), InstantSource.system()
+                )
+        );
+        List<String> suspects = unique.keySet().stream().filter(filter::mightContain).toList();
+        counter(consumerName, "bloom_skipped").increment(unique.size() - suspects.size());
+
+        List<String> handledIds;
+        try {
+            handledIds = handle(consumerName, unique, suspects, handler);
+        } catch (DuplicateKeyException e) {
+            log.info("다른 인스턴스가 처리한 이벤트가 포함되어 전체 확인 후 재처리합니다. consumer={}", consumerName);
+            handledIds = handle(consumerName, unique, List.copyOf(unique.keySet()), handler);
+        }
+        handledIds.forEach(filter::put);
+        counter(consumerName, "processed").increment(handledIds.size());
+        counter(consumerName, "duplicate").increment(unique.size() - handledIds.size());
+    }
+
+    /**
+     * 보존 기간이 지난 처리 기록을 최대 limit 건 지운다.
+     *
+     * @return 지운 건수
+     */
+    public int purgeExpired(int limit) {
+        return eventHandledRepository.deleteOlderThan(RETENTION, limit);
+    }
+
+    private <T> List<String> handle(String consumerName, Map<String, T> unique, List<String> suspects, Consumer<List<T>> handler) {
+        return transactionTemplate.execute(status -> {
+            Set<String> handled = eventHandledRepository.findHandled(consumerName, suspects);
+            List<String> newIds = new ArrayList<>(unique.size());
+            List<T> newEvents = new ArrayList<>(unique.size());
+            unique.forEach((id, event) -> {
+                if (!handled.contains(id)) {
+                    newIds.add(id);
+                    newEvents.add(event);
+                }
+            });
+            if (!newEvents.isEmpty()) {
+                handler.accept(newEvents);
+                eventHandledRepository.insertAll(consumerName, newIds);
+            }
+            return newIds;
+        });
+    }
+
+    private Counter counter(String consumerName, String result) {
+        return Counter.builder("kafka.consumer.events")
+                .tag("consumer", consumerName)
+                .tag("result", result)
+                .register(meterRegistry);
+    }
+}
@@ -0,0 +1,103 @@
+package com.loopers.support.kafka.idempotency;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.InstantSource;
+import java.util.BitSet;
+
+/**
+ * 최근 처리한 이벤트 id 를 담는 메모리 크기가 고정된 블룸 필터.
+ * <p>
+ * 현재 세대가 용량만큼 차거나 generationTtl 이 지나면 이전 세대를 버리고 새 세대를 시작하므로,
+ * 최근 capacity ~ 2 * capacity 건을 최대 2 * generationTtl 동안만 기억한다.
+ * {@link #mightContain} 이 false 이면 이 인스턴스에서 처리한 적이 없는 것이 확실하다.
+ */
+class RotatingBloomFilter {
+
+    private final int capacity;
+    private final int bitSize;
+    private final int hashCount;
+    private final Duration generationTtl;
+    private final InstantSource instantSource;
+
+    private BitSet current;
+    private BitSet previous;
+    private int currentSize;
+    private Instant currentStartedAt;
+
+    RotatingBloomFilter(int capacity, double falsePositiveRate, Duration generationTtl, InstantSource instantSource) {
+        this.capacity = capacity;
+        this.bitSize = (int) Math.ceil(-capacity * Math.log(falsePositiveRate) / (Math.log(2) * Math.log(2)));
+        this.hashCount = Math.max(1, (int) Math.round((double) bitSize / capacity * Math.log(2)));
+        this.generationTtl = generationTtl;
+        this.instantSource = instantSource;
+        this.current = new BitSet(bitSize);
+        this.previous = new BitSet(bitSize);
+        this.currentStartedAt = instantSource.instant();
+    }
+
+    synchronized boolean mightContain(String value) {
+        rotateIfExpired();
+        long hash = hash(value);
+        return contains(current, hash) || contains(previous, hash);
+    }
+
+    synchronized void put(String value) {
+        rotateIfExpired();
+        if (currentSize >= capacity) {
+            rotate();
+        }
+        long hash = hash(value);
+        int h1 = (int) hash;
+        int h2 = (int) (hash >>> 32);
+        for (int i = 0; i < hashCount; i++) {
+            current.set(index(h1, h2, i));
+        }
+        currentSize++;
+    }
+
+    private void rotateIfExpired() {
+        Duration age = Duration.between(currentStartedAt, instantSource.instant());
+        if (age.compareTo(generationTtl.multipliedBy(2)) >= 0) {
+            // 두 세대가 모두 만료되었으면 이전 세대도 남기지 않는다.
+            rotate();
+            rotate();
+        } else if (age.compareTo(generationTtl) >= 0) {
+            rotate();
+        }
+    }
+
+    private void rotate() {
+        previous = current;
+        current = new BitSet(bitSize);
+        currentSize = 0;
+        currentStartedAt = instantSource.instant();
+    }
+
+    private boolean contains(BitSet bits, long hash) {
+        int h1 = (int) hash;
+        int h2 = (int) (hash >>> 32);
+        for (int i = 0; i < hashCount; i++) {
+            if (!bits.get(index(h1, h2, i))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    // Kirsch-Mitzenmacher: 두 해시의 선형 결합으로 k 개의 해시를 만든다.
+    private int index(int h1, int h2, int i) {
+        return Math.floorMod(h1 + i * h2, bitSize);
+    }
+
+    // FNV-1a 64bit
+    private static long hash(String value) {
+        long hash = 0xcbf29ce484222325L;
+        for (byte b : value.getBytes(StandardCharsets.UTF_8)) {
+            hash ^= b;
+            hash *= 0x100000001b3L;
+        }
+        return hash;
+    }
+}
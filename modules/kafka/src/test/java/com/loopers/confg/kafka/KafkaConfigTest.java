@@ -0,0 +1,109 @@
+package com.loopers.confg.kafka;
+
+import com.fasterxml.jackson.core.JsonParseException;
+import org.apache.kafka.clients.consumer.Consumer;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.clients.consumer.ConsumerRecords;
+import org.apache.kafka.clients.consumer.OffsetAndMetadata;
+import org.apache.kafka.common.TopicPartition;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.kafka.listener.BatchListenerFailedException;
+import org.springframework.kafka.listener.ContainerProperties;
+import org.springframework.kafka.listener.DefaultErrorHandler;
+import org.springframework.kafka.listener.MessageListenerContainer;
+import org.springframework.transaction.CannotCreateTransactionException;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.LongStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.catchThrowable;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+class KafkaConfigTest {
+
+    private static final String TOPIC = "order-events";
+    private static final TopicPartition PARTITION = new TopicPartition(TOPIC, 0);
+
+    private final List<ConsumerRecord<?, ?>> deadLettered = Collections.synchronizedList(new ArrayList<>());
+    private final DefaultErrorHandler errorHandler = KafkaConfig.createBatchErrorHandler(
+            (record, consumer, exception) -> deadLettered.add(record)
+    );
+
+    private List<ConsumerRecord<String, String>> records;
+    private Consumer<?, ?> consumer;
+    private MessageListenerContainer container;
+
+    @BeforeEach
+    void setUp() {
+        records = LongStream.range(0, 3)
+                .mapToObj(offset -> new ConsumerRecord<>(TOPIC, 0, offset, "key-" + offset, "value-" + offset))
+                .toList();
+        consumer = mock(Consumer.class);
+        container = mock(MessageListenerContainer.class);
+        when(container.getContainerProperties()).thenReturn(new ContainerProperties(TOPIC));
+    }
+
+    @DisplayName("레코드 처리가 실패하면 앞쪽 오프셋만 커밋하고, 실패 레코드부터 다시 읽도록 되돌린다.")
+    @Test
+    void seeksToFailedRecord_andCommitsBefore() {
+        // act
+        handle(new IllegalStateException("처리 실패"));
+
+        // assert
+        verify(consumer).commitSync(eq(Map.of(PARTITION, new OffsetAndMetadata(1L))), any());
+        verify(consumer).seek(PARTITION, 1L);
+        assertThat(deadLettered).isEmpty();
+    }
+
+    @DisplayName("재시도를 모두 소진하면 실패 레코드만 DLT 로 보낸다.")
+    @Test
+    void deadLetters_afterRetriesExhausted() {
+        // act
+        for (int attempt = 0; attempt <= KafkaConfig.RETRY_MAX_ATTEMPTS; attempt++) {
+            handle(new IllegalStateException("처리 실패"));
+        }
+
+        // assert
+        assertThat(deadLettered).containsExactly(records.get(1));
+    }
+
+    @DisplayName("역직렬화 실패는 재시도하지 않고 바로 DLT 로 보낸다.")
+    @Test
+    void deadLettersImmediately_whenNotRetryable() {
+        // act
+        handle(new JsonParseException(null, "깨진 메시지"));
+
+        // assert
+        assertThat(deadLettered).containsExactly(records.get(1));
+        verify(consumer).seek(PARTITION, 2L);
+    }
+
+    @DisplayName("일시적인 장애는 재시도를 소진해도 DLT 로 보내지 않고, 실패 레코드부터 다시 읽는다.")
+    @Test
+    void neverDeadLetters_transientFailure() {
+        // act
+        for (int attempt = 0; attempt <= KafkaConfig.RETRY_MAX_ATTEMPTS; attempt++) {
+            handle(new CannotCreateTransactionException("DB 연결 실패"));
+        }
+
+        // assert
+        assertThat(deadLettered).isEmpty();
+        verify(consumer, times(KafkaConfig.RETRY_MAX_ATTEMPTS + 1)).seek(PARTITION, 1L);
+    }
+
+    private void handle(Exception cause) {
+        BatchListenerFailedException failure = new BatchListenerFailedException("처리 실패", cause, records.get(1));
+        catchThrowable(() -> errorHandler.handleBatch(
+                failure, new ConsumerRecords<>(Map.of(PARTITION, records)), consumer, container, () -> {
+                }
+        ));
+    }
+}
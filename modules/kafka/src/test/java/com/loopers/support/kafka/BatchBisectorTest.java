@@ -0,0 +1,96 @@
+package com.loopers.support.kafka;
+
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.kafka.listener.BatchListenerFailedException;
+import org.springframework.transaction.CannotCreateTransactionException;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.LongStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.catchThrowable;
+
+class BatchBisectorTest {
+
+    private static final String TOPIC = "order-events";
+
+    @DisplayName("레코드 하나 때문에 배치가 실패하면, 그 레코드 앞쪽만 처리한 상태로 그 레코드를 지목하는 예외를 던진다.")
+    @Test
+    void findsFailedRecord() {
+        // arrange
+        List<ConsumerRecord<String, String>> records = records(10);
+        List<Long> processed = new ArrayList<>();
+
+        // act
+        Throwable thrown = catchThrowable(() -> BatchBisector.process(records, batch -> {
+            if (batch.stream().anyMatch(record -> record.offset() == 5)) {
+                throw new IllegalArgumentException("처리할 수 없는 레코드");
+            }
+            batch.forEach(record -> processed.add(record.offset()));
+        }));
+
+        // assert
+        assertThat(thrown).isInstanceOf(BatchListenerFailedException.class);
+        assertThat(((BatchListenerFailedException) thrown).getRecord()).isSameAs(records.get(5));
+        assertThat(processed).containsExactly(0L, 1L, 2L, 3L, 4L);
+    }
+
+    @DisplayName("일시적인 장애로 실패하면 배치를 나누지 않고 예외를 그대로 던진다.")
+    @Test
+    void rethrowsTransientFailure_withoutBisecting() {
+        // arrange
+        List<ConsumerRecord<String, String>> records = records(10);
+        CannotCreateTransactionException failure = new CannotCreateTransactionException("DB 연결 실패");
+        AtomicInteger calls = new AtomicInteger();
+
+        // act
+        Throwable thrown = catchThrowable(() -> BatchBisector.process(records, batch -> {
+            calls.incrementAndGet();
+            throw failure;
+        }));
+
+        // assert
+        assertThat(thrown).isSameAs(failure);
+        assertThat(calls).hasValue(1);
+    }
+
+    @DisplayName("나누는 도중 일시적인 장애가 나면, 특정 레코드를 지목하지 않고 그 예외를 던진다.")
+    @Test
+    void rethrowsTransientFailure_duringBisection() {
+        // arrange
+        List<ConsumerRecord<String, String>> records = records(4);
+        AtomicInteger calls = new AtomicInteger();
+
+        // act
+        Throwable thrown = catchThrowable(() -> BatchBisector.process(records, batch -> {
+            if (calls.getAndIncrement() == 0) {
+                throw new IllegalArgumentException("처리할 수 없는 레코드");
+            }
+            throw new DataAccessResourceFailureException("DB 연결 끊김");
+        }));
+
+        // assert
+        assertThat(thrown)
+                .isInstanceOf(DataAccessResourceFailureException.class)
+                .isNotInstanceOf(BatchListenerFailedException.class);
+    }
+
+    @DisplayName("원인 체인에 일시적인 장애가 있으면 일시적인 장애로 판단한다.")
+    @Test
+    void detectsTransientCause() {
+        // act & assert
+        assertThat(BatchBisector.isTransient(new IllegalStateException(new CannotCreateTransactionException("DB 연결 실패")))).isTrue();
+        assertThat(BatchBisector.isTransient(new IllegalStateException("잘못된 값"))).isFalse();
+    }
+
+    private static List<ConsumerRecord<String, String>> records(int size) {
+        return LongStream.range(0, size)
+                .mapToObj(offset -> new ConsumerRecord<>(TOPIC, 0, offset, "key-" + offset, "value-" + offset))
+                .toList();
+    }
+}
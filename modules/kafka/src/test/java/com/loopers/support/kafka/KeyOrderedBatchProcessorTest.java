@@ -0,0 +1,130 @@
+package com.loopers.support.kafka;
+
+import org.apache.kafka.clients.consumer.Consumer;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.clients.consumer.ConsumerRecords;
+import org.apache.kafka.clients.consumer.OffsetAndMetadata;
+import org.apache.kafka.common.TopicPartition;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.kafka.KafkaException;
+import org.springframework.kafka.listener.BatchListenerFailedException;
+import org.springframework.kafka.listener.ContainerProperties;
+import org.springframework.kafka.listener.DefaultErrorHandler;
+import org.springframework.kafka.listener.MessageListenerContainer;
+import org.springframework.util.backoff.FixedBackOff;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.catchThrowable;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+class KeyOrderedBatchProcessorTest {
+
+    private static final String TOPIC = "catalog-events";
+    private static final TopicPartition PARTITION = new TopicPartition(TOPIC, 0);
+
+    private final KeyOrderedBatchProcessor processor = new KeyOrderedBatchProcessor();
+
+    @DisplayName("같은 키의 레코드는 오프셋 순서대로 처리되고, 모든 레코드가 처리된 뒤에 반환한다.")
+    @Test
+    void keepsOrderWithinKey() {
+        // arrange
+        List<ConsumerRecord<String, String>> records = new ArrayList<>();
+        for (int offset = 0; offset < 300; offset++) {
+            records.add(record(offset, "key-" + (offset % 7)));
+        }
+        Map<String, List<Long>> processed = new ConcurrentHashMap<>();
+
+        // act
+        processor.process(records, record -> {
+            sleepRandomly();
+            processed.computeIfAbsent(record.key(), ignored -> Collections.synchronizedList(new ArrayList<>()))
+                    .add(record.offset());
+        });
+
+        // assert
+        assertThat(processed).hasSize(7);
+        assertThat(processed.values()).allSatisfy(offsets -> assertThat(offsets).isSorted());
+        assertThat(processed.values().stream().mapToInt(List::size).sum()).isEqualTo(300);
+    }
+
+    @DisplayName("한 키가 실패하면 그 키의 이후 레코드는 처리하지 않고, 배치에서 가장 앞선 실패 레코드로 예외를 던진다.")
+    @Test
+    void stopsFailedKey_andReportsEarliestFailure() {
+        // arrange
+        List<ConsumerRecord<String, String>> records = List.of(
+                record(0, "a"), record(1, "b"), record(2, "a"), record(3, "a"), record(4, "b"), record(5, "c")
+        );
+        List<Long> processed = Collections.synchronizedList(new ArrayList<>());
+        AtomicBoolean acknowledged = new AtomicBoolean();
+
+        // act
+        Throwable thrown = catchThrowable(() -> {
+            processor.process(records, record -> {
+                if (record.offset() == 2 || record.offset() == 5) {
+                    throw new IllegalStateException("처리 실패 : " + record.offset());
+                }
+                processed.add(record.offset());
+            });
+            acknowledged.set(true);
+        });
+
+        // assert
+        assertThat(thrown).isInstanceOf(BatchListenerFailedException.class);
+        assertThat(((BatchListenerFailedException) thrown).getRecord()).isSameAs(records.get(2));
+        assertThat(processed).containsExactlyInAnyOrder(0L, 1L, 4L);
+        assertThat(acknowledged).isFalse();
+    }
+
+    @DisplayName("에러 핸들러는 실패 레코드 앞까지만 오프셋을 커밋하고, 실패 레코드부터 다시 읽도록 되돌린다.")
+    @Test
+    void errorHandlerCommitsOnlyBeforeFailedRecord() {
+        // arrange
+        List<ConsumerRecord<String, String>> records = List.of(
+                record(0, "a"), record(1, "b"), record(2, "a"), record(3, "b")
+        );
+        Throwable failure = catchThrowable(() -> processor.process(records, record -> {
+            if (record.offset() == 2) {
+                throw new IllegalStateException("처리 실패");
+            }
+        }));
+        Consumer<?, ?> consumer = mock(Consumer.class);
+        MessageListenerContainer container = mock(MessageListenerContainer.class);
+        when(container.getContainerProperties()).thenReturn(new ContainerProperties(TOPIC));
+        DefaultErrorHandler errorHandler = new DefaultErrorHandler(new FixedBackOff(0L, 3L));
+
+        // act
+        assertThatThrownBy(() -> errorHandler.handleBatch(
+                (Exception) failure, new ConsumerRecords<>(Map.of(PARTITION, records)), consumer, container, () -> {
+                }
+        )).isInstanceOf(KafkaException.class);
+
+        // assert
+        verify(consumer).commitSync(eq(Map.of(PARTITION, new OffsetAndMetadata(2L))), any());
+        verify(consumer).seek(PARTITION, 2L);
+        verify(consumer, never()).seek(PARTITION, 3L);
+    }
+
+    private static ConsumerRecord<String, String> record(long offset, String key) {
+        return new ConsumerRecord<>(TOPIC, 0, offset, key, "value-" + offset);
+    }
+
+    private static void sleepRandomly() {
+        try {
+            Thread.sleep(ThreadLocalRandom.current().nextInt(3));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,73 @@
+package com.loopers.support.kafka.idempotency;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.InstantSource;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class RotatingBloomFilterTest {
+
+    private static final Duration GENERATION_TTL = Duration.ofHours(1);
+
+    private final AtomicReference<Instant> now = new AtomicReference<>(Instant.parse("2025-01-01T00:00:00Z"));
+    private final InstantSource instantSource = now::get;
+
+    @DisplayName("넣은 값은 세대가 한 번 바뀐 뒤에도 포함된 것으로 판단한다.")
+    @Test
+    void remembersPreviousGeneration() {
+        // arrange
+        RotatingBloomFilter filter = new RotatingBloomFilter(100, 0.01, GENERATION_TTL, instantSource);
+        List<String> ids = ids("first", 100);
+        ids.forEach(filter::put);
+
+        // act
+        filter.put("next-generation");
+
+        // assert
+        assertThat(ids).allMatch(filter::mightContain);
+    }
+
+    @DisplayName("용량만큼 두 번 세대가 바뀌면 가장 오래된 세대의 값은 거의 남지 않는다.")
+    @Test
+    void forgetsOldestGeneration_byCapacity() {
+        // arrange
+        RotatingBloomFilter filter = new RotatingBloomFilter(1000, 0.01, GENERATION_TTL, instantSource);
+        List<String> oldest = ids("oldest", 1000);
+        oldest.forEach(filter::put);
+
+        // act
+        ids("second", 1000).forEach(filter::put);
+        ids("third", 1).forEach(filter::put);
+
+        // assert
+        long falsePositives = oldest.stream().filter(filter::mightContain).count();
+        assertThat(falsePositives).isLessThan(50);
+    }
+
+    @DisplayName("세대 유지 시간이 지나면 세대를 바꾸고, 두 배가 지나면 모든 값을 잊는다.")
+    @Test
+    void rotatesByTime() {
+        // arrange
+        RotatingBloomFilter filter = new RotatingBloomFilter(100, 0.01, GENERATION_TTL, instantSource);
+        List<String> ids = ids("timed", 10);
+        ids.forEach(filter::put);
+
+        // act & assert
+        now.set(now.get().plus(GENERATION_TTL));
+        assertThat(ids).allMatch(filter::mightContain);
+
+        now.set(now.get().plus(GENERATION_TTL));
+        assertThat(ids).noneMatch(filter::mightContain);
+    }
+
+    private static List<String> ids(String prefix, int size) {
+        return IntStream.range(0, size).mapToObj(i -> prefix + "-" + i).toList();
+    }
+}
@@ -5,6 +5,8 @@ plugins {
 
 dependencies {
     api("org.springframework.boot:spring-boot-starter-data-redis")
+    api("com.github.ben-manes.caffeine:caffeine")
+    implementation("io.micrometer:micrometer-core")
 
     testFixturesImplementation("com.redis:testcontainers-redis")
 }
@@ -0,0 +1,10 @@
+package com.loopers.support.cache;
+
+/**
+ * 노드 간 L1 무효화 메시지. origin 은 발행한 노드의 식별자로, 자기 자신이 보낸 메시지는 무시한다.
+ */
+record CacheInvalidationMessage(
+        String origin,
+        String cache,
+        String key
+) { }
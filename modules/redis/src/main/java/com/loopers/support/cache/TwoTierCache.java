@@ -0,0 +1,158 @@
+package com.loopers.support.cache;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.function.BiConsumer;
+import java.util.function.Supplier;
+
+/**
+ * 노드 로컬 Caffeine(L1) 과 Redis(L2) 로 구성된 2단 캐시.
+ * <p>
+ * 조회는 L1 → L2 → loader 순서로 진행되며, 같은 노드에서 동일 키에 대한 적재는 한 번만 일어난다.
+ * 제거는 L2 를 지운 뒤 pub/sub 으로 모든 노드의 L1 을 무효화한다. Redis 장애 시에는 L1 과 loader 만으로 동작한다.
+ */
+@Slf4j
+public class TwoTierCache<V> {
+
+    private final String name;
+    private final Class<V> type;
+    private final TwoTierCacheSpec spec;
+    private final Cache<String, V> local;
+    private final RedisTemplate<String, String> readTemplate;
+    private final RedisTemplate<String, String> writeTemplate;
+    private final ObjectMapper objectMapper;
+    private final BiConsumer<String, String> publisher;
+
+    private final Counter l2Hits;
+    private final Counter l2Misses;
+    private final Counter l2Puts;
+    private final Counter l2Evictions;
+
+    TwoTierCache(
+            String name,
+            Class<V> type,
+            TwoTierCacheSpec spec,
+            RedisTemplate<String, String> readTemplate,
+            RedisTemplate<String, String> writeTemplate,
+            ObjectMapper objectMapper,
+            MeterRegistry meterRegistry,
+            BiConsumer<String, String> publisher
+    ) {
+        this.name = name;
+        this.type = type;
+        this.spec = spec;
+        this.readTemplate = readTemplate;
+        this.writeTemplate = writeTemplate;
+        this.objectMapper = objectMapper;
+        this.publisher = publisher;
+        this.local = Caffeine.newBuilder()
+                .maximumSize(spec.maximumSize())
+                .expireAfterWrite(spec.l1Ttl())
+                .recordStats()
+                .build();
+
+        CaffeineCacheMetrics.monitor(meterRegistry, local, name, Tags.of("tier", "l1"));
+        Tags l2Tags = Tags.of("cache", name, "tier", "l2");
+        this.l2Hits = meterRegistry.counter("cache.gets", l2Tags.and("result", "hit"));
+        this.l2Misses = meterRegistry.counter("cache.gets", l2Tags.and("result", "miss"));
+        this.l2Puts = meterRegistry.counter("cache.puts", l2Tags);
+        this.l2Evictions = meterRegistry.counter("cache.evictions", l2Tags);
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * loader 가 null 을 반환하면 캐싱하지 않는다. loader 에서 발생한 예외는 그대로 전파된다.
+     */
+    public V get(Object key, Supplier<V> loader) {
+        return local.get(String.valueOf(key), k -> {
+            V cached = readRemote(k);
+            if (cached != null) {
+                return cached;
+            }
+            V loaded = loader.get();
+            if (loaded != null) {
+                writeRemote(k, loaded);
+            }
+            return loaded;
+        });
+    }
+
+    /**
+     * 트랜잭션 안에서 호출되면 커밋 이후에 제거하여, 커밋 전 데이터로 캐시가 다시 채워지는 것을 막는다.
+     */
+    public void evict(Object key) {
+        String k = String.valueOf(key);
+        runAfterCommit(() -> {
+            deleteRemote(k);
+            local.invalidate(k);
+            publisher.accept(name, k);
+        });
+    }
+
+    void invalidateLocal(String key) {
+        local.invalidate(key);
+    }
+
+    private V readRemote(String key) {
+        try {
+            String value = readTemplate.opsForValue().get(remoteKey(key));
+            if (value == null) {
+                l2Misses.increment();
+                return null;
+            }
+            l2Hits.increment();
+            return objectMapper.readValue(value, type);
+        } catch (Exception e) {
+            log.warn("L2 캐시 조회 실패 : cache={}, key={}", name, key, e);
+            return null;
+        }
+    }
+
+    private void writeRemote(String key, V value) {
+        try {
+            writeTemplate.opsForValue().set(remoteKey(key), objectMapper.writeValueAsString(value), spec.l2Ttl());
+            l2Puts.increment();
+        } catch (Exception e) {
+            log.warn("L2 캐시 저장 실패 : cache={}, key={}", name, key, e);
+        }
+    }
+
+    private void deleteRemote(String key) {
+        try {
+            writeTemplate.delete(remoteKey(key));
+            l2Evictions.increment();
+        } catch (Exception e) {
+            log.warn("L2 캐시 제거 실패 : cache={}, key={}", name, key, e);
+        }
+    }
+
+    private String remoteKey(String key) {
+        return "cache:" + name + ":" + key;
+    }
+
+    private static void runAfterCommit(Runnable action) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    action.run();
+                }
+            });
+            return;
+        }
+        action.run();
+    }
+}
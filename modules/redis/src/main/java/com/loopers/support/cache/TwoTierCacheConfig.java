@@ -0,0 +1,39 @@
+package com.loopers.support.cache;
+
+import com.loopers.config.redis.RedisNodeInfo;
+import com.loopers.config.redis.RedisProperties;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.redis.connection.RedisStandaloneConfiguration;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+
+@Configuration
+public class TwoTierCacheConfig {
+    private static final String CONNECTION_PUBSUB = "redisConnectionPubSub";
+
+    /**
+     * Master/Replica 구성의 Lettuce 커넥션은 pub/sub 을 지원하지 않으므로 구독 전용으로 master 에 직접 연결한다.
+     */
+    @Qualifier(CONNECTION_PUBSUB)
+    @Bean
+    public LettuceConnectionFactory pubSubRedisConnectionFactory(RedisProperties redisProperties) {
+        RedisNodeInfo master = redisProperties.master();
+        RedisStandaloneConfiguration config = new RedisStandaloneConfiguration(master.host(), master.port());
+        config.setDatabase(redisProperties.database());
+        return new LettuceConnectionFactory(config);
+    }
+
+    @Bean
+    public RedisMessageListenerContainer cacheInvalidationListenerContainer(
+            @Qualifier(CONNECTION_PUBSUB) LettuceConnectionFactory connectionFactory,
+            TwoTierCacheManager cacheManager
+    ) {
+        RedisMessageListenerContainer container = new RedisMessageListenerContainer();
+        container.setConnectionFactory(connectionFactory);
+        container.addMessageListener(cacheManager, new ChannelTopic(TwoTierCacheManager.INVALIDATION_CHANNEL));
+        return container;
+    }
+}
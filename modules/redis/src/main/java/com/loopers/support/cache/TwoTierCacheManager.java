@@ -0,0 +1,82 @@
+package com.loopers.support.cache;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.loopers.config.redis.RedisConfig;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * {@link TwoTierCache} 를 이름별로 생성하고, 다른 노드가 발행한 무효화 메시지를 받아 L1 에 반영한다.
+ */
+@Slf4j
+@Component
+public class TwoTierCacheManager implements MessageListener {
+
+    public static final String INVALIDATION_CHANNEL = "cache:invalidation";
+
+    private final String nodeId = UUID.randomUUID().toString();
+    private final Map<String, TwoTierCache<?>> caches = new ConcurrentHashMap<>();
+
+    private final RedisTemplate<String, String> readTemplate;
+    private final RedisTemplate<String, String> writeTemplate;
+    private final ObjectMapper objectMapper;
+    private final MeterRegistry meterRegistry;
+
+    public TwoTierCacheManager(
+            RedisTemplate<String, String> defaultRedisTemplate,
+            @Qualifier(RedisConfig.REDIS_TEMPLATE_MASTER) RedisTemplate<String, String> masterRedisTemplate,
+            ObjectMapper objectMapper,
+            MeterRegistry meterRegistry
+    ) {
+        this.readTemplate = defaultRedisTemplate;
+        this.writeTemplate = masterRedisTemplate;
+        this.objectMapper = objectMapper;
+        this.meterRegistry = meterRegistry;
+    }
+
+    public <V> TwoTierCache<V> create(String name, Class<V> type, TwoTierCacheSpec spec) {
+        TwoTierCache<V> cache = new TwoTierCache<>(
+                name, type, spec, readTemplate, writeTemplate, objectMapper, meterRegistry, this::publish
+        );
+        if (caches.putIfAbsent(name, cache) != null) {
+            throw new IllegalStateException("이미 등록된 캐시 이름입니다: " + name);
+        }
+        return cache;
+    }
+
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        try {
+            CacheInvalidationMessage invalidation = objectMapper.readValue(message.getBody(), CacheInvalidationMessage.class);
+            if (nodeId.equals(invalidation.origin())) {
+                return;
+            }
+            TwoTierCache<?> cache = caches.get(invalidation.cache());
+            if (cache != null) {
+                cache.invalidateLocal(invalidation.key());
+            }
+        } catch (Exception e) {
+            log.warn("캐시 무효화 메시지 처리 실패 : {}", new String(message.getBody(), StandardCharsets.UTF_8), e);
+        }
+    }
+
+    private void publish(String cache, String key) {
+        try {
+            String payload = objectMapper.writeValueAsString(new CacheInvalidationMessage(nodeId, cache, key));
+            writeTemplate.convertAndSend(INVALIDATION_CHANNEL, payload);
+        } catch (Exception e) {
+            // 전파에 실패한 노드의 L1 은 l1Ttl 이후 자연 만료된다.
+            log.warn("캐시 무효화 메시지 발행 실패 : cache={}, key={}", cache, key, e);
+        }
+    }
+}
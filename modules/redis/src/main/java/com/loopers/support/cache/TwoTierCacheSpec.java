@@ -0,0 +1,23 @@
+package com.loopers.support.cache;
+
+import java.time.Duration;
+
+/**
+ * @param maximumSize 노드별 L1 최대 엔트리 수
+ * @param l1Ttl       L1 만료 시간. 무효화 메시지를 놓친 노드가 오래된 값을 들고 있을 수 있는 최대 시간이기도 하다.
+ * @param l2Ttl       Redis(L2) 만료 시간
+ */
+public record TwoTierCacheSpec(
+        long maximumSize,
+        Duration l1Ttl,
+        Duration l2Ttl
+) {
+    public TwoTierCacheSpec {
+        if (maximumSize <= 0) {
+            throw new IllegalArgumentException("maximumSize 는 0보다 커야 합니다.");
+        }
+        if (l1Ttl == null || l2Ttl == null || l1Ttl.compareTo(l2Ttl) > 0) {
+            throw new IllegalArgumentException("l1Ttl 은 l2Ttl 보다 길 수 없습니다.");
+        }
+    }
+}